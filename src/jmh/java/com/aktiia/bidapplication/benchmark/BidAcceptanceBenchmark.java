@@ -0,0 +1,89 @@
+package com.aktiia.bidapplication.benchmark;
+
+import com.aktiia.bidapplication.helper.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The accept/reject decision of a bid followed by a proxy's answer, as {@code BidService} and
+ * {@code ProxyBiddingEngine} make it: the bid must beat the current price, then the rival proxy
+ * answers one increment above it, capped at its maximum. About half of the bids are too low.
+ * <p>
+ * {@code money} works on amounts already in cents, as the engine does between the edges;
+ * {@code moneyConverted} also pays for converting the incoming {@code BigDecimal}s, as a bid
+ * arriving from the API and a price read from the database do once per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidAcceptanceBenchmark {
+
+    private static final int BIDS = 1024;
+    private static final BigDecimal INCREMENT = new BigDecimal("1.00");
+    private static final Money INCREMENT_MONEY = Money.of(INCREMENT);
+
+    private final BigDecimal[] currentPrices = new BigDecimal[BIDS];
+    private final BigDecimal[] amounts = new BigDecimal[BIDS];
+    private final BigDecimal[] rivalMaximums = new BigDecimal[BIDS];
+    private final Money[] currentPricesMoney = new Money[BIDS];
+    private final Money[] amountsMoney = new Money[BIDS];
+    private final Money[] rivalMaximumsMoney = new Money[BIDS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < BIDS; i++) {
+            final long current = 1_000 + random.nextInt(1_000_000);
+            final long amount = current - 5_000 + random.nextInt(10_000);
+            final long rivalMaximum = amount + random.nextInt(20_000);
+            currentPrices[i] = BigDecimal.valueOf(current, 2);
+            amounts[i] = BigDecimal.valueOf(amount, 2);
+            rivalMaximums[i] = BigDecimal.valueOf(rivalMaximum, 2);
+            currentPricesMoney[i] = Money.ofCents(current);
+            amountsMoney[i] = Money.ofCents(amount);
+            rivalMaximumsMoney[i] = Money.ofCents(rivalMaximum);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        final int i = next++ & (BIDS - 1);
+        final BigDecimal amount = amounts[i];
+        if (amount.compareTo(currentPrices[i]) <= 0) {
+            return null;
+        }
+        final BigDecimal rivalPrice = rivalMaximums[i].min(amount.add(INCREMENT));
+        return rivalPrice.compareTo(amount) > 0 ? rivalPrice : amount;
+    }
+
+    @Benchmark
+    public Money money() {
+        final int i = next++ & (BIDS - 1);
+        return decide(amountsMoney[i], currentPricesMoney[i], rivalMaximumsMoney[i]);
+    }
+
+    @Benchmark
+    public Money moneyConverted() {
+        final int i = next++ & (BIDS - 1);
+        return decide(Money.of(amounts[i]), Money.of(currentPrices[i]), Money.of(rivalMaximums[i]));
+    }
+
+    private static Money decide(final Money amount, final Money currentPrice, final Money rivalMaximum) {
+        if (!amount.isGreaterThan(currentPrice)) {
+            return null;
+        }
+        final Money rivalPrice = rivalMaximum.min(amount.plus(INCREMENT_MONEY));
+        return rivalPrice.isGreaterThan(amount) ? rivalPrice : amount;
+    }
+}
@@ -0,0 +1,125 @@
+package com.aktiia.bidapplication.benchmark;
+
+import com.aktiia.bidapplication.helper.InvertedIndex;
+import com.aktiia.bidapplication.helper.SavedSearchMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching one new listing against {@code savedSearches} saved queries, compared with the
+ * linear scan the matcher replaces. Queries are one to three words drawn from a Zipf-like
+ * vocabulary (a few words are very popular), a quarter of them as prefixes, a third with a
+ * price limit. Listings are a title and a description of about forty words from the same
+ * vocabulary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SavedSearchMatcherBenchmark {
+
+    private static final int VOCABULARY_SIZE = 50_000;
+    private static final int LISTINGS = 256;
+
+    @Param({"1000000"})
+    public int savedSearches;
+
+    private SavedSearchMatcher matcher;
+    private List<List<String>> queries;
+    private long[] priceLimits;
+    private List<List<String>> listings;
+    private long[] listingPrices;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        final String[] vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = word(random);
+        }
+
+        matcher = new SavedSearchMatcher();
+        queries = new ArrayList<>(savedSearches);
+        priceLimits = new long[savedSearches];
+        for (int i = 0; i < savedSearches; i++) {
+            final List<String> query = new ArrayList<>(3);
+            for (int words = 1 + random.nextInt(3); words > 0; words--) {
+                final String word = vocabulary[zipf(random)];
+                query.add(random.nextInt(4) == 0 ? word.substring(0, Math.min(word.length(), 3 + random.nextInt(2))) : word);
+            }
+            priceLimits[i] = random.nextInt(3) == 0 ? 1_000 + random.nextInt(1_000_000) : Long.MAX_VALUE;
+            queries.add(query);
+            matcher.add(query, priceLimits[i]);
+        }
+
+        listings = new ArrayList<>(LISTINGS);
+        listingPrices = new long[LISTINGS];
+        for (int i = 0; i < LISTINGS; i++) {
+            final StringBuilder text = new StringBuilder();
+            for (int words = 0; words < 40; words++) {
+                text.append(vocabulary[zipf(random)]).append(' ');
+            }
+            listings.add(InvertedIndex.tokenize(text.toString()));
+            listingPrices[i] = 1_000 + random.nextInt(1_000_000);
+        }
+    }
+
+    @Benchmark
+    public void matcher(final Blackhole blackhole) {
+        final int listing = next++ & (LISTINGS - 1);
+        matcher.match(listings.get(listing), listingPrices[listing], blackhole::consume);
+    }
+
+    @Benchmark
+    public void linearScan(final Blackhole blackhole) {
+        final int listing = next++ & (LISTINGS - 1);
+        final List<String> terms = listings.get(listing);
+        for (int i = 0; i < queries.size(); i++) {
+            if (listingPrices[listing] <= priceLimits[i] && matchesAll(queries.get(i), terms)) {
+                blackhole.consume(i);
+            }
+        }
+    }
+
+    private static boolean matchesAll(final List<String> query, final List<String> terms) {
+        for (final String token : query) {
+            boolean found = false;
+            for (final String term : terms) {
+                if (term.startsWith(token)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int zipf(final Random random) {
+        // Inverse of a power-law CDF: small indexes (popular words) come up far more often
+        return (int) Math.min(VOCABULARY_SIZE - 1, Math.floor(Math.pow(VOCABULARY_SIZE, random.nextDouble())) - 1);
+    }
+
+    private static String word(final Random random) {
+        final char[] letters = new char[4 + random.nextInt(6)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+}
@@ -0,0 +1,103 @@
+package com.aktiia.bidapplication.benchmark;
+
+import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializing an auction status with 100 recent bids in each response format, with mappers
+ * configured the way the application's message converters are. The payload sizes, raw and
+ * gzipped as {@code server.compression} would send them, are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatusSerializationBenchmark {
+
+    private static final int BIDS = 100;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private AuctionStatusResponse status;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Spring Boot's defaults: ISO-8601 dates rather than timestamps
+        final Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper = switch (format) {
+            case "CBOR" -> builder.factory(new CBORFactory()).build();
+            case "SMILE" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        final UUID auctionId = UUID.randomUUID();
+        final LocalDateTime start = LocalDateTime.of(2025, 3, 1, 12, 0);
+        final List<BidResponse> bids = new ArrayList<>(BIDS);
+        for (int i = 0; i < BIDS; i++) {
+            bids.add(BidResponse.builder()
+                    .id(UUID.randomUUID())
+                    .amount(BigDecimal.valueOf(100_000 - i * 250L, 2))
+                    .bidderUsername("bidder" + (i % 37))
+                    .auctionId(auctionId)
+                    .placedAt(start.plusSeconds(3_600 - i * 30L))
+                    .build());
+        }
+        status = AuctionStatusResponse.builder()
+                .auctionId(auctionId)
+                .title("Vintage brass table lamp")
+                .status(AuctionStatus.OPEN)
+                .type(AuctionType.ENGLISH)
+                .quantity(1)
+                .startingPrice(new BigDecimal("100.00"))
+                .currentHighestBid(bids.getFirst().amount())
+                .highestBidderUsername(bids.getFirst().bidderUsername())
+                .endTime(start.plusDays(7))
+                .totalBids(412)
+                .recentBids(bids)
+                .build();
+
+        final byte[] payload = serialize();
+        System.out.printf("%n%s: %d bytes, %d gzipped%n", format, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(status);
+    }
+
+    private static byte[] gzip(final byte[] payload) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,8 +1,10 @@
 package com.aktiia.bidapplication.auth;
 
+import com.aktiia.bidapplication.helper.LogSampler;
 import com.aktiia.bidapplication.model.dto.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,18 +19,23 @@ import java.time.LocalDateTime;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
     private static final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    private final LogSampler logSampler;
+
     @Override
     public void commence(
             HttpServletRequest request,
             HttpServletResponse response,
             AuthenticationException authException
     ) throws IOException {
-        log.warn("Unauthorized access attempt to: {} - {}", request.getRequestURI(), authException.getMessage());
+        if (logSampler.sample("auth.unauthorized")) {
+            log.warn("Unauthorized access attempt to: {} - {}", request.getRequestURI(), authException.getMessage());
+        }
 
         final ErrorResponse errorResponse = ErrorResponse.builder()
                 .status(HttpStatus.UNAUTHORIZED.value())
@@ -1,5 +1,6 @@
 package com.aktiia.bidapplication.auth;
 
+import com.aktiia.bidapplication.helper.LogSampler;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -18,12 +20,15 @@ public class JwtTokenProvider {
 
     private final SecretKey signingKey;
     private final long jwtExpirationMs;
+    private final LogSampler logSampler;
 
     public JwtTokenProvider(@Value("${app.jwt.secret}") final String jwtSecret,
-                            @Value("${app.jwt.expiration-ms}") final long jwtExpirationMs) {
+                            @Value("${app.jwt.expiration-ms}") final long jwtExpirationMs,
+                            final LogSampler logSampler) {
 
         this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
         this.jwtExpirationMs = jwtExpirationMs;
+        this.logSampler = logSampler;
     }
 
     public String generateToken(final Authentication authentication) {
@@ -52,6 +57,19 @@ public class JwtTokenProvider {
                 .getSubject();
     }
 
+    /**
+     * Resolves the subject of a valid token without logging failures, for callers that only
+     * need a best-effort identity (e.g. rate limiting) and leave error reporting to the
+     * authentication filter.
+     */
+    public Optional<String> findUsernameInToken(final String token) {
+        try {
+            return Optional.ofNullable(getUsernameFromToken(token));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
     public boolean validateToken(final String token) {
         try {
             Jwts.parser()
@@ -60,16 +78,23 @@ public class JwtTokenProvider {
                     .parseSignedClaims(token);
             return true;
         } catch (SecurityException ex) {
-            log.error("Invalid JWT signature: {}", ex.getMessage());
+            logInvalidToken("Invalid JWT signature: {}", ex);
         } catch (MalformedJwtException ex) {
-            log.error("Malformed JWT token: {}", ex.getMessage());
+            logInvalidToken("Malformed JWT token: {}", ex);
         } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token: {}", ex.getMessage());
+            logInvalidToken("Expired JWT token: {}", ex);
         } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token: {}", ex.getMessage());
+            logInvalidToken("Unsupported JWT token: {}", ex);
         } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty: {}", ex.getMessage());
+            logInvalidToken("JWT claims string is empty: {}", ex);
         }
         return false;
     }
+
+    private void logInvalidToken(final String message, final Exception ex) {
+        // A client stuck with a stale token hits this on every request, so only a sample is written
+        if (logSampler.sample("jwt.invalid")) {
+            log.warn(message, ex.getMessage());
+        }
+    }
 }
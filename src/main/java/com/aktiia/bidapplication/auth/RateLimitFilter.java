@@ -0,0 +1,173 @@
+package com.aktiia.bidapplication.auth;
+
+import com.aktiia.bidapplication.helper.TokenBucket;
+import com.aktiia.bidapplication.model.dto.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Per-client token-bucket throttling, applied before authentication so that a flood of
+ * requests is turned away before it costs a user lookup or a locked bid transaction.
+ * <p>
+ * Bid placement is limited per authenticated username (taken from the token subject, falling
+ * back to the client IP when there is no valid token) and {@code /api/auth/**} is limited per
+ * client IP. Capacity and refill rate are configured per endpoint class under
+ * {@code app.rate-limit}. Allowed/rejected counts and the number of tracked buckets are
+ * published as {@code ratelimit.requests} and {@code ratelimit.buckets} metrics.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    private static final Pattern BID_PATH = Pattern.compile("^/api/auctions/[^/]+/bids/?$");
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(final JwtTokenProvider jwtTokenProvider,
+                           @Value("${app.rate-limit.enabled:true}") final boolean enabled,
+                           @Value("${app.rate-limit.bid.capacity:10}") final int bidCapacity,
+                           @Value("${app.rate-limit.bid.refill-per-second:5}") final double bidRefillPerSecond,
+                           @Value("${app.rate-limit.auth.capacity:5}") final int authCapacity,
+                           @Value("${app.rate-limit.auth.refill-per-second:0.5}") final double authRefillPerSecond) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        limits.put(EndpointClass.BID, new Limit(EndpointClass.BID, bidCapacity, bidRefillPerSecond));
+        limits.put(EndpointClass.AUTH, new Limit(EndpointClass.AUTH, authCapacity, authRefillPerSecond));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        final EndpointClass endpointClass = classify(request);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final Limit limit = limits.get(endpointClass);
+        final long now = System.nanoTime();
+        final TokenBucket bucket = limit.buckets.computeIfAbsent(resolveClientKey(request, endpointClass),
+                key -> new TokenBucket(limit.capacity, limit.refillPerSecond, now));
+
+        final long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            limit.allowed.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        limit.rejected.increment();
+        reject(response, waitNanos);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !enabled;
+    }
+
+    /**
+     * Drops buckets that have refilled completely; they would behave exactly like a new one.
+     */
+    @Scheduled(fixedRateString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        final long now = System.nanoTime();
+        limits.values().forEach(limit -> limit.buckets.values().removeIf(bucket -> bucket.isFull(now)));
+    }
+
+    private EndpointClass classify(final HttpServletRequest request) {
+        final String path = request.getServletPath();
+        if (path.startsWith(AUTH_PATH_PREFIX)) {
+            return EndpointClass.AUTH;
+        }
+        if (HttpMethod.POST.matches(request.getMethod()) && BID_PATH.matcher(path).matches()) {
+            return EndpointClass.BID;
+        }
+        return null;
+    }
+
+    private String resolveClientKey(final HttpServletRequest request, final EndpointClass endpointClass) {
+        if (endpointClass == EndpointClass.BID) {
+            final String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+                final String username = jwtTokenProvider.findUsernameInToken(bearerToken.substring(BEARER_PREFIX.length()))
+                        .orElse(null);
+                if (username != null) {
+                    return "user:" + username;
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(final HttpServletResponse response, final long waitNanos) throws IOException {
+        final long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+        final ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Too many requests, retry in " + retryAfterSeconds + " second(s)")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private enum EndpointClass {
+        BID,
+        AUTH
+    }
+
+    private static final class Limit {
+        private final int capacity;
+        private final double refillPerSecond;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private Limit(final EndpointClass endpointClass, final int capacity, final double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+
+            final String endpoint = endpointClass.name().toLowerCase();
+            this.allowed = Metrics.counter("ratelimit.requests", "endpoint", endpoint, "outcome", "allowed");
+            this.rejected = Metrics.counter("ratelimit.requests", "endpoint", endpoint, "outcome", "rejected");
+            Metrics.gauge("ratelimit.buckets", Tags.of("endpoint", endpoint), buckets, Map::size);
+        }
+    }
+}
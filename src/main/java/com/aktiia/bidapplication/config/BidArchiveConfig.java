@@ -0,0 +1,42 @@
+package com.aktiia.bidapplication.config;
+
+import com.aktiia.bidapplication.job.BidArchiver;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link BidArchiver} with Quartz, but only when {@code app.bid-archive.directory}
+ * is set: without shared storage for the segments, bids stay in the bid table.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.bid-archive", name = "directory")
+public class BidArchiveConfig {
+
+    @Bean
+    public JobDetail bidArchiverJobDetail() {
+        return JobBuilder.newJob(BidArchiver.class)
+                .withIdentity("bidArchiver", "maintenance")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger bidArchiverTrigger(final JobDetail bidArchiverJobDetail,
+                                      @Value("${app.bid-archive.interval-ms:3600000}") final long intervalMs) {
+        return TriggerBuilder.newTrigger()
+                .withIdentity("bidArchiverTrigger", "maintenance")
+                .forJob(bidArchiverJobDetail)
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(intervalMs)
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.aktiia.bidapplication.config;
+
+import com.aktiia.bidapplication.helper.H2ReplicaSimulator;
+import com.aktiia.bidapplication.helper.ReadYourWritesFilter;
+import com.aktiia.bidapplication.helper.ReplicaAwareJpaDialect;
+import com.aktiia.bidapplication.helper.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Read replica, enabled by setting {@code app.datasource.replica.url}.
+ * <p>
+ * The primary pool is still configured under {@code spring.datasource}, the replica pool under
+ * {@code app.datasource.replica}. The application's {@link DataSource} routes read-only
+ * transactions of {@code GET} requests to the replica and everything else to the primary; see
+ * {@link ReadYourWritesFilter} for how a client keeps reading its own writes. Setting
+ * {@code app.datasource.replica.simulated-lag-ms} as well fills the replica from the primary
+ * with that delay, for trying this out with two local H2 databases.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${app.datasource.replica.url}") final String url,
+                                              @Value("${app.datasource.replica.username:}") final String username,
+                                              @Value("${app.datasource.replica.password:}") final String password) {
+        final HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primary,
+                                 @Qualifier("replicaDataSource") final DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialect() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replica.max-lag-ms:5000}") final long maxLagMillis) {
+        // Ahead of Spring Security, whose JWT filter already loads the user
+        final FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(maxLagMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "simulated-lag-ms")
+    public H2ReplicaSimulator h2ReplicaSimulator(@Qualifier("primaryDataSource") final DataSource primary,
+                                                 @Qualifier("replicaDataSource") final DataSource replica) {
+        return new H2ReplicaSimulator(primary, replica);
+    }
+}
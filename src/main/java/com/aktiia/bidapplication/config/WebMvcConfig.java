@@ -0,0 +1,19 @@
+package com.aktiia.bidapplication.config;
+
+import com.aktiia.bidapplication.controller.ClosedAuctionCacheAdvice;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ClosedAuctionCacheAdvice closedAuctionCacheAdvice;
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(closedAuctionCacheAdvice);
+    }
+}
@@ -1,9 +1,18 @@
 package com.aktiia.bidapplication.controller;
 
 import com.aktiia.bidapplication.model.dto.request.AuctionRequest;
+import com.aktiia.bidapplication.model.dto.request.AuctionStatusBatchRequest;
 import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
+import com.aktiia.bidapplication.model.dto.response.AuctionSearchResponse;
 import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import com.aktiia.bidapplication.model.dto.response.BrowsePageResponse;
+import com.aktiia.bidapplication.model.dto.response.ChangeFeedResponse;
+import com.aktiia.bidapplication.service.AuctionBrowseService;
+import com.aktiia.bidapplication.service.AuctionChangeFeedService;
+import com.aktiia.bidapplication.service.AuctionReadService;
+import com.aktiia.bidapplication.service.AuctionSearchService;
 import com.aktiia.bidapplication.service.AuctionService;
+import com.aktiia.bidapplication.service.ClosedAuctionCache.View;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +23,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -24,6 +35,10 @@ import java.util.UUID;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final AuctionReadService auctionReadService;
+    private final AuctionSearchService auctionSearchService;
+    private final AuctionBrowseService auctionBrowseService;
+    private final AuctionChangeFeedService auctionChangeFeedService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -43,24 +58,73 @@ public class AuctionController {
     }
 
     @GetMapping("/{id}")
+    @ClosedAuctionView(View.AUCTION)
     public ResponseEntity<AuctionResponse> getAuction(@PathVariable final UUID id) {
-        final AuctionResponse response = auctionService.getAuction(id);
+        final AuctionResponse response = auctionReadService.getAuction(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<AuctionResponse>> getAllAuctions(
-            @RequestParam(required = false, defaultValue = "false") final boolean openOnly) {
+    public ResponseEntity<List<?>> getAllAuctions(
+            @RequestParam(required = false, defaultValue = "false") final boolean openOnly,
+            @RequestParam(required = false) final String fields) {
 
+        if (fields != null) {
+            return ResponseEntity.ok(auctionService.getAuctionFields(fields, openOnly));
+        }
         final List<AuctionResponse> response = openOnly
                 ? auctionService.getOpenAuctions()
                 : auctionService.getAllAuctions();
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<AuctionSearchResponse>> searchAuctions(
+            @RequestParam final String q,
+            @RequestParam(required = false, defaultValue = "false") final boolean openOnly,
+            @RequestParam(required = false, defaultValue = "20") final int limit) {
+
+        return ResponseEntity.ok(auctionSearchService.search(q, openOnly, limit));
+    }
+
+    @GetMapping("/ending-soon")
+    public ResponseEntity<BrowsePageResponse> getEndingSoon(
+            @RequestParam(required = false, defaultValue = "0") final int page,
+            @RequestParam(required = false, defaultValue = "20") final int size) {
+
+        return ResponseEntity.ok(auctionBrowseService.getEndingSoon(page, size));
+    }
+
+    @GetMapping("/price-range")
+    public ResponseEntity<BrowsePageResponse> getPricedBetween(
+            @RequestParam final BigDecimal min,
+            @RequestParam final BigDecimal max,
+            @RequestParam(required = false, defaultValue = "0") final int page,
+            @RequestParam(required = false, defaultValue = "20") final int size) {
+
+        return ResponseEntity.ok(auctionBrowseService.getPricedBetween(min, max, page, size));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(required = false) final String since,
+            @RequestParam(required = false, defaultValue = "500") final int limit) {
+
+        return ResponseEntity.ok(auctionChangeFeedService.getChanges(since, limit));
+    }
+
     @GetMapping("/{id}/status")
+    @ClosedAuctionView(View.STATUS)
     public ResponseEntity<AuctionStatusResponse> getAuctionStatus(@PathVariable final UUID id) {
-        final AuctionStatusResponse response = auctionService.getAuctionStatus(id);
+        final AuctionStatusResponse response = auctionReadService.getAuctionStatus(id);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/status:batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<Map<UUID, AuctionStatusResponse>> getAuctionStatuses(
+            @Valid @RequestBody final AuctionStatusBatchRequest request) {
+
+        return ResponseEntity.ok(auctionService.getAuctionStatuses(request.getIds()));
+    }
 }
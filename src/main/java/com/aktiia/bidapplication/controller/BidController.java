@@ -2,7 +2,10 @@ package com.aktiia.bidapplication.controller;
 
 import com.aktiia.bidapplication.model.dto.request.BidRequest;
 import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.dto.response.BidStandingResponse;
 import com.aktiia.bidapplication.service.BidService;
+import com.aktiia.bidapplication.service.ClosedAuctionCache.View;
+import com.aktiia.bidapplication.service.IdempotencyService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,21 +25,43 @@ import java.util.UUID;
 @Tag(name = "Bids", description = "Bid placement and retrieval endpoints")
 public class BidController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final BidService bidService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     public ResponseEntity<BidResponse> placeBid(@PathVariable final UUID auctionId,
                                                 @Valid @RequestBody final BidRequest request,
+                                                @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                final String idempotencyKey,
                                                 @AuthenticationPrincipal final UserDetails userDetails) {
 
-        final BidResponse response = bidService.placeBid(auctionId, request, userDetails.getUsername());
+        final String username = userDetails.getUsername();
+        final BidResponse response = idempotencyKey == null
+                ? bidService.placeBid(auctionId, request, username)
+                : idempotencyService.placeBidOnce(auctionId, username, idempotencyKey, request,
+                        () -> bidService.placeBid(auctionId, request, username));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<BidResponse>> getBidsForAuction(@PathVariable final UUID auctionId) {
+    @ClosedAuctionView(value = View.BIDS, auctionId = "auctionId")
+    public ResponseEntity<List<?>> getBidsForAuction(@PathVariable final UUID auctionId,
+                                                     @RequestParam(required = false) final String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(bidService.getBidFieldsForAuction(auctionId, fields));
+        }
         final List<BidResponse> response = bidService.getBidsForAuction(auctionId);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/standing")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<BidStandingResponse> getStanding(@PathVariable final UUID auctionId,
+                                                           @AuthenticationPrincipal final UserDetails userDetails) {
+        final BidStandingResponse response = bidService.getStanding(auctionId, userDetails.getUsername());
+        return ResponseEntity.ok(response);
+    }
 }
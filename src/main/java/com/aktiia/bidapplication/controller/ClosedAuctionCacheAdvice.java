@@ -0,0 +1,156 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.service.ClosedAuctionCache;
+import com.aktiia.bidapplication.service.ClosedAuctionCache.Entry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves {@link ClosedAuctionView} handlers from the {@link ClosedAuctionCache}.
+ * <p>
+ * As an interceptor it answers a cached view before the handler runs. As body advice it keeps a
+ * view the handler returned once the view says its auction is closed, and writes the bytes it
+ * just cached, so the first and every later answer carry the same body, ETag and
+ * {@code Cache-Control}. Both sides only serve JSON; CBOR and Smile clients, and requests with
+ * query parameters such as {@code fields}, always go the normal way. Cached answers carry
+ * {@code Vary: Accept}, so a shared cache does not hand the JSON to a CBOR or Smile client.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ClosedAuctionCacheAdvice implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic();
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ClosedAuctionCache closedAuctionCache;
+
+    @Override
+    public boolean preHandle(@NonNull final HttpServletRequest request,
+                             @NonNull final HttpServletResponse response,
+                             @NonNull final Object handler) throws IOException {
+
+        if (!(handler instanceof HandlerMethod method) || request.getQueryString() != null || !acceptsJson(request)) {
+            return true;
+        }
+        final ClosedAuctionView view = method.getMethodAnnotation(ClosedAuctionView.class);
+        if (view == null) {
+            return true;
+        }
+        final Optional<Entry> entry = auctionId(request, view).flatMap(id -> closedAuctionCache.get(id, view.value()));
+        if (entry.isEmpty()) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (new ServletWebRequest(request, response).checkNotModified(entry.get().etag())) {
+            return false;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(entry.get().body().length);
+        response.getOutputStream().write(entry.get().body());
+        return false;
+    }
+
+    @Override
+    public boolean supports(@NonNull final MethodParameter returnType,
+                            @NonNull final Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ClosedAuctionView.class)
+                && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body,
+                                  @NonNull final MethodParameter returnType,
+                                  @NonNull final MediaType selectedContentType,
+                                  @NonNull final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull final ServerHttpRequest request,
+                                  @NonNull final ServerHttpResponse response) {
+
+        final ClosedAuctionView view = returnType.getMethodAnnotation(ClosedAuctionView.class);
+        if (view == null || !view.value().isClosed(body)
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || servletRequest.getServletRequest().getQueryString() != null) {
+            return body;
+        }
+        final Optional<Entry> entry = auctionId(servletRequest.getServletRequest(), view)
+                .flatMap(id -> closedAuctionCache.put(id, view.value(), body));
+        if (entry.isEmpty()) {
+            return body;
+        }
+
+        response.getHeaders().setETag("\"" + entry.get().etag() + "\"");
+        response.getHeaders().setCacheControl(CACHE_CONTROL);
+        response.getHeaders().setVary(List.of(HttpHeaders.ACCEPT));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(entry.get().body().length);
+        try {
+            response.getBody().write(entry.get().body());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // The bytes are written; a null body tells the converter there is nothing left to write
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<UUID> auctionId(final HttpServletRequest request, final ClosedAuctionView view) {
+        final Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(view.auctionId()) == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(variables.get(view.auctionId())));
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean acceptsJson(final HttpServletRequest request) {
+        final List<MediaType> accept;
+        try {
+            accept = MediaType.parseMediaTypes(Collections.list(request.getHeaders(HttpHeaders.ACCEPT)));
+        } catch (final InvalidMediaTypeException e) {
+            return false;
+        }
+        if (accept.isEmpty()) {
+            return true;
+        }
+        boolean json = false;
+        for (final MediaType type : accept) {
+            if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR) || type.equalsTypeAndSubtype(SMILE)) {
+                return false;
+            }
+            json |= type.isCompatibleWith(MediaType.APPLICATION_JSON);
+        }
+        return json;
+    }
+}
@@ -0,0 +1,24 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.service.ClosedAuctionCache.View;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler whose response, once its auction has closed, is served from the
+ * {@link com.aktiia.bidapplication.service.ClosedAuctionCache} by {@link ClosedAuctionCacheAdvice}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClosedAuctionView {
+
+    View value();
+
+    /**
+     * Name of the path variable holding the auction id.
+     */
+    String auctionId() default "id";
+}
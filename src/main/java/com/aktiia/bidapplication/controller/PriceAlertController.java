@@ -0,0 +1,46 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.model.dto.request.PriceAlertRequest;
+import com.aktiia.bidapplication.model.dto.response.PriceAlertResponse;
+import com.aktiia.bidapplication.service.PriceAlertService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+@Tag(name = "Price alerts", description = "Notifications when an auction or a search crosses a price")
+public class PriceAlertController {
+
+    private final PriceAlertService priceAlertService;
+
+    @PostMapping
+    public ResponseEntity<PriceAlertResponse> createAlert(@Valid @RequestBody final PriceAlertRequest request,
+                                                          @AuthenticationPrincipal final UserDetails userDetails) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(priceAlertService.createAlert(request, userDetails.getUsername()));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<PriceAlertResponse>> getAlerts(@AuthenticationPrincipal final UserDetails userDetails) {
+        return ResponseEntity.ok(priceAlertService.getAlerts(userDetails.getUsername()));
+    }
+
+    @DeleteMapping("/{alertId}")
+    public ResponseEntity<Void> deleteAlert(@PathVariable final UUID alertId,
+                                            @AuthenticationPrincipal final UserDetails userDetails) {
+        priceAlertService.deleteAlert(alertId, userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+}
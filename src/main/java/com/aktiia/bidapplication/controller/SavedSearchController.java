@@ -0,0 +1,46 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.model.dto.request.SavedSearchRequest;
+import com.aktiia.bidapplication.model.dto.response.SavedSearchResponse;
+import com.aktiia.bidapplication.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+@Tag(name = "Saved searches", description = "Notifications for newly listed auctions matching a query")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @PostMapping
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(@Valid @RequestBody final SavedSearchRequest request,
+                                                                 @AuthenticationPrincipal final UserDetails userDetails) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(savedSearchService.createSavedSearch(request, userDetails.getUsername()));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponse>> getSavedSearches(@AuthenticationPrincipal final UserDetails userDetails) {
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(userDetails.getUsername()));
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable final UUID savedSearchId,
+                                                  @AuthenticationPrincipal final UserDetails userDetails) {
+        savedSearchService.deleteSavedSearch(savedSearchId, userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.model.dto.response.WatchlistEntryResponse;
+import com.aktiia.bidapplication.service.WatchlistService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/watchlist")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+@Tag(name = "Watchlist", description = "Watched auctions and their live price/status changes")
+public class WatchlistController {
+
+    private final WatchlistService watchlistService;
+
+    @GetMapping
+    public ResponseEntity<List<WatchlistEntryResponse>> getWatchlist(@AuthenticationPrincipal final UserDetails userDetails) {
+        return ResponseEntity.ok(watchlistService.getWatchlist(userDetails.getUsername()));
+    }
+
+    @PutMapping("/{auctionId}")
+    public ResponseEntity<Void> watch(@PathVariable final UUID auctionId,
+                                      @AuthenticationPrincipal final UserDetails userDetails) {
+        watchlistService.watch(auctionId, userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{auctionId}")
+    public ResponseEntity<Void> unwatch(@PathVariable final UUID auctionId,
+                                        @AuthenticationPrincipal final UserDetails userDetails) {
+        watchlistService.unwatch(auctionId, userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal final UserDetails userDetails) {
+        return watchlistService.subscribe(userDetails.getUsername());
+    }
+}
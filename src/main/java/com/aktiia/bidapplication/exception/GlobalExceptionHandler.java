@@ -1,6 +1,8 @@
 package com.aktiia.bidapplication.exception;
 
+import com.aktiia.bidapplication.helper.LogSampler;
 import com.aktiia.bidapplication.model.dto.response.ErrorResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,8 +10,10 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -17,8 +21,11 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final LogSampler logSampler;
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFound(final ResourceNotFoundException ex) {
         log.warn("Resource not found: {}", ex.getMessage());
@@ -33,16 +40,26 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(AuctionClosedException.class)
     public ResponseEntity<ErrorResponse> handleAuctionClosed(final AuctionClosedException ex) {
-        log.warn("Auction closed: {}", ex.getMessage());
+        if (logSampler.sample("error.auction-closed")) {
+            log.warn("Auction closed: {}", ex.getMessage());
+        }
         return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
     }
 
     @ExceptionHandler(BidTooLowException.class)
     public ResponseEntity<ErrorResponse> handleBidTooLow(final BidTooLowException ex) {
-        log.warn("Bid too low: {}", ex.getMessage());
+        if (logSampler.sample("error.bid-too-low")) {
+            log.warn("Bid too low: {}", ex.getMessage());
+        }
         return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(final IdempotencyKeyReusedException ex) {
+        log.warn("Idempotency key reused: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage());
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentials(final BadCredentialsException ex) {
         log.warn("Authentication failed: {}", ex.getMessage());
@@ -74,6 +91,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidParameter(final Exception ex) {
+        log.warn("Invalid request parameter: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(final Exception ex) {
         log.error("Unexpected error occurred", ex);
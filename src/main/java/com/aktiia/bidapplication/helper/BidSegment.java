@@ -0,0 +1,177 @@
+package com.aktiia.bidapplication.helper;
+
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed, columnar encoding of the bids of one auction, as kept in the bid archive.
+ * <p>
+ * Bids are written highest amount first (earliest first on ties), the order every bid listing
+ * uses. Each field is stored as its own column so similar values sit together: bidders as
+ * indexes into a dictionary of usernames, amounts in cents and placement times in microseconds,
+ * both as variable-length deltas from the previous bid. The columns are gzipped, which also
+ * checksums them. A segment decodes back to exactly what the bid table answered, since amounts
+ * have two decimals and timestamps microsecond precision there.
+ */
+public final class BidSegment {
+
+    private static final int MAGIC = 0x42534547; // "BSEG"
+    private static final int VERSION = 1;
+
+    private static final Comparator<BidResponse> ORDER = Comparator.comparing(BidResponse::amount).reversed()
+            .thenComparing(BidResponse::placedAt);
+
+    private BidSegment() {
+    }
+
+    /**
+     * Writes {@code bids} to {@code out}, which is left open.
+     */
+    public static void write(final List<BidResponse> bids, final OutputStream out) throws IOException {
+        final List<BidResponse> sorted = bids.stream().sorted(ORDER).toList();
+
+        final Map<String, Integer> dictionary = new HashMap<>();
+        final List<String> usernames = new ArrayList<>();
+        for (final BidResponse bid : sorted) {
+            dictionary.computeIfAbsent(bid.bidderUsername(), username -> {
+                usernames.add(username);
+                return usernames.size() - 1;
+            });
+        }
+
+        final GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+        final DataOutputStream data = new DataOutputStream(gzip);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        writeVarLong(data, sorted.size());
+
+        writeVarLong(data, usernames.size());
+        for (final String username : usernames) {
+            data.writeUTF(username);
+        }
+        for (final BidResponse bid : sorted) {
+            writeVarLong(data, dictionary.get(bid.bidderUsername()));
+        }
+        for (final BidResponse bid : sorted) {
+            data.writeLong(bid.id().getMostSignificantBits());
+            data.writeLong(bid.id().getLeastSignificantBits());
+        }
+        long previous = 0;
+        for (final BidResponse bid : sorted) {
+            final long cents = Money.of(bid.amount()).cents();
+            writeVarLong(data, zigZag(cents - previous));
+            previous = cents;
+        }
+        previous = 0;
+        for (final BidResponse bid : sorted) {
+            final long micros = toMicros(bid.placedAt());
+            writeVarLong(data, zigZag(micros - previous));
+            previous = micros;
+        }
+
+        data.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Reads the bids of {@code auctionId} back from {@code in}, which is left open.
+     */
+    public static List<BidResponse> read(final UUID auctionId, final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(new GZIPInputStream(in, 8192));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a bid segment");
+        }
+        final int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported bid segment version " + version);
+        }
+        final int count = Math.toIntExact(readVarLong(data));
+
+        final String[] usernames = new String[Math.toIntExact(readVarLong(data))];
+        for (int i = 0; i < usernames.length; i++) {
+            usernames[i] = data.readUTF();
+        }
+        final String[] bidders = new String[count];
+        for (int i = 0; i < count; i++) {
+            bidders[i] = usernames[Math.toIntExact(readVarLong(data))];
+        }
+        final UUID[] ids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = new UUID(data.readLong(), data.readLong());
+        }
+        final long[] cents = new long[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readVarLong(data));
+            cents[i] = previous;
+        }
+
+        final List<BidResponse> bids = new ArrayList<>(count);
+        previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readVarLong(data));
+            bids.add(BidResponse.builder()
+                    .id(ids[i])
+                    .amount(Money.ofCents(cents[i]).toBigDecimal())
+                    .bidderUsername(bidders[i])
+                    .auctionId(auctionId)
+                    .placedAt(fromMicros(previous))
+                    .build());
+        }
+        return bids;
+    }
+
+    private static long toMicros(final LocalDateTime time) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+    }
+
+    private static LocalDateTime fromMicros(final long micros) {
+        final int nanos = Math.floorMod(micros, 1_000_000) * 1_000;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000), nanos, ZoneOffset.UTC);
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(final DataOutputStream data, final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            data.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        data.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(final DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed bid segment");
+    }
+}
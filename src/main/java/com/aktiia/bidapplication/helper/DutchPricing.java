@@ -0,0 +1,39 @@
+package com.aktiia.bidapplication.helper;
+
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Price of a Dutch (descending-price) auction, derived on read from the start price, the
+ * decrement schedule and the elapsed time. Nothing is written while the price drops.
+ */
+public final class DutchPricing {
+
+    private DutchPricing() {
+    }
+
+    public static BigDecimal priceAt(final Auction auction, final LocalDateTime now) {
+        final long elapsedSeconds = Math.max(0, Duration.between(auction.getCreatedAt(), now).getSeconds());
+        final long steps = elapsedSeconds / auction.getDecrementIntervalSeconds();
+
+        final BigDecimal price = auction.getStartingPrice()
+                .subtract(auction.getPriceDecrement().multiply(BigDecimal.valueOf(steps)));
+        return price.max(auction.getFloorPrice());
+    }
+
+    /**
+     * Price to show to clients: the live price while a Dutch auction is open, the stored
+     * highest bid (or sale price) otherwise.
+     */
+    public static BigDecimal displayPrice(final Auction auction, final LocalDateTime now) {
+        if (auction.getType() == AuctionType.DUTCH && auction.getStatus() == AuctionStatus.OPEN) {
+            return priceAt(auction, now);
+        }
+        return auction.getCurrentHighestBid();
+    }
+}
@@ -0,0 +1,119 @@
+package com.aktiia.bidapplication.helper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stands in for replication between two local H2 databases.
+ * <p>
+ * Once the application is up, the primary's schema is created on the replica, and then every
+ * {@code app.datasource.replica.simulated-lag-ms} the replica's rows are replaced by a snapshot
+ * of the primary's, in one transaction so readers see either copy whole. The replica therefore
+ * trails the primary by up to the configured lag, like a real one. Quartz tables are left out,
+ * the scheduler only ever uses the primary.
+ */
+@Slf4j
+public class H2ReplicaSimulator {
+
+    private static final String QUARTZ_TABLE_PREFIX = "QRTZ_";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private List<String> tables;
+
+    public H2ReplicaSimulator(final DataSource primary, final DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.datasource.replica.simulated-lag-ms}",
+            fixedDelayString = "${app.datasource.replica.simulated-lag-ms}")
+    public synchronized void replicate() {
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            if (tables == null) {
+                tables = createSchema(source, target);
+            }
+            copyRows(source, target);
+        } catch (final SQLException e) {
+            log.warn("Replica copy failed", e);
+        }
+    }
+
+    private static List<String> createSchema(final Connection source, final Connection target) throws SQLException {
+        try (Statement read = source.createStatement(); Statement write = target.createStatement()) {
+            write.execute("DROP ALL OBJECTS");
+            try (ResultSet script = read.executeQuery("SCRIPT NODATA NOSETTINGS")) {
+                while (script.next()) {
+                    if (!script.getString(1).startsWith("--")) {
+                        write.execute(script.getString(1));
+                    }
+                }
+            }
+            // The replica is only written by this copy, which does not order rows by foreign key
+            write.execute("SET REFERENTIAL_INTEGRITY FALSE");
+
+            final List<String> tables = new ArrayList<>();
+            try (ResultSet names = read.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                    + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+                while (names.next()) {
+                    if (!names.getString(1).startsWith(QUARTZ_TABLE_PREFIX)) {
+                        tables.add(names.getString(1));
+                    }
+                }
+            }
+            log.info("Simulated replica created with {} table(s)", tables.size());
+            return tables;
+        }
+    }
+
+    private void copyRows(final Connection source, final Connection target) throws SQLException {
+        // One snapshot of the primary across all tables
+        source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        source.setAutoCommit(false);
+        target.setAutoCommit(false);
+        try {
+            for (final String table : tables) {
+                copyTable(source, target, '"' + table + '"');
+            }
+            target.commit();
+        } catch (final SQLException e) {
+            target.rollback();
+            throw e;
+        } finally {
+            source.rollback();
+        }
+    }
+
+    private static void copyTable(final Connection source, final Connection target, final String table) throws SQLException {
+        try (Statement read = source.createStatement();
+             Statement delete = target.createStatement();
+             ResultSet rows = read.executeQuery("SELECT * FROM " + table)) {
+
+            delete.executeUpdate("DELETE FROM " + table);
+            final int columns = rows.getMetaData().getColumnCount();
+            final String insert = "INSERT INTO " + table + " VALUES (" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+            try (PreparedStatement write = target.prepareStatement(insert)) {
+                while (rows.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        write.setObject(column, rows.getObject(column));
+                    }
+                    write.addBatch();
+                }
+                write.executeBatch();
+            }
+        }
+    }
+}
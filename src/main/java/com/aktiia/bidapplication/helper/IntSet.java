@@ -0,0 +1,147 @@
+package com.aktiia.bidapplication.helper;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of positive {@code int}s in a single open-addressing array: no boxing and no per-element
+ * node, so a set of 100k ids takes well under a megabyte. Uses linear probing with backward-shift
+ * deletion, which keeps lookups short without tombstones. Not thread-safe.
+ */
+public final class IntSet {
+
+    private static final int EMPTY = 0;
+
+    private int[] slots = new int[8];
+    private int size;
+
+    /**
+     * @return {@code true} if the value was not already present
+     */
+    public boolean add(final int value) {
+        requirePositive(value);
+        if ((size + 1) * 4 > slots.length * 3) {
+            resize(slots.length * 2);
+        }
+
+        final int mask = slots.length - 1;
+        int index = home(value, mask);
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        return true;
+    }
+
+    public boolean contains(final int value) {
+        return value > 0 && indexOf(value) >= 0;
+    }
+
+    /**
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(final int value) {
+        final int index = value > 0 ? indexOf(value) : -1;
+        if (index < 0) {
+            return false;
+        }
+
+        // Shift later members of the probe run back into the hole, so no lookup stops early
+        final int mask = slots.length - 1;
+        int hole = index;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (slots[next] == EMPTY) {
+                break;
+            }
+            final int home = home(slots[next], mask);
+            final boolean movable = hole < next
+                    ? home <= hole || home > next
+                    : home <= hole && home > next;
+            if (movable) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+        }
+        slots[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a copy of the members, in no particular order
+     */
+    public int[] toArray() {
+        final int[] values = new int[size];
+        int count = 0;
+        for (final int slot : slots) {
+            if (slot != EMPTY) {
+                values[count++] = slot;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Visits every member, in no particular order, without copying the set.
+     */
+    public void forEach(final IntConsumer action) {
+        for (final int slot : slots) {
+            if (slot != EMPTY) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    private int indexOf(final int value) {
+        final int mask = slots.length - 1;
+        int index = home(value, mask);
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(final int capacity) {
+        final int[] previous = slots;
+        slots = new int[capacity];
+        size = 0;
+        for (final int value : previous) {
+            if (value != EMPTY) {
+                add(value);
+            }
+        }
+    }
+
+    private static int home(final int value, final int mask) {
+        final int hash = value * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static void requirePositive(final int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Only positive values can be stored: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,223 @@
+package com.aktiia.bidapplication.helper;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over a title and a description.
+ * <p>
+ * Text is folded to lower-case ASCII-ish tokens (accents stripped, split on anything that is
+ * not a letter or digit). Each term maps to its postings: the documents containing it and a
+ * weight, where a title occurrence counts three times a description occurrence and the weight
+ * saturates ({@code w / (w + 1.2)}) so repeating a word does not buy rank. Terms live in a
+ * sorted dictionary, so a query token of two or more characters also matches every term it
+ * prefixes ("vint" finds "vintage") with a discount against an exact match. All query tokens
+ * must match; the score is the sum of each token's best {@code weight * idf}.
+ * <p>
+ * Documents are identified by {@link UUID} outside and by a dense {@code int} inside. Reads
+ * share a lock and writes take it exclusively; the tokenizing part of {@link #putAll} runs
+ * before the lock is taken and in parallel.
+ */
+public final class InvertedIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float SATURATION = 1.2f;
+    private static final float PREFIX_FACTOR = 0.6f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_QUERY_TOKENS = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Integer, Float>> postings = new TreeMap<>();
+    private final Map<UUID, Integer> docIndexes = new HashMap<>();
+    private final List<UUID> docIds = new ArrayList<>();
+    private final Map<Integer, String[]> docTerms = new HashMap<>();
+
+    public void put(final UUID id, final String title, final String description) {
+        final Document document = new Document(id, title, description);
+        final Map<String, Float> weights = weigh(document);
+        lock.writeLock().lock();
+        try {
+            insert(id, weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putAll(final Collection<Document> documents) {
+        final List<Map.Entry<UUID, Map<String, Float>>> weighed = documents.parallelStream()
+                .map(document -> Map.entry(document.id(), weigh(document)))
+                .toList();
+        lock.writeLock().lock();
+        try {
+            weighed.forEach(entry -> insert(entry.getKey(), entry.getValue()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final UUID id) {
+        lock.writeLock().lock();
+        try {
+            final Integer doc = docIndexes.get(id);
+            if (doc != null) {
+                unlink(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param filter applied to every matching document before ranking, not after the limit
+     * @return at most {@code limit} hits, best first; empty when the query has no tokens
+     */
+    public List<Hit> search(final String query, final int limit, final Predicate<UUID> filter) {
+        final List<String> tokens = tokenize(query).stream().distinct().limit(MAX_QUERY_TOKENS).toList();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        final Comparator<Hit> bestFirst = Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::id);
+        final PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, bestFirst.reversed());
+        lock.readLock().lock();
+        try {
+            score(tokens).forEach((doc, score) -> {
+                final UUID id = docIds.get(doc);
+                if (filter.test(id)) {
+                    top.add(new Hit(id, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        final List<Hit> hits = new ArrayList<>(top);
+        hits.sort(bestFirst);
+        return hits;
+    }
+
+    /**
+     * Lower-cased, accent-stripped words of {@code text}, in order.
+     */
+    public static List<String> tokenize(final String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        final String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        final List<String> tokens = new ArrayList<>();
+        for (final String token : NON_WORD.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private Map<Integer, Float> score(final List<String> tokens) {
+        final float documentCount = docTerms.size();
+        Map<Integer, Float> scores = null;
+
+        for (final String token : tokens) {
+            final Map<String, Map<Integer, Float>> matches = token.length() >= MIN_PREFIX_LENGTH
+                    ? postings.subMap(token, true, token + Character.MAX_VALUE, false)
+                    : exact(token);
+            final Map<Integer, Float> previous = scores;
+            final Map<Integer, Float> tokenScores = new HashMap<>();
+
+            for (final Map.Entry<String, Map<Integer, Float>> match : matches.entrySet()) {
+                final Map<Integer, Float> docs = match.getValue();
+                final float idf = (float) Math.log(1 + documentCount / docs.size());
+                final float factor = match.getKey().length() == token.length() ? 1f : PREFIX_FACTOR;
+                docs.forEach((doc, weight) -> {
+                    if (previous == null || previous.containsKey(doc)) {
+                        tokenScores.merge(doc, weight * idf * factor, Math::max);
+                    }
+                });
+            }
+
+            if (previous != null) {
+                tokenScores.replaceAll((doc, score) -> score + previous.get(doc));
+            }
+            scores = tokenScores;
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private Map<String, Map<Integer, Float>> exact(final String token) {
+        final Map<Integer, Float> docs = postings.get(token);
+        return docs != null ? Map.of(token, docs) : Map.of();
+    }
+
+    private void insert(final UUID id, final Map<String, Float> weights) {
+        final int doc = docIndexes.computeIfAbsent(id, key -> {
+            docIds.add(key);
+            return docIds.size() - 1;
+        });
+        unlink(doc);
+
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(doc, weight));
+        docTerms.put(doc, weights.keySet().toArray(String[]::new));
+    }
+
+    private void unlink(final int doc) {
+        final String[] terms = docTerms.remove(doc);
+        if (terms == null) {
+            return;
+        }
+        for (final String term : terms) {
+            final Map<Integer, Float> docs = postings.get(term);
+            docs.remove(doc);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static Map<String, Float> weigh(final Document document) {
+        final Map<String, Float> counts = new LinkedHashMap<>();
+        tokenize(document.title()).forEach(term -> counts.merge(term, TITLE_WEIGHT, Float::sum));
+        tokenize(document.description()).forEach(term -> counts.merge(term, 1f, Float::sum));
+        counts.replaceAll((term, count) -> count / (count + SATURATION));
+        return counts;
+    }
+
+    public record Document(UUID id, String title, String description) {
+    }
+
+    public record Hit(UUID id, double score) {
+    }
+}
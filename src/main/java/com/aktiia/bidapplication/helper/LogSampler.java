@@ -0,0 +1,62 @@
+package com.aktiia.bidapplication.helper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the logging cost of events that can repeat thousands of times per second
+ * (rejected bids, invalid tokens, automatic closes).
+ * <p>
+ * Callers guard their log statement with {@link #sample(String)}. Only the first
+ * {@code maxPerWindow} occurrences of an event are let through in each window, the rest are
+ * counted, and a single summary line per event is written when the window is flushed.
+ */
+@Slf4j
+@Component
+public class LogSampler {
+
+    private final int maxPerWindow;
+    private final long windowMs;
+    private final Map<String, EventWindow> windows = new ConcurrentHashMap<>();
+
+    public LogSampler(@Value("${app.logging.sampling.max-per-window:20}") final int maxPerWindow,
+                      @Value("${app.logging.sampling.window-ms:60000}") final long windowMs) {
+        this.maxPerWindow = maxPerWindow;
+        this.windowMs = windowMs;
+    }
+
+    /**
+     * Records one occurrence of the event and tells whether it should be logged.
+     */
+    public boolean sample(final String event) {
+        final EventWindow window = windows.computeIfAbsent(event, key -> new EventWindow());
+        window.total.increment();
+        return window.emitted.incrementAndGet() <= maxPerWindow;
+    }
+
+    @Scheduled(fixedRateString = "${app.logging.sampling.window-ms:60000}")
+    public void flush() {
+        windows.forEach((event, window) -> {
+            final long total = window.total.sumThenReset();
+            window.emitted.set(0);
+
+            final long suppressed = total - Math.min(total, maxPerWindow);
+            if (suppressed > 0) {
+                log.info("Event '{}' occurred {} time(s) in the last {} ms, {} log line(s) suppressed",
+                        event, total, windowMs, suppressed);
+            }
+        });
+    }
+
+    private static final class EventWindow {
+        private final LongAdder total = new LongAdder();
+        private final AtomicInteger emitted = new AtomicInteger();
+    }
+}
@@ -0,0 +1,75 @@
+package com.aktiia.bidapplication.helper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money as a whole number of cents.
+ * <p>
+ * Prices are {@code BigDecimal}s with two decimals in requests, responses and database columns,
+ * and are converted once where they cross into the application. Between those edges the bidding
+ * engine, the in-memory indexes and every accept/reject decision compare and add plain
+ * {@code long}s, which never allocate and never depend on the scale a value happened to arrive in.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * @throws IllegalArgumentException when the amount has more than two decimal places or does
+     *                                  not fit in a {@code long} of cents
+     */
+    public static Money of(final BigDecimal amount) {
+        try {
+            return new Money(amount.movePointRight(2).longValueExact());
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("Amount must not have more than 2 decimal places: " + amount);
+        }
+    }
+
+    /**
+     * Same as {@link #of}, but drops digits past the cent instead of rejecting them; for
+     * thresholds and filters, where a fraction of a cent cannot change what matches.
+     */
+    public static Money ofRoundedDown(final BigDecimal amount) {
+        return new Money(amount.setScale(2, RoundingMode.DOWN).unscaledValue().longValueExact());
+    }
+
+    public static Money ofCents(final long cents) {
+        return new Money(cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Money plus(final Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money min(final Money other) {
+        return cents <= other.cents ? this : other;
+    }
+
+    public Money max(final Money other) {
+        return cents >= other.cents ? this : other;
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return cents > other.cents;
+    }
+
+    public boolean isLessThan(final Money other) {
+        return cents < other.cents;
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,122 @@
+package com.aktiia.bidapplication.helper;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Standing bids of a multi-unit auction, one per bidder, split into the winning set (the best
+ * {@code quantity} bids) and everything below it.
+ * <p>
+ * Amounts are kept as whole cents ({@link Money#cents()}) in primitive {@code long}s and ordered by amount, highest first,
+ * with earlier bids ahead on equal amounts. Both sets are red-black trees, so placing a bid, the
+ * clearing price (the weakest winning bid) and "is this bidder winning" are all {@code O(log n)}.
+ * <p>
+ * All methods are synchronized: writers are already serialized by the auction row lock, the
+ * monitor only keeps concurrent readers from seeing a bid halfway between the two sets.
+ */
+public final class OrderBook {
+
+    private static final Comparator<Entry> PRIORITY = Comparator.comparingLong(Entry::cents).reversed()
+            .thenComparingLong(Entry::sequence);
+
+    private final int quantity;
+    private final TreeSet<Entry> winning = new TreeSet<>(PRIORITY);
+    private final TreeSet<Entry> losing = new TreeSet<>(PRIORITY);
+    private final Map<UUID, Entry> standing = new HashMap<>();
+    private long nextSequence;
+
+    public OrderBook(final int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        this.quantity = quantity;
+    }
+
+    /**
+     * Records the bidder's new standing bid, replacing their previous one.
+     *
+     * @return the bidder pushed out of the winning set by this bid, or {@code null}
+     */
+    public synchronized UUID place(final UUID bidderId, final long cents) {
+        final Entry previous = standing.remove(bidderId);
+        Entry promoted = null;
+        if (previous != null && winning.remove(previous)) {
+            promoted = losing.pollFirst();
+            if (promoted != null) {
+                winning.add(promoted);
+            }
+        } else if (previous != null) {
+            losing.remove(previous);
+        }
+
+        final Entry entry = new Entry(cents, nextSequence++, bidderId);
+        standing.put(bidderId, entry);
+        winning.add(entry);
+        if (winning.size() <= quantity) {
+            return null;
+        }
+
+        final Entry displaced = winning.pollLast();
+        losing.add(displaced);
+        // A bid only just promoted to make room for the bidder's raise was never really winning
+        return displaced == promoted || displaced == entry ? null : displaced.bidderId();
+    }
+
+    /**
+     * Uniform price paid by every winner: the weakest winning bid once all units are taken,
+     * the reserve (starting price) until then.
+     */
+    public synchronized long clearingPriceCents(final long reserveCents) {
+        return winning.size() < quantity ? reserveCents : winning.last().cents();
+    }
+
+    /**
+     * @return whether every unit is currently taken, so a new bid has to beat the clearing price
+     */
+    public synchronized boolean isFull() {
+        return winning.size() >= quantity;
+    }
+
+    /**
+     * @return the bidder with the highest standing bid, {@code null} while the book is empty
+     */
+    public synchronized UUID leaderId() {
+        return winning.isEmpty() ? null : winning.first().bidderId();
+    }
+
+    /**
+     * @return the bidders in the winning set, highest bid first
+     */
+    public synchronized List<UUID> winnerIds() {
+        return winning.stream().map(Entry::bidderId).toList();
+    }
+
+    public synchronized OptionalLong standingBidCents(final UUID bidderId) {
+        final Entry entry = standing.get(bidderId);
+        return entry == null ? OptionalLong.empty() : OptionalLong.of(entry.cents());
+    }
+
+    public synchronized boolean isWinning(final UUID bidderId) {
+        final Entry entry = standing.get(bidderId);
+        return entry != null && winning.contains(entry);
+    }
+
+    /**
+     * @return the number of bids placed into this book, raises included
+     */
+    public synchronized long bidCount() {
+        return nextSequence;
+    }
+
+    public int quantity() {
+        return quantity;
+    }
+
+    private record Entry(long cents, long sequence, UUID bidderId) {
+    }
+}
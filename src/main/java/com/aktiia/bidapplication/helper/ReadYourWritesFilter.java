@@ -0,0 +1,63 @@
+package com.aktiia.bidapplication.helper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Decides per request whether its read-only transactions may use the replica.
+ * <p>
+ * Only {@code GET} and {@code HEAD} requests may. Every other request runs on the primary and
+ * answers with a {@value #WRITE_TOKEN_HEADER} header holding the time it started; a client that
+ * sends the token back within {@code maxLagMillis} keeps reading from the primary, so it sees
+ * its own writes however far the replica is behind. Tokens are not trusted beyond that: a
+ * forged one can only pin its requests to the primary for the same window.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String WRITE_TOKEN_HEADER = "X-Write-Token";
+
+    private final long maxLagMillis;
+
+    public ReadYourWritesFilter(final long maxLagMillis) {
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        final long now = System.currentTimeMillis();
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            if (!wroteRecently(request.getHeader(WRITE_TOKEN_HEADER), now)) {
+                ReplicaRoutingDataSource.allowReplicaReads();
+            }
+        } else {
+            response.setHeader(WRITE_TOKEN_HEADER, String.valueOf(now));
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clear();
+        }
+    }
+
+    private boolean wroteRecently(final String token, final long now) {
+        if (token == null) {
+            return false;
+        }
+        try {
+            return Math.abs(now - Long.parseLong(token.trim())) < maxLagMillis;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+}
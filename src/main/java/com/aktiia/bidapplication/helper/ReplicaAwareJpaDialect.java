@@ -0,0 +1,29 @@
+package com.aktiia.bidapplication.helper;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps rows read from the replica out of the second-level cache.
+ * <p>
+ * Writes update the cache when they commit, so it is usually ahead of the replica. A
+ * transaction that may read from the replica still reads through the cache, but what it
+ * loads is not put there, where it would outlive the replication lag.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(final EntityManager entityManager, final TransactionDefinition definition)
+            throws SQLException {
+        final Object transactionData = super.beginTransaction(entityManager, definition);
+        if (definition.isReadOnly() && ReplicaRoutingDataSource.replicaReadsAllowed()) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return transactionData;
+    }
+}
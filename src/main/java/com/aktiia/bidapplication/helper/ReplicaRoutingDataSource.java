@@ -0,0 +1,52 @@
+package com.aktiia.bidapplication.helper;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica, when the current thread allows it, and
+ * everything else to the primary.
+ * <p>
+ * Threads read from the primary unless {@link #allowReplicaReads()} was called on them, so
+ * writes, jobs and event listeners never act on a lagging copy. The choice is made when a
+ * statement first needs a connection, which only works behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction
+ * manager asks for its connection before the read-only flag of the transaction is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> REPLICA_READS = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(final DataSource primary, final DataSource replica) {
+        setTargetDataSources(Map.<Object, Object>of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static void allowReplicaReads() {
+        REPLICA_READS.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        REPLICA_READS.remove();
+    }
+
+    public static boolean replicaReadsAllowed() {
+        return REPLICA_READS.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaReadsAllowed() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+}
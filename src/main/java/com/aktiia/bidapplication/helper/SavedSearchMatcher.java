@@ -0,0 +1,148 @@
+package com.aktiia.bidapplication.helper;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Matches a new listing against many saved queries without looking at every query.
+ * <p>
+ * A query is a set of tokens that must all occur in the listing, under the same rule as
+ * {@link InvertedIndex}: a token of two or more characters matches any term it prefixes, a
+ * shorter token only an equal term. Each query is filed under a single anchor token, its
+ * longest (long tokens are the selective ones), in an {@link IntSet} of query ids. A listing
+ * expands its terms into the set of keys they can satisfy (each term and its prefixes of two or
+ * more characters) and only visits the queries anchored on one of those keys, checking their
+ * remaining tokens against the same set. The cost follows the listing's length and the number
+ * of queries sharing its keys, not the number of saved queries.
+ * <p>
+ * Query ids are small positive {@code int}s handed out by {@link #add} and reused after
+ * {@link #remove}. Matching shares a read lock; adding and removing take the write lock.
+ */
+public final class SavedSearchMatcher {
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntSet> byAnchor = new HashMap<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private String[][] tokens = new String[1024][];
+    private long[] priceLimits = new long[1024];
+    private int lastId;
+    private int size;
+
+    /**
+     * @param queryTokens   tokens that must all match, at least one
+     * @param maxPriceCents highest starting price to match, {@link Long#MAX_VALUE} for no limit
+     * @return the query's id
+     */
+    public int add(final Collection<String> queryTokens, final long maxPriceCents) {
+        final String[] distinct = queryTokens.stream().distinct().toArray(String[]::new);
+        if (distinct.length == 0) {
+            throw new IllegalArgumentException("A saved search needs at least one token");
+        }
+        lock.writeLock().lock();
+        try {
+            final int id = freeIds.isEmpty() ? ++lastId : freeIds.pop();
+            if (id >= tokens.length) {
+                tokens = Arrays.copyOf(tokens, tokens.length * 2);
+                priceLimits = Arrays.copyOf(priceLimits, priceLimits.length * 2);
+            }
+            tokens[id] = distinct;
+            priceLimits[id] = maxPriceCents;
+            byAnchor.computeIfAbsent(anchor(distinct), key -> new IntSet()).add(id);
+            size++;
+            return id;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final int id) {
+        lock.writeLock().lock();
+        try {
+            if (id <= 0 || id >= tokens.length || tokens[id] == null) {
+                return;
+            }
+            final String anchor = anchor(tokens[id]);
+            final IntSet anchored = byAnchor.get(anchor);
+            anchored.remove(id);
+            if (anchored.isEmpty()) {
+                byAnchor.remove(anchor);
+            }
+            tokens[id] = null;
+            freeIds.push(id);
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Calls {@code onMatch} once for every query whose tokens all occur in {@code listingTerms}
+     * and whose price limit admits {@code priceCents}.
+     */
+    public void match(final List<String> listingTerms, final long priceCents, final IntConsumer onMatch) {
+        final Set<String> keys = new HashSet<>();
+        for (final String term : listingTerms) {
+            keys.add(term);
+            for (int length = MIN_PREFIX_LENGTH; length < term.length(); length++) {
+                keys.add(term.substring(0, length));
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            for (final String key : keys) {
+                final IntSet anchored = byAnchor.get(key);
+                if (anchored == null) {
+                    continue;
+                }
+                anchored.forEach(id -> {
+                    if (priceCents <= priceLimits[id] && allIn(tokens[id], keys)) {
+                        onMatch.accept(id);
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String anchor(final String[] queryTokens) {
+        String longest = queryTokens[0];
+        for (final String token : queryTokens) {
+            if (token.length() > longest.length()) {
+                longest = token;
+            }
+        }
+        return longest;
+    }
+
+    private static boolean allIn(final String[] queryTokens, final Set<String> keys) {
+        for (final String token : queryTokens) {
+            if (!keys.contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
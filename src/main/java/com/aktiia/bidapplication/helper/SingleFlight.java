@@ -0,0 +1,60 @@
+package com.aktiia.bidapplication.helper;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one.
+ * <p>
+ * The first caller for a key runs the loader on its own thread; callers arriving while it runs
+ * wait for and share its result, or its exception. The key is dropped as soon as the call
+ * completes, so nothing is cached: a caller arriving afterwards starts a new call and sees
+ * fresh data, and the map only ever holds the calls in flight.
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(final K key, final Supplier<V> loader) {
+        final CompletableFuture<V> call = new CompletableFuture<>();
+        final CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            final V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (final RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return the number of keys with a call in flight
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(final CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.aktiia.bidapplication.helper;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parses a {@code fields=} parameter, a comma-separated list of response field names, into the
+ * set of fields a projection has to produce.
+ */
+public final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    /**
+     * @throws IllegalArgumentException when a name is unknown or no name is given
+     */
+    public static <E extends Enum<E>> Set<E> parse(final String fields, final Class<E> type, final Function<E, String> name) {
+        final Set<E> selected = EnumSet.noneOf(type);
+        for (final String requested : fields.split(",")) {
+            final String trimmed = requested.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(type.getEnumConstants())
+                    .filter(field -> name.apply(field).equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + trimmed + "', expected one of "
+                            + Arrays.stream(type.getEnumConstants()).map(name).collect(Collectors.joining(", ")))));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be given");
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,56 @@
+package com.aktiia.bidapplication.helper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * Instead of storing a token count and a refill timestamp (two values that would need a lock to
+ * update together), the bucket stores a single "theoretical arrival time": the instant at which
+ * it would be completely full again. Taking a token pushes that instant one refill interval into
+ * the future, and a request is rejected when the instant would end up more than
+ * {@code capacity} intervals ahead of now. This is the GCRA formulation of a token bucket and
+ * needs nothing more than a CAS on one {@code long}.
+ */
+public final class TokenBucket {
+
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(final int capacity, final double refillPerSecond, final long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.refillIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @return {@code 0} if the token was taken, otherwise the number of nanoseconds until one becomes available
+     */
+    public long tryAcquire(final long nowNanos) {
+        while (true) {
+            final long current = fullAt.get();
+            final long next = Math.max(current, nowNanos) + refillIntervalNanos;
+            final long ahead = next - nowNanos;
+
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A bucket that has refilled completely carries no state worth keeping.
+     */
+    public boolean isFull(final long nowNanos) {
+        return fullAt.get() <= nowNanos;
+    }
+}
@@ -1,8 +1,8 @@
 package com.aktiia.bidapplication.job;
 
-import com.aktiia.bidapplication.model.entity.Auction;
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
 import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.service.AuctionSettlementService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -18,28 +19,21 @@ import java.util.List;
 public class AuctionScheduler {
 
     private final AuctionRepository auctionRepository;
+    private final AuctionSettlementService auctionSettlementService;
 
     @Scheduled(fixedRateString = "${auction.scheduler.fixed-rate-ms}")
     @Transactional
     public void closeExpiredAuctions() {
-        final List<Auction> expiredAuctions = auctionRepository.findExpiredAuctions(
+        final List<UUID> expiredAuctionIds = auctionRepository.findExpiredAuctionIds(
                 AuctionStatus.OPEN,
                 LocalDateTime.now()
         );
 
-        if (expiredAuctions.isEmpty()) {
+        if (expiredAuctionIds.isEmpty()) {
             return;
         }
 
-        for (Auction auction : expiredAuctions) {
-            auction.setStatus(AuctionStatus.CLOSED);
-            log.info("Auction closed automatically: id={}, title='{}', highestBid={}",
-                    auction.getId(), auction.getTitle(), auction.getCurrentHighestBid());
-        }
-
-        auctionRepository.saveAll(expiredAuctions);
-        log.info("Closed {} expired auction(s)", expiredAuctions.size());
-
-        // TODO: OUT OF SCOPE: Notify users about closed auctions (e.g. via email), will not be done in this implementation
+        final int closed = auctionSettlementService.settle(expiredAuctionIds);
+        log.info("Closed {} expired auction(s)", closed);
     }
 }
@@ -0,0 +1,72 @@
+package com.aktiia.bidapplication.job;
+
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.service.BidArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Archives the bids of auctions closed more than {@code after-days} ago, keeping the bid table
+ * to the auctions people still look at. Up to {@code auctions-per-run} auctions are archived per
+ * run, and their rows are deleted {@code delete-chunk-size} at a time.
+ * <p>
+ * Runs as a Quartz job, registered by {@code BidArchiveConfig} once an archive directory is set,
+ * so the clustered job store fires it on one instance at a time.
+ */
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+public class BidArchiver implements Job {
+
+    private final AuctionRepository auctionRepository;
+    private final BidArchiveService bidArchiveService;
+    private final int afterDays;
+    private final int auctionsPerRun;
+    private final int deleteChunkSize;
+
+    public BidArchiver(final AuctionRepository auctionRepository,
+                       final BidArchiveService bidArchiveService,
+                       @Value("${app.bid-archive.after-days:30}") final int afterDays,
+                       @Value("${app.bid-archive.auctions-per-run:100}") final int auctionsPerRun,
+                       @Value("${app.bid-archive.delete-chunk-size:1000}") final int deleteChunkSize) {
+        this.auctionRepository = auctionRepository;
+        this.bidArchiveService = bidArchiveService;
+        this.afterDays = afterDays;
+        this.auctionsPerRun = auctionsPerRun;
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    @Override
+    public void execute(final JobExecutionContext context) {
+        archive();
+    }
+
+    public void archive() {
+        final List<UUID> auctionIds = auctionRepository.findIdsToArchive(LocalDateTime.now().minusDays(afterDays),
+                PageRequest.of(0, auctionsPerRun));
+        for (final UUID auctionId : auctionIds) {
+            try {
+                bidArchiveService.archive(auctionId);
+                int deleted = 0;
+                int chunk;
+                do {
+                    chunk = bidArchiveService.deleteArchived(auctionId, deleteChunkSize);
+                    deleted += chunk;
+                } while (chunk == deleteChunkSize);
+                log.debug("Deleted {} archived bid row(s) of auction {}", deleted, auctionId);
+            } catch (final RuntimeException e) {
+                // Retried on the next run, the other auctions go ahead
+                log.error("Failed to archive bids of auction {}", auctionId, e);
+            }
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.aktiia.bidapplication.job;
 
 import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.helper.LogSampler;
 import com.aktiia.bidapplication.model.entity.Auction;
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
 import com.aktiia.bidapplication.repository.AuctionRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.quartz.Job;
-import org.quartz.JobExecutionContext;
+import org.quartz.*;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -19,20 +21,63 @@ import java.util.UUID;
 public class CloseAuctionJob implements Job {
 
     private final AuctionRepository auctionRepository;
+    private final SettlementQueue settlementQueue;
+    private final LogSampler logSampler;
 
     @Override
     @Transactional
-    public void execute(JobExecutionContext context) {
+    public void execute(JobExecutionContext context) throws JobExecutionException {
         final String auctionIdString = context.getMergedJobDataMap().getString("auctionId");
         final UUID auctionId = UUID.fromString(auctionIdString);
 
-        log.info("Closing auction {}", auctionId);
+        if (logSampler.sample("auction.close-job")) {
+            log.info("Closing auction {}", auctionId);
+        }
         final Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
 
-        if (auction.getStatus() == AuctionStatus.OPEN) {
-            auction.setStatus(AuctionStatus.CLOSED);
-            auctionRepository.save(auction);
+        if (auction.getStatus() != AuctionStatus.OPEN) {
+            return;
+        }
+
+        // Soft close may have pushed the end time out after this trigger was armed
+        if (auction.getEndTime().isAfter(LocalDateTime.now())) {
+            rearm(context, auction);
+            return;
         }
+
+        // Closing happens in batches, together with every other auction ending around now
+        settlementQueue.enqueue(auctionId);
+    }
+
+    /**
+     * Re-arms the firing trigger for the current end time. However many times a bidding war
+     * extended the auction, this costs a single scheduler write per early fire.
+     */
+    private void rearm(final JobExecutionContext context, final Auction auction) throws JobExecutionException {
+        final Trigger trigger = trigger(auction.getId(), auction.getEndTime());
+        try {
+            context.getScheduler().rescheduleJob(trigger.getKey(), trigger);
+            log.debug("Auction {} was extended, close re-armed for {}", auction.getId(), auction.getEndTime());
+        } catch (final SchedulerException e) {
+            throw new JobExecutionException("Failed to re-arm close trigger for auction " + auction.getId(), e);
+        }
+    }
+
+    public static JobKey jobKey(final UUID auctionId) {
+        return new JobKey("closeAuctionJob-" + auctionId);
+    }
+
+    /**
+     * The trigger that closes the auction at {@code endTime}, firing at once if that was missed.
+     */
+    public static Trigger trigger(final UUID auctionId, final LocalDateTime endTime) {
+        return TriggerBuilder.newTrigger()
+                .withIdentity("closeAuctionTrigger-" + auctionId)
+                .forJob(jobKey(auctionId))
+                .startAt(Timestamp.valueOf(endTime))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withMisfireHandlingInstructionFireNow())
+                .build();
     }
 }
@@ -0,0 +1,113 @@
+package com.aktiia.bidapplication.job;
+
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.notification.NotificationDigest;
+import com.aktiia.bidapplication.notification.NotificationSink;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox in the background.
+ * <p>
+ * A user becomes due once their oldest pending notification is {@code digest-window-ms} old;
+ * everything pending for them is then delivered as one digest, so a user outbid fifty times
+ * within the window gets a single message. Up to {@code batch-size} users are handled per run.
+ * Rows are only marked dispatched after every sink accepted the digest (at-least-once delivery).
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserRepository userRepository;
+    private final List<NotificationSink> sinks;
+    private final Duration digestWindow;
+    private final Duration retention;
+    private final int batchSize;
+
+    public OutboxDispatcher(final OutboxEventRepository outboxEventRepository,
+                            final UserRepository userRepository,
+                            final List<NotificationSink> sinks,
+                            @Value("${app.notifications.digest-window-ms:60000}") final long digestWindowMs,
+                            @Value("${app.notifications.retention-ms:604800000}") final long retentionMs,
+                            @Value("${app.notifications.batch-size:200}") final int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.userRepository = userRepository;
+        this.sinks = sinks;
+        this.digestWindow = Duration.ofMillis(digestWindowMs);
+        this.retention = Duration.ofMillis(retentionMs);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.dispatch-interval-ms:5000}")
+    @Transactional
+    public void dispatch() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<UUID> recipientIds = outboxEventRepository.findRecipientsDue(now.minus(digestWindow),
+                PageRequest.of(0, batchSize));
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+
+        final Map<UUID, List<OutboxEvent>> pendingByRecipient = outboxEventRepository.findPendingForUpdate(recipientIds)
+                .stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getRecipientId, LinkedHashMap::new, Collectors.toList()));
+        final Map<UUID, User> recipients = userRepository.findAllById(pendingByRecipient.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        final List<UUID> dispatched = new ArrayList<>();
+        pendingByRecipient.forEach((recipientId, events) -> {
+            final User recipient = recipients.get(recipientId);
+            // Nobody left to tell, drop the events rather than retrying them forever
+            if (recipient == null || deliver(digest(recipient, events))) {
+                events.forEach(event -> dispatched.add(event.getId()));
+            }
+        });
+
+        if (!dispatched.isEmpty()) {
+            outboxEventRepository.markDispatched(dispatched, now);
+            log.debug("Dispatched {} notification(s) to {} user(s)", dispatched.size(), pendingByRecipient.size());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.notifications.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeDispatched() {
+        final int purged = outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minus(retention));
+        log.debug("Purged {} dispatched notification(s)", purged);
+    }
+
+    private NotificationDigest digest(final User recipient, final List<OutboxEvent> events) {
+        return new NotificationDigest(recipient.getId(), recipient.getUsername(), recipient.getEmail(),
+                events.stream()
+                        .map(event -> new NotificationDigest.Item(event.getType(), event.getAuctionId(),
+                                event.getAmount(), event.getCreatedAt()))
+                        .toList());
+    }
+
+    private boolean deliver(final NotificationDigest digest) {
+        for (final NotificationSink sink : sinks) {
+            try {
+                sink.deliver(digest);
+            } catch (final RuntimeException e) {
+                log.warn("Notification sink {} failed for user {}, will retry", sink.getClass().getSimpleName(),
+                        digest.username(), e);
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.aktiia.bidapplication.job;
+
+import com.aktiia.bidapplication.service.AuctionSettlementService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Collects auctions whose close trigger fired and settles them in batches, so a burst of
+ * auctions ending in the same second costs one transaction per batch instead of one per auction.
+ * <p>
+ * The queue is in memory: anything lost with the process is picked up by the expired-auction sweeper.
+ */
+@Slf4j
+@Component
+public class SettlementQueue {
+
+    private final AuctionSettlementService auctionSettlementService;
+    private final int batchSize;
+    private final BlockingQueue<UUID> pending = new LinkedBlockingQueue<>();
+
+    public SettlementQueue(final AuctionSettlementService auctionSettlementService,
+                           @Value("${auction.settlement.batch-size:100}") final int batchSize) {
+        this.auctionSettlementService = auctionSettlementService;
+        this.batchSize = batchSize;
+    }
+
+    public void enqueue(final UUID auctionId) {
+        pending.offer(auctionId);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.settlement.drain-interval-ms:250}")
+    public void drain() {
+        final List<UUID> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            settle(batch);
+            batch.clear();
+        }
+    }
+
+    private void settle(final List<UUID> batch) {
+        try {
+            auctionSettlementService.settle(batch);
+        } catch (final RuntimeException e) {
+            // One bad auction must not hold back the rest of the batch
+            log.warn("Settlement batch of {} auction(s) failed, settling one by one", batch.size(), e);
+            for (final UUID auctionId : batch) {
+                try {
+                    auctionSettlementService.settle(List.of(auctionId));
+                } catch (final RuntimeException ex) {
+                    log.error("Failed to settle auction {}, leaving it to the sweeper", auctionId, ex);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.aktiia.bidapplication.model.dto.request;
 
+import com.aktiia.bidapplication.model.enums.AuctionType;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,4 +30,31 @@ public class AuctionRequest {
     @Min(value = 1, message = "Duration must be at least 1 minute")
     @Max(value = 2880, message = "Duration must not exceed 2 days (2880 minutes)")
     private Long durationMinutes;
+
+    /**
+     * Auction mechanism, defaults to {@link AuctionType#ENGLISH}. Fixed once the auction is created.
+     */
+    private AuctionType type;
+
+    // Dutch auctions only
+    @DecimalMin(value = "0.01", message = "Price decrement must be greater than zero")
+    private BigDecimal priceDecrement;
+
+    @Min(value = 1, message = "Decrement interval must be at least 1 second")
+    private Integer decrementIntervalSeconds;
+
+    @DecimalMin(value = "0.01", message = "Floor price must be greater than zero")
+    private BigDecimal floorPrice;
+
+    // Multi-unit auctions only: the top quantity bids win
+    @Min(value = 1, message = "Quantity must be at least 1")
+    @Max(value = 10000, message = "Quantity must not exceed 10000")
+    private Integer quantity;
+
+    public AuctionRequest(final String title,
+                          final String description,
+                          final BigDecimal startingPrice,
+                          final Long durationMinutes) {
+        this(title, description, startingPrice, durationMinutes, null, null, null, null, null);
+    }
 }
@@ -0,0 +1,23 @@
+package com.aktiia.bidapplication.model.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionStatusBatchRequest {
+
+    public static final int MAX_IDS = 200;
+
+    @NotEmpty(message = "At least one auction id is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " auction ids can be requested at once")
+    private List<@NotNull UUID> ids;
+}
@@ -16,4 +16,14 @@ public class BidRequest {
     @NotNull(message = "Bid amount is required")
     @DecimalMin(value = "0.01", message = "Bid amount must be greater than zero")
     private BigDecimal amount;
+
+    /**
+     * Optional proxy maximum: the system keeps outbidding competitors on the bidder's behalf up to this amount.
+     */
+    @DecimalMin(value = "0.01", message = "Maximum amount must be greater than zero")
+    private BigDecimal maxAmount;
+
+    public BidRequest(final BigDecimal amount) {
+        this.amount = amount;
+    }
 }
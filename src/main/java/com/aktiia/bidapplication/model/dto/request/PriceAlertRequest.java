@@ -0,0 +1,34 @@
+package com.aktiia.bidapplication.model.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Either {@code auctionId} ("tell me when this auction passes the threshold") or
+ * {@code query} ("tell me when an auction matching this is listed under the threshold").
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceAlertRequest {
+
+    private UUID auctionId;
+
+    @Size(min = 2, max = 100, message = "Query must be between 2 and 100 characters")
+    private String query;
+
+    @NotNull(message = "Threshold is required")
+    @DecimalMin(value = "0.01", message = "Threshold must be greater than zero")
+    @Digits(integer = 17, fraction = 2, message = "Threshold must have at most 2 decimal places")
+    private BigDecimal threshold;
+}
@@ -0,0 +1,27 @@
+package com.aktiia.bidapplication.model.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearchRequest {
+
+    @NotBlank(message = "Query is required")
+    @Size(max = 100, message = "Query must be at most 100 characters")
+    private String query;
+
+    @DecimalMin(value = "0.01", message = "Max price must be greater than zero")
+    @Digits(integer = 17, fraction = 2, message = "Max price must have at most 2 decimal places")
+    private BigDecimal maxPrice;
+}
@@ -0,0 +1,17 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AuctionChangeResponse(UUID auctionId,
+                                    BigDecimal currentPrice,
+                                    AuctionStatus status,
+                                    LocalDateTime changedAt) {
+
+    @Builder
+    public AuctionChangeResponse{}
+}
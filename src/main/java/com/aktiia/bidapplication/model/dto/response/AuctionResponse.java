@@ -1,6 +1,7 @@
 package com.aktiia.bidapplication.model.dto.response;
 
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -13,6 +14,8 @@ public record AuctionResponse(UUID id,
                               BigDecimal startingPrice,
                               BigDecimal currentHighestBid,
                               AuctionStatus status,
+                              AuctionType type,
+                              int quantity,
                               String sellerUsername,
                               LocalDateTime createdAt,
                               LocalDateTime endTime,
@@ -0,0 +1,21 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AuctionSearchResponse(UUID id,
+                                    String title,
+                                    AuctionStatus status,
+                                    AuctionType type,
+                                    BigDecimal currentHighestBid,
+                                    LocalDateTime endTime,
+                                    double score) {
+
+    @Builder
+    public AuctionSearchResponse{}
+}
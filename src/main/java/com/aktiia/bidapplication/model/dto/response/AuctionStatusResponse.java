@@ -1,6 +1,7 @@
 package com.aktiia.bidapplication.model.dto.response;
 
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -11,6 +12,8 @@ import java.util.UUID;
 public record AuctionStatusResponse(UUID auctionId,
                                     String title,
                                     AuctionStatus status,
+                                    AuctionType type,
+                                    int quantity,
                                     BigDecimal startingPrice,
                                     BigDecimal currentHighestBid,
                                     String highestBidderUsername,
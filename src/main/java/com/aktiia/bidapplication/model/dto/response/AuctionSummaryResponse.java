@@ -0,0 +1,18 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AuctionSummaryResponse(UUID id,
+                                     String title,
+                                     AuctionType type,
+                                     BigDecimal currentHighestBid,
+                                     LocalDateTime endTime) {
+
+    @Builder
+    public AuctionSummaryResponse{}
+}
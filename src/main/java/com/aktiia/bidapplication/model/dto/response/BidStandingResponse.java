@@ -0,0 +1,16 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record BidStandingResponse(UUID auctionId,
+                                  int quantity,
+                                  BigDecimal clearingPrice,
+                                  BigDecimal standingBid,
+                                  boolean winning) {
+
+    @Builder
+    public BidStandingResponse{}
+}
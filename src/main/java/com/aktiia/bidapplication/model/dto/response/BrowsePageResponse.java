@@ -0,0 +1,14 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+public record BrowsePageResponse(List<AuctionSummaryResponse> items,
+                                 int page,
+                                 int size,
+                                 boolean hasNext) {
+
+    @Builder
+    public BrowsePageResponse{}
+}
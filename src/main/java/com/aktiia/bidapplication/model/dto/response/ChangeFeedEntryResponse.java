@@ -0,0 +1,27 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One change to an auction. Fields the change did not touch are {@code null}: a bid carries the
+ * price and end time, a close the status and final price.
+ */
+public record ChangeFeedEntryResponse(AuctionChangeType change,
+                                      UUID auctionId,
+                                      String title,
+                                      AuctionType type,
+                                      AuctionStatus status,
+                                      BigDecimal currentPrice,
+                                      LocalDateTime endTime,
+                                      LocalDateTime changedAt) {
+
+    @Builder
+    public ChangeFeedEntryResponse{}
+}
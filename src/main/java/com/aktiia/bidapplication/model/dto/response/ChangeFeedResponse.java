@@ -0,0 +1,19 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * {@code cursor} is passed as {@code since} on the next call. When {@code resyncRequired} is set
+ * the changes since the given cursor are no longer known, the client reloads the catalog and
+ * continues from the returned cursor.
+ */
+public record ChangeFeedResponse(List<ChangeFeedEntryResponse> changes,
+                                 String cursor,
+                                 boolean hasMore,
+                                 boolean resyncRequired) {
+
+    @Builder
+    public ChangeFeedResponse{}
+}
@@ -0,0 +1,17 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PriceAlertResponse(UUID id,
+                                 UUID auctionId,
+                                 String query,
+                                 BigDecimal threshold,
+                                 LocalDateTime createdAt) {
+
+    @Builder
+    public PriceAlertResponse{}
+}
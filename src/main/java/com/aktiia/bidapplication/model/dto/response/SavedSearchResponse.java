@@ -0,0 +1,16 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SavedSearchResponse(UUID id,
+                                  String query,
+                                  BigDecimal maxPrice,
+                                  LocalDateTime createdAt) {
+
+    @Builder
+    public SavedSearchResponse{}
+}
@@ -0,0 +1,19 @@
+package com.aktiia.bidapplication.model.dto.response;
+
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record WatchlistEntryResponse(UUID auctionId,
+                                     String title,
+                                     BigDecimal currentHighestBid,
+                                     AuctionStatus status,
+                                     LocalDateTime endTime,
+                                     LocalDateTime watchedAt) {
+
+    @Builder
+    public WatchlistEntryResponse{}
+}
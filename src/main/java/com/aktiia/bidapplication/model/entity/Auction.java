@@ -1,8 +1,11 @@
 package com.aktiia.bidapplication.model.entity;
 
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,6 +14,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "auction")
 @Getter
 @Setter
@@ -38,11 +43,43 @@ public class Auction {
     @Builder.Default
     private BigDecimal currentHighestBid = BigDecimal.ZERO;
 
+    // Bidder holding currentHighestBid, maintained by every accepted bid so settlement needs no bid scan
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "highest_bidder_id")
+    private User highestBidder;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
     private AuctionStatus status = AuctionStatus.OPEN;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 30)
+    @Builder.Default
+    private AuctionType type = AuctionType.ENGLISH;
+
+    // Dutch auctions only: the price drops by priceDecrement every decrementIntervalSeconds, down to floorPrice
+    @Column(scale = 2)
+    private BigDecimal priceDecrement;
+
+    private Integer decrementIntervalSeconds;
+
+    @Column(scale = 2)
+    private BigDecimal floorPrice;
+
+    // Number of identical items on sale; only multi-unit auctions have more than one
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer quantity = 1;
+
+    // Multi-unit auctions only: the number of bids, bumped by every bid under the row lock, see OrderBookService
+    @Column(nullable = false)
+    @Builder.Default
+    private Long orderBookVersion = 0L;
+
+    // Set once the bids of the closed auction are moved to the bid archive; null while they live in the bid table
+    private Integer archivedBidCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id", nullable = false)
     private User seller;
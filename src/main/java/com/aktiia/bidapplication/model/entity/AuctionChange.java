@@ -0,0 +1,66 @@
+package com.aktiia.bidapplication.model.entity;
+
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One entry of the auction change feed, written in the transaction that made the change.
+ * Fields the change did not touch are {@code null}. Entries are only ever inserted, so the
+ * repository persists them without first looking for an existing row.
+ */
+@Entity
+@Table(name = "auction_change")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionChange implements Persistable<Long> {
+    @Id
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private AuctionChangeType change;
+
+    @Column(nullable = false, updatable = false)
+    private UUID auctionId;
+
+    @Column(length = 100, updatable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, updatable = false)
+    private AuctionType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, updatable = false)
+    private AuctionStatus status;
+
+    @Column(scale = 2, updatable = false)
+    private BigDecimal currentPrice;
+
+    @Column(updatable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
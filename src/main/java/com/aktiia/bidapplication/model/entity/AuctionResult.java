@@ -0,0 +1,54 @@
+package com.aktiia.bidapplication.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a closed auction, written once at settlement. Auctions that closed without a sale
+ * have neither a winner nor a final price.
+ * <p>
+ * {@code winner} is the top bidder. {@code winners} holds everyone who won a unit, the top bidder
+ * first: just the winner for single-item auctions, up to {@code quantity} bidders for multi-unit
+ * ones, each paying the uniform {@code finalPrice}.
+ */
+@Entity
+@Table(name = "auction_result", indexes = {
+        @Index(name = "idx_auction_result_winner", columnList = "winner_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionResult {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "auction_id", nullable = false, unique = true, updatable = false)
+    private Auction auction;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "winner_id", updatable = false)
+    private User winner;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "auction_result_winner",
+            joinColumns = @JoinColumn(name = "auction_result_id"),
+            inverseJoinColumns = @JoinColumn(name = "winner_id"))
+    @Builder.Default
+    private List<User> winners = new ArrayList<>();
+
+    @Column(scale = 2, updatable = false)
+    private BigDecimal finalPrice;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime closedAt;
+}
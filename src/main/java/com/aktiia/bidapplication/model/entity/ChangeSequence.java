@@ -0,0 +1,24 @@
+package com.aktiia.bidapplication.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Named counter handing out change sequences. The row is locked when a number is taken and
+ * stays locked until the taking transaction ends, so numbers are handed out in commit order.
+ */
+@Entity
+@Table(name = "change_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeSequence {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long lastValue;
+}
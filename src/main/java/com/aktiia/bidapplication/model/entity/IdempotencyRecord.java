@@ -0,0 +1,46 @@
+package com.aktiia.bidapplication.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Persistent copy of the response returned for an {@code Idempotency-Key}, so that a retry
+ * arriving after a restart (or on another node) still gets the original bid back.
+ * <p>
+ * The row is inserted with only its key and request hash before the bid is placed, and the bid
+ * columns are filled in the same transaction, so a committed row always holds its result.
+ */
+@Entity
+@Table(name = "idempotency_key")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+    @Id
+    private String id;
+
+    @Column(length = 32)
+    private String requestHash;
+
+    private UUID bidId;
+
+    private UUID auctionId;
+
+    @Column(scale = 2)
+    private BigDecimal amount;
+
+    @Column(length = 50)
+    private String bidderUsername;
+
+    private LocalDateTime placedAt;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,47 @@
+package com.aktiia.bidapplication.model.entity;
+
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Notification written in the same transaction as the change that caused it and delivered
+ * later by the outbox dispatcher. {@code dispatchedAt} stays {@code null} until delivery.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_pending", columnList = "dispatched_at, recipient_id, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 30)
+    private NotificationType type;
+
+    @Column(nullable = false, updatable = false)
+    private UUID recipientId;
+
+    @Column(nullable = false, updatable = false)
+    private UUID auctionId;
+
+    @Column(scale = 2, updatable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime dispatchedAt;
+}
@@ -0,0 +1,48 @@
+package com.aktiia.bidapplication.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One-shot price alert. An auction alert fires when the auction's price passes {@code threshold};
+ * a search alert (no auction, a {@code searchQuery} instead) fires when a new auction matching
+ * the query is listed under {@code threshold}. {@code triggeredAt} is set once it has fired.
+ */
+@Entity
+@Table(name = "price_alert", indexes = {
+        @Index(name = "idx_price_alert_user", columnList = "user_id"),
+        @Index(name = "idx_price_alert_auction_threshold", columnList = "auction_id, threshold")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceAlert {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private User user;
+
+    @Column(name = "auction_id", updatable = false)
+    private UUID auctionId;
+
+    @Column(length = 100, updatable = false)
+    private String searchQuery;
+
+    @Column(nullable = false, scale = 2, updatable = false)
+    private BigDecimal threshold;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime triggeredAt;
+}
@@ -0,0 +1,42 @@
+package com.aktiia.bidapplication.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Maximum a bidder is willing to pay on an auction. The bidding engine raises the bidder's
+ * visible bid on their behalf, one increment at a time, until this amount is reached.
+ */
+@Entity
+@Table(name = "proxy_bid", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_proxy_bid_auction_bidder", columnNames = {"auction_id", "bidder_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProxyBid {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, scale = 2)
+    private BigDecimal maxAmount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "auction_id", nullable = false)
+    private Auction auction;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bidder_id", nullable = false)
+    private User bidder;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
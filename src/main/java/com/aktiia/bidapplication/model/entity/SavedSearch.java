@@ -0,0 +1,41 @@
+package com.aktiia.bidapplication.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A standing query: the user is notified of every new auction whose title and description match
+ * {@code searchQuery} and whose starting price is at most {@code maxPrice} (any price when null).
+ */
+@Entity
+@Table(name = "saved_search", indexes = {
+        @Index(name = "idx_saved_search_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private User user;
+
+    @Column(nullable = false, length = 100, updatable = false)
+    private String searchQuery;
+
+    @Column(scale = 2, updatable = false)
+    private BigDecimal maxPrice;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
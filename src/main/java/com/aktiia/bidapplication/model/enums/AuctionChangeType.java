@@ -0,0 +1,8 @@
+package com.aktiia.bidapplication.model.enums;
+
+public enum AuctionChangeType {
+    CREATED,
+    UPDATED,
+    BID_PLACED,
+    CLOSED
+}
@@ -0,0 +1,29 @@
+package com.aktiia.bidapplication.model.enums;
+
+/**
+ * Fields of an auction that can be asked for with {@code fields=}, named as in the full response.
+ */
+public enum AuctionField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STARTING_PRICE("startingPrice"),
+    CURRENT_HIGHEST_BID("currentHighestBid"),
+    STATUS("status"),
+    TYPE("type"),
+    QUANTITY("quantity"),
+    SELLER_USERNAME("sellerUsername"),
+    CREATED_AT("createdAt"),
+    END_TIME("endTime"),
+    TOTAL_BIDS("totalBids");
+
+    private final String fieldName;
+
+    AuctionField(final String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+}
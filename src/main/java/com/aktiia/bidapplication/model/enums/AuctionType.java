@@ -0,0 +1,16 @@
+package com.aktiia.bidapplication.model.enums;
+
+public enum AuctionType {
+    ENGLISH,
+    SEALED_FIRST_PRICE,
+    SEALED_SECOND_PRICE,
+    DUTCH,
+    MULTI_UNIT;
+
+    /**
+     * Sealed auctions hide bids until close and never compare them against a running highest bid.
+     */
+    public boolean isSealed() {
+        return this == SEALED_FIRST_PRICE || this == SEALED_SECOND_PRICE;
+    }
+}
@@ -0,0 +1,22 @@
+package com.aktiia.bidapplication.model.enums;
+
+/**
+ * Fields of a bid that can be asked for with {@code fields=}, named as in the full response.
+ */
+public enum BidField {
+    ID("id"),
+    AMOUNT("amount"),
+    BIDDER_USERNAME("bidderUsername"),
+    AUCTION_ID("auctionId"),
+    PLACED_AT("placedAt");
+
+    private final String fieldName;
+
+    BidField(final String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+}
@@ -0,0 +1,9 @@
+package com.aktiia.bidapplication.model.enums;
+
+public enum NotificationType {
+    OUTBID,
+    AUCTION_WON,
+    AUCTION_ENDED,
+    PRICE_ALERT,
+    SAVED_SEARCH_MATCH
+}
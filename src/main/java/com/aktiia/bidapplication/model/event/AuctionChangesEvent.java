@@ -0,0 +1,15 @@
+package com.aktiia.bidapplication.model.event;
+
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+
+import java.util.List;
+
+/**
+ * Published by {@link com.aktiia.bidapplication.service.AuctionChangeFeedFollower} with the
+ * changes committed on any instance since its previous poll, in feed order. The changes made on
+ * this instance are among them, after their own events. {@code resyncRequired} is set, with no
+ * changes, when changes were purged from the feed before they were read; listeners then reload
+ * from the tables.
+ */
+public record AuctionChangesEvent(List<AuctionChange> changes, boolean resyncRequired) {
+}
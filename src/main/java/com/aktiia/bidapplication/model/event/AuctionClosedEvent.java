@@ -0,0 +1,22 @@
+package com.aktiia.bidapplication.model.event;
+
+import com.aktiia.bidapplication.model.enums.AuctionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the settling transaction once an auction is closed and its result recorded.
+ * {@code winnerId} and {@code finalPrice} are {@code null} when nothing was sold. {@code winnerIds}
+ * lists every bidder who won a unit, top bidder first, and is empty when nothing was sold.
+ */
+public record AuctionClosedEvent(UUID auctionId,
+                                 AuctionType type,
+                                 UUID sellerId,
+                                 UUID winnerId,
+                                 List<UUID> winnerIds,
+                                 BigDecimal finalPrice,
+                                 LocalDateTime closedAt) {
+}
@@ -0,0 +1,18 @@
+package com.aktiia.bidapplication.model.event;
+
+import com.aktiia.bidapplication.model.enums.AuctionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published inside the creating transaction once a new auction has been saved.
+ */
+public record AuctionCreatedEvent(UUID auctionId,
+                                  String title,
+                                  String description,
+                                  AuctionType type,
+                                  BigDecimal startingPrice,
+                                  LocalDateTime endTime) {
+}
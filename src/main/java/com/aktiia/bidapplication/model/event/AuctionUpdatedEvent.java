@@ -0,0 +1,15 @@
+package com.aktiia.bidapplication.model.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published inside the updating transaction once the seller's changes to an open auction are saved.
+ */
+public record AuctionUpdatedEvent(UUID auctionId,
+                                  String title,
+                                  String description,
+                                  BigDecimal currentHighestBid,
+                                  LocalDateTime endTime) {
+}
@@ -0,0 +1,21 @@
+package com.aktiia.bidapplication.model.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Published inside the bid transaction once a visible bid has been accepted and the auction's
+ * price updated. {@code outbidUserIds} are the users who lost their leading (or, in multi-unit
+ * auctions, winning) position because of it. {@code endTime} is the auction's end time after
+ * any soft-close extension the bid caused.
+ */
+public record BidPlacedEvent(UUID auctionId,
+                             UUID bidderId,
+                             BigDecimal previousPrice,
+                             BigDecimal currentPrice,
+                             Collection<UUID> outbidUserIds,
+                             LocalDateTime placedAt,
+                             LocalDateTime endTime) {
+}
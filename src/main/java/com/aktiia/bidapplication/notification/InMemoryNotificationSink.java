@@ -0,0 +1,30 @@
+package com.aktiia.bidapplication.notification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps delivered digests in memory, for tests and local inspection.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.sinks.memory.enabled", havingValue = "true")
+public class InMemoryNotificationSink implements NotificationSink {
+
+    private final List<NotificationDigest> delivered = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void deliver(final NotificationDigest digest) {
+        delivered.add(digest);
+    }
+
+    public List<NotificationDigest> getDelivered() {
+        return List.copyOf(delivered);
+    }
+
+    public void clear() {
+        delivered.clear();
+    }
+}
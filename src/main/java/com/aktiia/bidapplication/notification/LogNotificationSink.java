@@ -0,0 +1,16 @@
+package com.aktiia.bidapplication.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notifications.sinks.log.enabled", havingValue = "true", matchIfMissing = true)
+public class LogNotificationSink implements NotificationSink {
+
+    @Override
+    public void deliver(final NotificationDigest digest) {
+        log.info("Notification to {}: {} ({} item(s))", digest.username(), digest.subject(), digest.items().size());
+    }
+}
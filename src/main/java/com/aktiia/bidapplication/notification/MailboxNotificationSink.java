@@ -0,0 +1,58 @@
+package com.aktiia.bidapplication.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Local stand-in for an SMTP relay: every digest is written as an RFC 5322 message ({@code .eml})
+ * into a mailbox directory, where it can be opened with any mail client. The file is written
+ * under a temporary name and moved into place, so readers never see half a message.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notifications.sinks.mailbox.enabled", havingValue = "true")
+public class MailboxNotificationSink implements NotificationSink {
+
+    private final Path directory;
+    private final String from;
+
+    public MailboxNotificationSink(@Value("${app.notifications.sinks.mailbox.directory:mailbox}") final String directory,
+                                   @Value("${app.notifications.sinks.mailbox.from:no-reply@aktiia.com}") final String from) {
+        this.directory = Path.of(directory);
+        this.from = from;
+    }
+
+    @Override
+    public void deliver(final NotificationDigest digest) {
+        final String message = "From: " + from + "\r\n"
+                + "To: " + digest.email() + "\r\n"
+                + "Date: " + DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now()) + "\r\n"
+                + "Subject: " + digest.subject() + "\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n"
+                + "\r\n"
+                + digest.body().replace("\n", "\r\n");
+
+        final String name = System.currentTimeMillis() + "-" + UUID.randomUUID();
+        try {
+            Files.createDirectories(directory);
+            final Path temporary = directory.resolve(name + ".tmp");
+            Files.writeString(temporary, message, StandardCharsets.UTF_8);
+            Files.move(temporary, directory.resolve(name + ".eml"), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write notification for " + digest.username(), e);
+        }
+        log.debug("Notification for {} written to mailbox {}", digest.username(), directory);
+    }
+}
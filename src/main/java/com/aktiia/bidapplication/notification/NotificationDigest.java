@@ -0,0 +1,47 @@
+package com.aktiia.bidapplication.notification;
+
+import com.aktiia.bidapplication.model.enums.NotificationType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything pending for one user, delivered as a single message.
+ */
+public record NotificationDigest(UUID recipientId,
+                                 String username,
+                                 String email,
+                                 List<Item> items) {
+
+    public record Item(NotificationType type, UUID auctionId, BigDecimal amount, LocalDateTime createdAt) {
+    }
+
+    public String subject() {
+        return items.size() == 1
+                ? describe(items.getFirst())
+                : items.size() + " auction updates";
+    }
+
+    public String body() {
+        final StringBuilder body = new StringBuilder("Hi ").append(username).append(",\n\n");
+        for (final Item item : items) {
+            body.append("- ").append(describe(item)).append(" (").append(item.createdAt()).append(")\n");
+        }
+        return body.toString();
+    }
+
+    private static String describe(final Item item) {
+        return switch (item.type()) {
+            case OUTBID -> "You were outbid on auction " + item.auctionId() + ", current price " + item.amount();
+            case AUCTION_WON -> "You won auction " + item.auctionId() + " at " + item.amount();
+            case AUCTION_ENDED -> item.amount() == null
+                    ? "Your auction " + item.auctionId() + " ended without a sale"
+                    : "Your auction " + item.auctionId() + " sold for " + item.amount();
+            case PRICE_ALERT -> "Price alert: auction " + item.auctionId() + " is now at " + item.amount();
+            case SAVED_SEARCH_MATCH -> "New auction " + item.auctionId() + " matches your saved search, starting at "
+                    + item.amount();
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.aktiia.bidapplication.notification;
+
+/**
+ * Delivery channel for notification digests. Every enabled sink receives every digest; a sink
+ * that throws leaves the digest pending, so it is offered again on the next dispatch.
+ */
+public interface NotificationSink {
+
+    void deliver(NotificationDigest digest);
+}
@@ -0,0 +1,26 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AuctionChangeRepository extends JpaRepository<AuctionChange, Long> {
+
+    @Query("SELECT c FROM AuctionChange c WHERE c.sequence > :since ORDER BY c.sequence")
+    List<AuctionChange> findAfter(@Param("since") long since, Pageable pageable);
+
+    @Query("SELECT MIN(c.sequence) FROM AuctionChange c")
+    Optional<Long> findOldestSequence();
+
+    @Modifying
+    @Query("DELETE FROM AuctionChange c WHERE c.sequence <= :sequence")
+    int deleteUpTo(@Param("sequence") long sequence);
+}
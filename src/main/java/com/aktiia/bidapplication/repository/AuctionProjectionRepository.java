@@ -0,0 +1,23 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.enums.AuctionField;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Auction reads that select only the requested columns, see {@link AuctionProjectionRepositoryImpl}.
+ */
+public interface AuctionProjectionRepository {
+
+    /**
+     * One tuple per auction, with an element per field aliased by its field name. Asking for
+     * {@link AuctionField#CURRENT_HIGHEST_BID} also selects the columns the Dutch price is derived
+     * from, aliased by their attribute names.
+     *
+     * @param status only auctions in this status, or all when {@code null}
+     */
+    List<Tuple> findProjected(Set<AuctionField> fields, AuctionStatus status);
+}
@@ -0,0 +1,69 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.enums.AuctionField;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the auction projection from the requested fields: the seller is only joined for
+ * {@code sellerUsername}, bids are only counted (in a correlated subquery) for {@code totalBids},
+ * and the description is only read when asked for.
+ */
+public class AuctionProjectionRepositoryImpl implements AuctionProjectionRepository {
+
+    private static final List<String> DUTCH_PRICING_COLUMNS = List.of("type", "status", "createdAt",
+            "startingPrice", "priceDecrement", "decrementIntervalSeconds", "floorPrice");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findProjected(final Set<AuctionField> fields, final AuctionStatus status) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<Auction> auction = query.from(Auction.class);
+
+        final Map<String, Expression<?>> columns = new LinkedHashMap<>();
+        for (final AuctionField field : fields) {
+            switch (field) {
+                case SELLER_USERNAME -> columns.put(field.fieldName(), auction.join("seller").get("username"));
+                case TOTAL_BIDS -> {
+                    final Subquery<Long> count = query.subquery(Long.class);
+                    final Root<Bid> bid = count.from(Bid.class);
+                    count.select(builder.count(bid)).where(builder.equal(bid.get("auction"), auction));
+                    // Once archived, the count is kept on the auction and the rows are being deleted
+                    columns.put(field.fieldName(), builder.coalesce(
+                            auction.<Integer>get("archivedBidCount").as(Long.class), count));
+                }
+                case CURRENT_HIGHEST_BID -> {
+                    columns.put(field.fieldName(), auction.get(field.fieldName()));
+                    DUTCH_PRICING_COLUMNS.forEach(column -> columns.putIfAbsent(column, auction.get(column)));
+                }
+                default -> columns.putIfAbsent(field.fieldName(), auction.get(field.fieldName()));
+            }
+        }
+
+        query.multiselect(columns.entrySet().stream()
+                .<Selection<?>>map(column -> column.getValue().alias(column.getKey()))
+                .toList());
+        if (status != null) {
+            query.where(builder.equal(auction.get("status"), status));
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -1,30 +1,146 @@
 package com.aktiia.bidapplication.repository;
 
 import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.User;
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AuctionRepository extends JpaRepository<Auction, UUID> {
+public interface AuctionRepository extends JpaRepository<Auction, UUID>, AuctionProjectionRepository {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Auction a WHERE a.id = :id")
     Optional<Auction> findByIdWithPessimisticLock(@Param("id") UUID id);
 
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT a FROM Auction a WHERE a.id = :id")
+    Optional<Auction> findByIdWithSharedLock(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Auction a WHERE a.id IN :ids ORDER BY a.id")
+    List<Auction> findAllByIdWithPessimisticLock(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT a.type FROM Auction a WHERE a.id = :id")
+    Optional<AuctionType> findTypeById(@Param("id") UUID id);
+
+    boolean existsByIdAndStatusAndTypeIn(UUID id, AuctionStatus status, Collection<AuctionType> types);
+
+    boolean existsByIdAndArchivedBidCountIsNotNull(UUID id);
+
     List<Auction> findByStatus(AuctionStatus status);
 
+    /**
+     * Sells a Dutch auction in one conditional update: only the first acceptance of a still open,
+     * unexpired auction matches, every later one updates nothing.
+     */
+    @Modifying
+    @Query("UPDATE Auction a " +
+            "SET a.status = com.aktiia.bidapplication.model.enums.AuctionStatus.CLOSED, " +
+            "a.currentHighestBid = :price, a.highestBidder = :buyer, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.status = com.aktiia.bidapplication.model.enums.AuctionStatus.OPEN " +
+            "AND a.endTime > :now")
+    int closeAtPrice(@Param("id") UUID id,
+                     @Param("price") BigDecimal price,
+                     @Param("buyer") User buyer,
+                     @Param("now") LocalDateTime now);
+
     @Query("SELECT a FROM Auction a WHERE a.status = :status AND a.endTime <= :now")
     List<Auction> findExpiredAuctions(@Param("status") AuctionStatus status, @Param("now") LocalDateTime now);
 
+    @Query("SELECT a.id FROM Auction a WHERE a.status = :status AND a.endTime <= :now")
+    List<UUID> findExpiredAuctionIds(@Param("status") AuctionStatus status, @Param("now") LocalDateTime now);
+
     List<Auction> findBySellerId(UUID sellerId);
+
+    /**
+     * Auctions closed before {@code cutoff} whose bids still need archiving, or were archived but
+     * not yet fully deleted from the bid table.
+     */
+    @Query("SELECT a.id FROM Auction a " +
+            "WHERE a.status = com.aktiia.bidapplication.model.enums.AuctionStatus.CLOSED AND a.endTime < :cutoff " +
+            "AND (a.archivedBidCount IS NULL OR EXISTS (SELECT b.id FROM Bid b WHERE b.auction = a)) " +
+            "ORDER BY a.endTime")
+    List<UUID> findIdsToArchive(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Every auction's searchable fields, without loading entities, for building the in-memory search index.
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.description AS description, a.type AS type, " +
+            "a.status AS status, a.currentHighestBid AS currentHighestBid, a.endTime AS endTime FROM Auction a")
+    List<SearchDocument> findSearchDocuments();
+
+    @Query("SELECT a.id AS id, a.title AS title, a.description AS description, a.type AS type, " +
+            "a.status AS status, a.currentHighestBid AS currentHighestBid, a.endTime AS endTime FROM Auction a " +
+            "WHERE a.id IN :ids")
+    List<SearchDocument> findSearchDocumentsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT a.id AS id, a.title AS title, a.type AS type, a.currentHighestBid AS currentHighestBid, " +
+            "a.endTime AS endTime FROM Auction a WHERE a.status = :status")
+    List<BrowseEntry> findBrowseEntriesByStatus(@Param("status") AuctionStatus status);
+
+    /**
+     * Cold-start fallback for the ending-soon browse index, served by {@code idx_auction_status_end_time}.
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.type AS type, a.currentHighestBid AS currentHighestBid, " +
+            "a.endTime AS endTime FROM Auction a WHERE a.status = :status AND a.endTime > :now " +
+            "ORDER BY a.endTime, a.id")
+    Slice<BrowseEntry> findBrowseEntriesEndingAfter(@Param("status") AuctionStatus status,
+                                                    @Param("now") LocalDateTime now,
+                                                    Pageable pageable);
+
+    /**
+     * Cold-start fallback for the price-range browse index, served by {@code idx_auction_status_price}.
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.type AS type, a.currentHighestBid AS currentHighestBid, " +
+            "a.endTime AS endTime FROM Auction a WHERE a.status = :status " +
+            "AND a.type <> com.aktiia.bidapplication.model.enums.AuctionType.DUTCH " +
+            "AND a.currentHighestBid BETWEEN :min AND :max ORDER BY a.currentHighestBid, a.id")
+    Slice<BrowseEntry> findBrowseEntriesPricedBetween(@Param("status") AuctionStatus status,
+                                                      @Param("min") BigDecimal min,
+                                                      @Param("max") BigDecimal max,
+                                                      Pageable pageable);
+
+    interface BrowseEntry {
+        UUID getId();
+
+        String getTitle();
+
+        AuctionType getType();
+
+        BigDecimal getCurrentHighestBid();
+
+        LocalDateTime getEndTime();
+    }
+
+    interface SearchDocument {
+        UUID getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        AuctionType getType();
+
+        AuctionStatus getStatus();
+
+        BigDecimal getCurrentHighestBid();
+
+        LocalDateTime getEndTime();
+    }
 }
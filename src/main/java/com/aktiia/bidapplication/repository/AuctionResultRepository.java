@@ -0,0 +1,14 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.AuctionResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AuctionResultRepository extends JpaRepository<AuctionResult, UUID> {
+
+    Optional<AuctionResult> findByAuctionId(UUID auctionId);
+}
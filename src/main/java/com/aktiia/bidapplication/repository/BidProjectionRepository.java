@@ -0,0 +1,20 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.enums.BidField;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bid reads that select only the requested columns, see {@link BidProjectionRepositoryImpl}.
+ */
+public interface BidProjectionRepository {
+
+    /**
+     * The auction's bids, highest first, one tuple each with an element per field aliased by its
+     * field name.
+     */
+    List<Tuple> findProjectedByAuctionId(UUID auctionId, Set<BidField> fields);
+}
@@ -0,0 +1,48 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.enums.BidField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Builds the bid projection from the requested fields; the bidder is only joined for
+ * {@code bidderUsername}, the auction id is read from the bid's own foreign key.
+ */
+public class BidProjectionRepositoryImpl implements BidProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findProjectedByAuctionId(final UUID auctionId, final Set<BidField> fields) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<Bid> bid = query.from(Bid.class);
+
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> column(bid, field).alias(field.fieldName()))
+                .toList());
+        query.where(builder.equal(bid.get("auction").get("id"), auctionId));
+        query.orderBy(builder.desc(bid.get("amount")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static Expression<?> column(final Root<Bid> bid, final BidField field) {
+        return switch (field) {
+            case BIDDER_USERNAME -> bid.join("bidder").get("username");
+            case AUCTION_ID -> bid.get("auction").get("id");
+            default -> bid.get(field.fieldName());
+        };
+    }
+}
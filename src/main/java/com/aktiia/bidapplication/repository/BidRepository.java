@@ -1,26 +1,80 @@
 package com.aktiia.bidapplication.repository;
 
 import com.aktiia.bidapplication.model.entity.Bid;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface BidRepository extends JpaRepository<Bid, UUID> {
+public interface BidRepository extends JpaRepository<Bid, UUID>, BidProjectionRepository {
 
     List<Bid> findByAuctionIdOrderByAmountDesc(UUID auctionId);
 
     @Query("SELECT b FROM Bid b " +
             "WHERE b.auction.id = :auctionId " +
-            "ORDER BY b.amount DESC LIMIT :limit")
+            "ORDER BY b.amount DESC, b.placedAt ASC LIMIT :limit")
     List<Bid> findTopBidsByAuctionId(@Param("auctionId") UUID auctionId, @Param("limit") int limit);
 
+    List<Bid> findByAuctionIdOrderByPlacedAtAsc(UUID auctionId);
+
+    /**
+     * The best bid on the auction by anyone but {@code bidderId}, the price of a second-price win.
+     */
+    @Query("SELECT MAX(b.amount) FROM Bid b WHERE b.auction.id = :auctionId AND b.bidder.id <> :bidderId")
+    Optional<BigDecimal> findHighestAmountExcludingBidder(@Param("auctionId") UUID auctionId,
+                                                          @Param("bidderId") UUID bidderId);
+
     Optional<Bid> findTopByAuctionIdOrderByAmountDesc(UUID auctionId);
 
     int countByAuctionId(UUID auctionId);
+
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder WHERE b.auction.id = :auctionId")
+    List<Bid> findWithBidderByAuctionId(@Param("auctionId") UUID auctionId);
+
+    @Query("SELECT b.id FROM Bid b WHERE b.auction.id = :auctionId")
+    List<UUID> findIdsByAuctionId(@Param("auctionId") UUID auctionId, Pageable pageable);
+
+    @Query("SELECT b.auction.id AS auctionId, COUNT(b) AS bidCount FROM Bid b " +
+            "WHERE b.auction.id IN :auctionIds GROUP BY b.auction.id")
+    List<BidCount> countByAuctionIds(@Param("auctionIds") Collection<UUID> auctionIds);
+
+    /**
+     * The {@code limit} highest bids of each auction (earliest first on ties) in one statement,
+     * ranked with a window function instead of one {@code LIMIT} query per auction.
+     */
+    @Query(value = "SELECT r.id AS \"id\", r.auction_id AS \"auctionId\", r.amount AS \"amount\", " +
+            "u.username AS \"bidderUsername\", r.placed_at AS \"placedAt\" " +
+            "FROM (SELECT b.id, b.auction_id, b.bidder_id, b.amount, b.placed_at, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.auction_id ORDER BY b.amount DESC, b.placed_at ASC) AS rn " +
+            "FROM bid b WHERE b.auction_id IN (:auctionIds)) r " +
+            "JOIN users u ON u.id = r.bidder_id " +
+            "WHERE r.rn <= :limit ORDER BY r.auction_id, r.rn", nativeQuery = true)
+    List<TopBid> findTopBidsByAuctionIds(@Param("auctionIds") Collection<UUID> auctionIds, @Param("limit") int limit);
+
+    interface BidCount {
+        UUID getAuctionId();
+
+        long getBidCount();
+    }
+
+    interface TopBid {
+        UUID getId();
+
+        UUID getAuctionId();
+
+        BigDecimal getAmount();
+
+        String getBidderUsername();
+
+        LocalDateTime getPlacedAt();
+    }
 }
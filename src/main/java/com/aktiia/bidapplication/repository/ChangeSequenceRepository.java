@@ -0,0 +1,19 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.ChangeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ChangeSequence s WHERE s.name = :name")
+    Optional<ChangeSequence> findByNameForUpdate(@Param("name") String name);
+}
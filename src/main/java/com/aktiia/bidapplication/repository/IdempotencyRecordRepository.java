@@ -0,0 +1,39 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Inserts the key straight away, so a second transaction claiming it waits on the row and
+     * then fails on the primary key instead of placing the bid again.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_key (id, request_hash, created_at) VALUES (:id, :requestHash, :createdAt)",
+            nativeQuery = true)
+    void claim(@Param("id") String id, @Param("requestHash") String requestHash, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.bidId = :bidId, r.auctionId = :auctionId, r.amount = :amount, " +
+            "r.bidderUsername = :bidderUsername, r.placedAt = :placedAt WHERE r.id = :id")
+    void complete(@Param("id") String id,
+                  @Param("bidId") UUID bidId,
+                  @Param("auctionId") UUID auctionId,
+                  @Param("amount") BigDecimal amount,
+                  @Param("bidderUsername") String bidderUsername,
+                  @Param("placedAt") LocalDateTime placedAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
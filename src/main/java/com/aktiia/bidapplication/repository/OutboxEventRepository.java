@@ -0,0 +1,46 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Recipients whose oldest pending notification has waited at least until {@code cutoff}.
+     */
+    @Query("SELECT e.recipientId FROM OutboxEvent e " +
+            "WHERE e.dispatchedAt IS NULL " +
+            "GROUP BY e.recipientId " +
+            "HAVING MIN(e.createdAt) <= :cutoff")
+    List<UUID> findRecipientsDue(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Pending notifications of the given recipients, locked for delivery. Rows another dispatcher
+     * already holds are skipped where the database supports it (lock timeout -2 is SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.dispatchedAt IS NULL AND e.recipientId IN :recipientIds " +
+            "ORDER BY e.recipientId, e.createdAt")
+    List<OutboxEvent> findPendingForUpdate(@Param("recipientIds") Collection<UUID> recipientIds);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :now WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
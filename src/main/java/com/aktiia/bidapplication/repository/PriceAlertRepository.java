@@ -0,0 +1,48 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.PriceAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PriceAlertRepository extends JpaRepository<PriceAlert, UUID> {
+
+    @Query("SELECT a FROM PriceAlert a JOIN FETCH a.user WHERE a.triggeredAt IS NULL AND a.auctionId IS NULL")
+    List<PriceAlert> findActiveSearchAlerts();
+
+    @Query("SELECT a FROM PriceAlert a JOIN FETCH a.user WHERE a.triggeredAt IS NULL AND a.auctionId IS NULL " +
+            "AND a.createdAt > :since")
+    List<PriceAlert> findActiveSearchAlertsCreatedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * The auction's unfired alerts whose threshold a price move from {@code previous} to
+     * {@code current} reached: {@code previous < threshold <= current}.
+     */
+    @Query("SELECT a FROM PriceAlert a JOIN FETCH a.user WHERE a.auctionId = :auctionId AND a.triggeredAt IS NULL " +
+            "AND a.threshold > :previous AND a.threshold <= :current")
+    List<PriceAlert> findCrossed(@Param("auctionId") UUID auctionId,
+                                 @Param("previous") BigDecimal previous,
+                                 @Param("current") BigDecimal current);
+
+    List<PriceAlert> findByUserIdAndTriggeredAtIsNullOrderByCreatedAtDesc(UUID userId);
+
+    Optional<PriceAlert> findByIdAndUserId(UUID id, UUID userId);
+
+    @Modifying
+    @Query("UPDATE PriceAlert a SET a.triggeredAt = :now WHERE a.id IN :ids AND a.triggeredAt IS NULL")
+    int markTriggered(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM PriceAlert a WHERE a.auctionId = :auctionId AND a.triggeredAt IS NULL")
+    int deleteUntriggeredByAuctionId(@Param("auctionId") UUID auctionId);
+}
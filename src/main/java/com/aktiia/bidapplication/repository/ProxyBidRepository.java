@@ -0,0 +1,28 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, UUID> {
+
+    Optional<ProxyBid> findByAuctionIdAndBidderId(UUID auctionId, UUID bidderId);
+
+    /**
+     * Strongest competing proxy that can still beat the given amount. Ties on the maximum go to
+     * the proxy that was registered first.
+     */
+    @Query("SELECT p FROM ProxyBid p JOIN FETCH p.bidder " +
+            "WHERE p.auction.id = :auctionId AND p.bidder.id <> :bidderId AND p.maxAmount > :amount " +
+            "ORDER BY p.maxAmount DESC, p.createdAt ASC LIMIT 1")
+    Optional<ProxyBid> findStrongestRival(@Param("auctionId") UUID auctionId,
+                                          @Param("bidderId") UUID bidderId,
+                                          @Param("amount") BigDecimal amount);
+}
@@ -0,0 +1,49 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, UUID> {
+
+    /**
+     * Every saved search as plain values, for building the in-memory matcher.
+     */
+    @Query("SELECT s.id AS id, s.user.id AS userId, s.searchQuery AS searchQuery, s.maxPrice AS maxPrice " +
+            "FROM SavedSearch s")
+    List<SavedSearchEntry> findAllEntries();
+
+    @Query("SELECT s.id AS id, s.user.id AS userId, s.searchQuery AS searchQuery, s.maxPrice AS maxPrice " +
+            "FROM SavedSearch s WHERE s.createdAt > :since")
+    List<SavedSearchEntry> findEntriesCreatedAfter(@Param("since") LocalDateTime since);
+
+    @Query("SELECT s.id FROM SavedSearch s WHERE s.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    List<SavedSearch> findByUserIdOrderByCreatedAtDesc(UUID userId);
+
+    Optional<SavedSearch> findByIdAndUserId(UUID id, UUID userId);
+
+    long countByUserId(UUID userId);
+
+    interface SavedSearchEntry {
+        UUID getId();
+
+        UUID getUserId();
+
+        String getSearchQuery();
+
+        BigDecimal getMaxPrice();
+    }
+}
@@ -0,0 +1,39 @@
+package com.aktiia.bidapplication.repository;
+
+import com.aktiia.bidapplication.model.entity.WatchlistEntry;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WatchlistRepository extends JpaRepository<WatchlistEntry, UUID> {
+
+    boolean existsByUserIdAndAuctionId(UUID userId, UUID auctionId);
+
+    @Modifying
+    @Query("DELETE FROM WatchlistEntry w WHERE w.user.id = :userId AND w.auction.id = :auctionId")
+    int deleteByUserIdAndAuctionId(@Param("userId") UUID userId, @Param("auctionId") UUID auctionId);
+
+    @Query("SELECT w FROM WatchlistEntry w JOIN FETCH w.auction " +
+            "WHERE w.user.id = :userId ORDER BY w.createdAt DESC")
+    List<WatchlistEntry> findByUserIdWithAuction(@Param("userId") UUID userId);
+
+    /**
+     * Watcher pairs of every auction in the given status, as plain ids, for building the in-memory index.
+     */
+    @Query("SELECT w.auction.id AS auctionId, w.user.id AS userId FROM WatchlistEntry w " +
+            "WHERE w.auction.status = :status")
+    List<WatchPair> findWatchPairsByAuctionStatus(@Param("status") AuctionStatus status);
+
+    interface WatchPair {
+        UUID getAuctionId();
+
+        UUID getUserId();
+    }
+}
@@ -0,0 +1,308 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.model.dto.response.AuctionSummaryResponse;
+import com.aktiia.bidapplication.model.dto.response.BrowsePageResponse;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.AuctionUpdatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionRepository.BrowseEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * "Ending soon" and "priced between" pages of open auctions, served from two skip-list indexes.
+ * <p>
+ * Each open auction is held once in a map of summaries and keyed into one skip list by end
+ * time and one by price in cents (Dutch auctions are left out of the price index, their price
+ * moves with the clock). A page is a range view of the skip list, so it costs the entries
+ * skipped and returned rather than a sort of every open auction, and readers never block
+ * writers. Changes from create, update, bid and close events are applied after commit, one
+ * auction at a time inside the summary map's {@code compute}.
+ * <p>
+ * Those events only cover this instance. Changes made through any instance reach the indexes
+ * from the change feed, see {@link AuctionChangeFeedFollower}, within a poll interval; the ones
+ * made here arrive a second time and apply again unchanged. A replayed creation never replaces
+ * a summary, prices only rise, and an auction closed here is not brought back by older changes
+ * still on their way. Price pages also skip auctions whose end time has passed but which the
+ * close job has not closed yet.
+ * <p>
+ * Until the indexes are loaded at startup, pages are read from the database through the
+ * {@code (status, end_time)} and {@code (status, current_highest_bid)} indexes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionBrowseService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<EndKey> END_ORDER = Comparator.comparing(EndKey::endTime)
+            .thenComparing(EndKey::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+    private static final Comparator<PriceKey> PRICE_ORDER = Comparator.comparingLong(PriceKey::cents)
+            .thenComparing(PriceKey::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final AuctionRepository auctionRepository;
+
+    private final Map<UUID, AuctionSummaryResponse> openAuctions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<EndKey, UUID> byEndTime = new ConcurrentSkipListMap<>(END_ORDER);
+    private final ConcurrentSkipListMap<PriceKey, UUID> byPrice = new ConcurrentSkipListMap<>(PRICE_ORDER);
+    // Closed here, waiting for the close to come by on the change feed
+    private final Set<UUID> closedAhead = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndexes() {
+        final List<BrowseEntry> entries = auctionRepository.findBrowseEntriesByStatus(AuctionStatus.OPEN);
+        entries.forEach(entry -> openAuctions.computeIfAbsent(entry.getId(), id -> link(mapToResponse(entry))));
+        loaded = true;
+        log.info("Browse indexes loaded: {} open auction(s)", entries.size());
+    }
+
+    public BrowsePageResponse getEndingSoon(final int page, final int size) {
+        validatePage(page, size);
+        final LocalDateTime now = LocalDateTime.now();
+
+        if (!loaded) {
+            return mapToPage(auctionRepository.findBrowseEntriesEndingAfter(AuctionStatus.OPEN, now,
+                    PageRequest.of(page, size)), page, size);
+        }
+        return slice(byEndTime.tailMap(new EndKey(now, null), false), now, page, size);
+    }
+
+    public BrowsePageResponse getPricedBetween(final BigDecimal min, final BigDecimal max, final int page, final int size) {
+        validatePage(page, size);
+        if (min.signum() < 0 || min.compareTo(max) > 0) {
+            throw new BadRequestException("Price range must satisfy 0 <= min <= max");
+        }
+
+        if (!loaded) {
+            return mapToPage(auctionRepository.findBrowseEntriesPricedBetween(AuctionStatus.OPEN, min, max,
+                    PageRequest.of(page, size)), page, size);
+        }
+        final long fromCents = min.setScale(2, RoundingMode.CEILING).unscaledValue().longValueExact();
+        final long toCents = Money.ofRoundedDown(max).cents() + 1;
+        return slice(byPrice.subMap(new PriceKey(fromCents, null), true, new PriceKey(toCents, null), false),
+                LocalDateTime.now(), page, size);
+    }
+
+    @TransactionalEventListener
+    public void onAuctionCreated(final AuctionCreatedEvent event) {
+        update(event.auctionId(), current -> AuctionSummaryResponse.builder()
+                .id(event.auctionId())
+                .title(event.title())
+                .type(event.type())
+                .currentHighestBid(event.startingPrice())
+                .endTime(event.endTime())
+                .build(), true);
+    }
+
+    @TransactionalEventListener
+    public void onAuctionUpdated(final AuctionUpdatedEvent event) {
+        update(event.auctionId(), current -> new AuctionSummaryResponse(current.id(), event.title(), current.type(),
+                event.currentHighestBid(), event.endTime()), false);
+    }
+
+    @TransactionalEventListener
+    public void onBidPlaced(final BidPlacedEvent event) {
+        update(event.auctionId(), current -> raised(current, event.currentPrice(), event.endTime()), false);
+    }
+
+    @TransactionalEventListener
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        closedAhead.add(event.auctionId());
+        remove(event.auctionId());
+    }
+
+    @EventListener
+    public void onFeedChanges(final AuctionChangesEvent event) {
+        if (event.resyncRequired()) {
+            resync();
+            return;
+        }
+        event.changes().forEach(this::apply);
+    }
+
+    private void apply(final AuctionChange change) {
+        final UUID auctionId = change.getAuctionId();
+        if (change.getChange() == AuctionChangeType.CLOSED) {
+            remove(auctionId);
+            closedAhead.remove(auctionId);
+            return;
+        }
+        if (closedAhead.contains(auctionId)) {
+            return;
+        }
+        switch (change.getChange()) {
+            case CREATED -> update(auctionId, current -> current != null ? current : AuctionSummaryResponse.builder()
+                    .id(auctionId)
+                    .title(change.getTitle())
+                    .type(change.getType())
+                    .currentHighestBid(change.getCurrentPrice())
+                    .endTime(change.getEndTime())
+                    .build(), true);
+            case UPDATED -> update(auctionId, current -> new AuctionSummaryResponse(current.id(), change.getTitle(),
+                    current.type(), change.getCurrentPrice(), change.getEndTime()), false);
+            case BID_PLACED -> update(auctionId, current -> raised(current, change.getCurrentPrice(),
+                    change.getEndTime()), false);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Reloads the open auctions after changes were purged from the feed unread. Summaries are
+     * replaced one by one, so pages keep being served meanwhile.
+     */
+    private void resync() {
+        final List<BrowseEntry> entries = auctionRepository.findBrowseEntriesByStatus(AuctionStatus.OPEN);
+        final Set<UUID> open = new HashSet<>();
+        for (final BrowseEntry entry : entries) {
+            final AuctionSummaryResponse summary = mapToResponse(entry);
+            open.add(summary.id());
+            update(summary.id(), current -> summary, true);
+        }
+        openAuctions.keySet().stream()
+                .filter(id -> !open.contains(id))
+                .toList()
+                .forEach(this::remove);
+        closedAhead.clear();
+        log.info("Browse indexes resynced: {} open auction(s)", entries.size());
+    }
+
+    private static AuctionSummaryResponse raised(final AuctionSummaryResponse current,
+                                                 final BigDecimal price,
+                                                 final LocalDateTime endTime) {
+        return current.currentHighestBid().compareTo(price) < 0
+                ? new AuctionSummaryResponse(current.id(), current.title(), current.type(), price, endTime)
+                : current;
+    }
+
+    private void remove(final UUID auctionId) {
+        openAuctions.computeIfPresent(auctionId, (id, current) -> {
+            unlink(current);
+            return null;
+        });
+    }
+
+    private void update(final UUID auctionId,
+                        final UnaryOperator<AuctionSummaryResponse> change,
+                        final boolean create) {
+        openAuctions.compute(auctionId, (id, current) -> {
+            if (current == null && !create) {
+                return null;
+            }
+            final AuctionSummaryResponse next = change.apply(current);
+            if (current != null) {
+                unlink(current);
+            }
+            return link(next);
+        });
+    }
+
+    private AuctionSummaryResponse link(final AuctionSummaryResponse auction) {
+        byEndTime.put(new EndKey(auction.endTime(), auction.id()), auction.id());
+        if (auction.type() != AuctionType.DUTCH) {
+            byPrice.put(new PriceKey(Money.ofRoundedDown(auction.currentHighestBid()).cents(), auction.id()), auction.id());
+        }
+        return auction;
+    }
+
+    private void unlink(final AuctionSummaryResponse auction) {
+        byEndTime.remove(new EndKey(auction.endTime(), auction.id()));
+        if (auction.type() != AuctionType.DUTCH) {
+            byPrice.remove(new PriceKey(Money.ofRoundedDown(auction.currentHighestBid()).cents(), auction.id()));
+        }
+    }
+
+    private BrowsePageResponse slice(final NavigableMap<?, UUID> range, final LocalDateTime now, final int page,
+                                     final int size) {
+        final List<AuctionSummaryResponse> items = new ArrayList<>(size);
+        long toSkip = (long) page * size;
+        boolean hasNext = false;
+
+        for (final UUID id : range.values()) {
+            final AuctionSummaryResponse auction = openAuctions.get(id);
+            if (auction == null || !auction.endTime().isAfter(now)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+            } else if (items.size() < size) {
+                items.add(auction);
+            } else {
+                hasNext = true;
+                break;
+            }
+        }
+
+        return BrowsePageResponse.builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private BrowsePageResponse mapToPage(final Slice<BrowseEntry> slice, final int page, final int size) {
+        return BrowsePageResponse.builder()
+                .items(slice.map(this::mapToResponse).getContent())
+                .page(page)
+                .size(size)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    private AuctionSummaryResponse mapToResponse(final BrowseEntry entry) {
+        return AuctionSummaryResponse.builder()
+                .id(entry.getId())
+                .title(entry.getTitle())
+                .type(entry.getType())
+                .currentHighestBid(entry.getCurrentHighestBid())
+                .endTime(entry.getEndTime())
+                .build();
+    }
+
+    private static void validatePage(final int page, final int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private record EndKey(LocalDateTime endTime, UUID id) {
+    }
+
+    private record PriceKey(long cents, UUID id) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.entity.ChangeSequence;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.repository.AuctionChangeRepository;
+import com.aktiia.bidapplication.repository.ChangeSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Follows the auction change feed on behalf of this instance's in-memory views, so they see the
+ * changes made through every instance and not only the events of their own.
+ * <p>
+ * The cursor is taken when the context is refreshed, before the views load from the tables at
+ * startup, so a change committed in between is seen twice and never missed. Every
+ * {@code app.change-feed.follow-interval-ms} the changes after the cursor are read in pages of
+ * {@code app.change-feed.follow-batch-size} and published as an {@link AuctionChangesEvent}.
+ * Feed numbers follow commit order, so reading past a number never skips a change committed
+ * later. If the changes after the cursor have been purged, listeners are told to resync.
+ */
+@Slf4j
+@Service
+public class AuctionChangeFeedFollower {
+
+    private final AuctionChangeRepository auctionChangeRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private volatile Long cursor;
+
+    public AuctionChangeFeedFollower(final AuctionChangeRepository auctionChangeRepository,
+                                     final ChangeSequenceRepository changeSequenceRepository,
+                                     final ApplicationEventPublisher eventPublisher,
+                                     @Value("${app.change-feed.follow-batch-size:500}") final int batchSize) {
+        this.auctionChangeRepository = auctionChangeRepository;
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void start() {
+        if (cursor == null) {
+            cursor = lastSequence();
+            log.info("Following the auction change feed from {}", cursor);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.follow-interval-ms:1000}")
+    public synchronized void follow() {
+        if (cursor == null) {
+            return;
+        }
+
+        final long oldest = auctionChangeRepository.findOldestSequence().orElse(Long.MAX_VALUE);
+        if (oldest != Long.MAX_VALUE && cursor < oldest - 1) {
+            log.warn("Auction changes after {} were purged before they were read, resyncing from {}", cursor, oldest);
+            cursor = lastSequence();
+            eventPublisher.publishEvent(new AuctionChangesEvent(List.of(), true));
+            return;
+        }
+
+        List<AuctionChange> changes;
+        do {
+            changes = auctionChangeRepository.findAfter(cursor, PageRequest.of(0, batchSize));
+            if (changes.isEmpty()) {
+                return;
+            }
+            eventPublisher.publishEvent(new AuctionChangesEvent(changes, false));
+            cursor = changes.getLast().getSequence();
+        } while (changes.size() == batchSize);
+    }
+
+    private long lastSequence() {
+        return changeSequenceRepository.findById(AuctionChangeFeedService.SEQUENCE)
+                .map(ChangeSequence::getLastValue)
+                .orElse(0L);
+    }
+}
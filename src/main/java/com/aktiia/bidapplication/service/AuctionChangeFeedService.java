@@ -0,0 +1,187 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.model.dto.response.ChangeFeedEntryResponse;
+import com.aktiia.bidapplication.model.dto.response.ChangeFeedResponse;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.entity.ChangeSequence;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.AuctionUpdatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionChangeRepository;
+import com.aktiia.bidapplication.repository.ChangeSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Feed of auction changes for clients that keep a copy of the catalog.
+ * <p>
+ * Creates, updates, bids and closes are written to the {@code auction_change} table by the
+ * transaction that made them, just before it commits. Each change is numbered from the
+ * {@code change_sequence} row, which stays locked until that commit, so numbers follow commit
+ * order across every instance of the application: once a change is visible, every change with
+ * a lower number is too, and two bids on one auction are numbered in the order they were
+ * accepted. The price is that commits of changing transactions queue for the row lock briefly.
+ * <p>
+ * A client reads the feed from an opaque cursor, the number of the last change it read, and
+ * pays for the changes since, not for the catalog. The newest {@code app.change-feed.capacity}
+ * changes are kept; a cursor from before them answers with {@code resyncRequired} and a fresh
+ * cursor instead.
+ * <p>
+ * A client starting from scratch takes a cursor first (no {@code since}), then downloads the
+ * catalog, then follows the feed; changes that land in between are seen twice, never missed.
+ */
+@Slf4j
+@Service
+public class AuctionChangeFeedService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    static final String SEQUENCE = "auction_change";
+
+    private final AuctionChangeRepository auctionChangeRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final int capacity;
+
+    public AuctionChangeFeedService(final AuctionChangeRepository auctionChangeRepository,
+                                    final ChangeSequenceRepository changeSequenceRepository,
+                                    @Value("${app.change-feed.capacity:100000}") final int capacity) {
+        this.auctionChangeRepository = auctionChangeRepository;
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.capacity = capacity;
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChanges(final String since, final int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        final long lastSequence = lastSequence();
+        if (since == null || since.isBlank()) {
+            return resync(false, lastSequence);
+        }
+
+        final long after;
+        try {
+            after = Long.parseLong(since);
+        } catch (final NumberFormatException e) {
+            throw new BadRequestException("Invalid change feed cursor: " + since);
+        }
+        if (after < 0) {
+            throw new BadRequestException("Invalid change feed cursor: " + since);
+        }
+        // Everything before the oldest kept change has been purged
+        final long oldest = auctionChangeRepository.findOldestSequence().orElse(lastSequence + 1);
+        if (after < oldest - 1) {
+            log.debug("Change feed cursor {} expired", since);
+            return resync(true, lastSequence);
+        }
+
+        final List<AuctionChange> read = auctionChangeRepository.findAfter(after, PageRequest.of(0, limit + 1));
+        final List<AuctionChange> page = read.subList(0, Math.min(limit, read.size()));
+        return ChangeFeedResponse.builder()
+                .changes(page.stream().map(AuctionChangeFeedService::mapToResponse).toList())
+                .cursor(page.isEmpty() ? since : Long.toString(page.getLast().getSequence()))
+                .hasMore(read.size() > limit)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAuctionCreated(final AuctionCreatedEvent event) {
+        append(AuctionChange.builder()
+                .change(AuctionChangeType.CREATED)
+                .auctionId(event.auctionId())
+                .title(event.title())
+                .type(event.type())
+                .status(AuctionStatus.OPEN)
+                .currentPrice(event.startingPrice())
+                .endTime(event.endTime())
+                .changedAt(LocalDateTime.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAuctionUpdated(final AuctionUpdatedEvent event) {
+        append(AuctionChange.builder()
+                .change(AuctionChangeType.UPDATED)
+                .auctionId(event.auctionId())
+                .title(event.title())
+                .currentPrice(event.currentHighestBid())
+                .endTime(event.endTime())
+                .changedAt(LocalDateTime.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBidPlaced(final BidPlacedEvent event) {
+        append(AuctionChange.builder()
+                .change(AuctionChangeType.BID_PLACED)
+                .auctionId(event.auctionId())
+                .currentPrice(event.currentPrice())
+                .endTime(event.endTime())
+                .changedAt(event.placedAt()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        append(AuctionChange.builder()
+                .change(AuctionChangeType.CLOSED)
+                .auctionId(event.auctionId())
+                .status(AuctionStatus.CLOSED)
+                .currentPrice(event.finalPrice())
+                .changedAt(event.closedAt()));
+    }
+
+    @Scheduled(fixedRateString = "${app.change-feed.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeOldChanges() {
+        final int purged = auctionChangeRepository.deleteUpTo(lastSequence() - capacity);
+        log.debug("Purged {} old auction change(s)", purged);
+    }
+
+    /**
+     * Numbers the change and writes it. Runs inside the changing transaction, which keeps the
+     * sequence row locked until it commits.
+     */
+    private void append(final AuctionChange.AuctionChangeBuilder change) {
+        final ChangeSequence sequence = changeSequenceRepository.findByNameForUpdate(SEQUENCE)
+                .orElseThrow(() -> new IllegalStateException("Missing change sequence " + SEQUENCE));
+        sequence.setLastValue(sequence.getLastValue() + 1);
+        auctionChangeRepository.save(change.sequence(sequence.getLastValue()).build());
+    }
+
+    private long lastSequence() {
+        return changeSequenceRepository.findById(SEQUENCE).map(ChangeSequence::getLastValue).orElse(0L);
+    }
+
+    private ChangeFeedResponse resync(final boolean required, final long lastSequence) {
+        return ChangeFeedResponse.builder()
+                .changes(List.of())
+                .cursor(Long.toString(lastSequence))
+                .resyncRequired(required)
+                .build();
+    }
+
+    private static ChangeFeedEntryResponse mapToResponse(final AuctionChange change) {
+        return ChangeFeedEntryResponse.builder()
+                .change(change.getChange())
+                .auctionId(change.getAuctionId())
+                .title(change.getTitle())
+                .type(change.getType())
+                .status(change.getStatus())
+                .currentPrice(change.getCurrentPrice())
+                .endTime(change.getEndTime())
+                .changedAt(change.getChangedAt())
+                .build();
+    }
+}
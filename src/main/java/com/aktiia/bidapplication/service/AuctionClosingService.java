@@ -0,0 +1,85 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Single place where an auction transitions from {@code OPEN} to {@code CLOSED}, shared by the
+ * Quartz close job and the expired-auction sweeper. Callers are responsible for saving the auction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionClosingService {
+
+    private final BidRepository bidRepository;
+    private final OrderBookService orderBookService;
+    private final UserRepository userRepository;
+
+    /**
+     * Closes the auction, which must be locked by the caller.
+     *
+     * @return everyone who won a unit, top bidder first; empty when nothing was sold or the
+     * auction was already closed
+     */
+    public List<User> close(final Auction auction) {
+        if (auction.getStatus() == AuctionStatus.CLOSED) {
+            return List.of();
+        }
+
+        if (auction.getType().isSealed()) {
+            settleSealedBids(auction);
+        }
+        final List<User> winners;
+        if (auction.getType() == AuctionType.MULTI_UNIT) {
+            // Every winning bidder takes a unit at the clearing price already maintained on the auction
+            winners = orderBookService.book(auction).winnerIds().stream()
+                    .map(userRepository::getReferenceById)
+                    .toList();
+            orderBookService.evict(auction.getId());
+        } else {
+            winners = auction.getHighestBidder() != null ? List.of(auction.getHighestBidder()) : List.of();
+        }
+        auction.setStatus(AuctionStatus.CLOSED);
+        return winners;
+    }
+
+    /**
+     * Sealed bids are never compared while the auction is open, so the winner and the clearing
+     * price are computed exactly once, here. The highest bid wins (earliest on ties) and pays its
+     * own amount in a first-price auction. In a second-price auction it pays the best bid of any
+     * other bidder (the starting price when there is none), so a winner who bid more than once
+     * never pays their own second bid.
+     */
+    private void settleSealedBids(final Auction auction) {
+        final List<Bid> topBids = bidRepository.findTopBidsByAuctionId(auction.getId(), 1);
+        if (topBids.isEmpty()) {
+            return;
+        }
+
+        final Bid winningBid = topBids.getFirst();
+        final BigDecimal clearingPrice;
+        if (auction.getType() == AuctionType.SEALED_FIRST_PRICE) {
+            clearingPrice = winningBid.getAmount();
+        } else {
+            clearingPrice = bidRepository.findHighestAmountExcludingBidder(auction.getId(), winningBid.getBidder().getId())
+                    .orElse(auction.getStartingPrice());
+        }
+
+        auction.setCurrentHighestBid(clearingPrice);
+        auction.setHighestBidder(winningBid.getBidder());
+        log.info("Sealed auction settled: id={}, type={}, clearingPrice={}",
+                auction.getId(), auction.getType(), clearingPrice);
+    }
+}
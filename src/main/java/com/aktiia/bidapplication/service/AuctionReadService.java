@@ -0,0 +1,45 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.ReplicaRoutingDataSource;
+import com.aktiia.bidapplication.helper.SingleFlight;
+import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
+import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Single-auction reads with concurrent identical requests coalesced.
+ * <p>
+ * When an auction trends, many requests for it arrive within the same few milliseconds. Each
+ * read goes through a {@link SingleFlight} keyed by auction id, so one caller runs
+ * {@link AuctionService}'s queries and the callers that arrive meanwhile share its result.
+ * Nothing is kept once the read completes, so answers are as fresh as without coalescing.
+ * Reads that may use the replica are only coalesced with each other, so a client reading its
+ * own writes from the primary never shares the answer of a lagging copy.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionReadService {
+
+    private final AuctionService auctionService;
+
+    private final SingleFlight<ReadKey, AuctionResponse> auctionReads = new SingleFlight<>();
+    private final SingleFlight<ReadKey, AuctionStatusResponse> statusReads = new SingleFlight<>();
+
+    public AuctionResponse getAuction(final UUID auctionId) {
+        return auctionReads.execute(ReadKey.of(auctionId), () -> auctionService.getAuction(auctionId));
+    }
+
+    public AuctionStatusResponse getAuctionStatus(final UUID auctionId) {
+        return statusReads.execute(ReadKey.of(auctionId), () -> auctionService.getAuctionStatus(auctionId));
+    }
+
+    private record ReadKey(UUID auctionId, boolean replica) {
+
+        private static ReadKey of(final UUID auctionId) {
+            return new ReadKey(auctionId, ReplicaRoutingDataSource.replicaReadsAllowed());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.helper.InvertedIndex;
+import com.aktiia.bidapplication.helper.InvertedIndex.Document;
+import com.aktiia.bidapplication.model.dto.response.AuctionSearchResponse;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.AuctionUpdatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionRepository.SearchDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Full-text auction search served entirely from memory.
+ * <p>
+ * Titles and descriptions are held in an {@link InvertedIndex}; the few fields a result shows
+ * are held in a catalog of snapshots keyed by auction id. Both are built once at startup, with
+ * tokenizing spread over the common pool, and then kept current from the auction and bid
+ * events after their transactions commit, so a search never queries the database. Results
+ * show the last stored price, which for a Dutch auction is the price it was listed at.
+ * <p>
+ * Those events only cover this instance. Changes made through any instance arrive from the
+ * change feed, see {@link AuctionChangeFeedFollower}, within a poll interval. The feed carries
+ * no descriptions, so auctions created or edited are re-read from the table, whose current row
+ * also makes a change seen twice harmless; bids only ever raise the stored price.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionSearchService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final AuctionRepository auctionRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final Map<UUID, AuctionSnapshot> catalog = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        final long start = System.nanoTime();
+        final List<SearchDocument> documents = auctionRepository.findSearchDocuments();
+
+        documents.forEach(document -> catalog.putIfAbsent(document.getId(), snapshot(document)));
+        index.putAll(documents.stream()
+                .map(document -> new Document(document.getId(), document.getTitle(), document.getDescription()))
+                .toList());
+
+        log.info("Search index built: {} auction(s) in {} ms", documents.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public List<AuctionSearchResponse> search(final String query, final boolean openOnly, final int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        return index.search(query, limit, id -> {
+                    final AuctionSnapshot snapshot = catalog.get(id);
+                    return snapshot != null && (!openOnly || snapshot.status() == AuctionStatus.OPEN);
+                }).stream()
+                .map(hit -> mapToResponse(catalog.get(hit.id()), hit.score()))
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void onAuctionCreated(final AuctionCreatedEvent event) {
+        catalog.put(event.auctionId(), new AuctionSnapshot(event.auctionId(), event.title(), AuctionStatus.OPEN,
+                event.type(), event.startingPrice(), event.endTime()));
+        index.put(event.auctionId(), event.title(), event.description());
+    }
+
+    @TransactionalEventListener
+    public void onAuctionUpdated(final AuctionUpdatedEvent event) {
+        catalog.computeIfPresent(event.auctionId(), (id, snapshot) -> new AuctionSnapshot(id, event.title(),
+                snapshot.status(), snapshot.type(), event.currentHighestBid(), event.endTime()));
+        index.put(event.auctionId(), event.title(), event.description());
+    }
+
+    @TransactionalEventListener
+    public void onBidPlaced(final BidPlacedEvent event) {
+        raise(event.auctionId(), event.currentPrice(), event.endTime());
+    }
+
+    @TransactionalEventListener
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        close(event.auctionId(), event.finalPrice());
+    }
+
+    @EventListener
+    public void onFeedChanges(final AuctionChangesEvent event) {
+        if (event.resyncRequired()) {
+            final List<SearchDocument> documents = auctionRepository.findSearchDocuments();
+            documents.forEach(document -> catalog.put(document.getId(), snapshot(document)));
+            index.putAll(documents.stream()
+                    .map(document -> new Document(document.getId(), document.getTitle(), document.getDescription()))
+                    .toList());
+            log.info("Search index resynced: {} auction(s)", documents.size());
+            return;
+        }
+
+        final Set<UUID> edited = new LinkedHashSet<>();
+        for (final AuctionChange change : event.changes()) {
+            switch (change.getChange()) {
+                case CREATED, UPDATED -> edited.add(change.getAuctionId());
+                case BID_PLACED -> raise(change.getAuctionId(), change.getCurrentPrice(), change.getEndTime());
+                case CLOSED -> close(change.getAuctionId(), change.getCurrentPrice());
+            }
+        }
+        if (!edited.isEmpty()) {
+            auctionRepository.findSearchDocumentsByIds(edited).forEach(document -> {
+                catalog.put(document.getId(), snapshot(document));
+                index.put(document.getId(), document.getTitle(), document.getDescription());
+            });
+        }
+    }
+
+    private void raise(final UUID auctionId, final BigDecimal price, final LocalDateTime endTime) {
+        catalog.computeIfPresent(auctionId, (id, snapshot) -> snapshot.currentHighestBid().compareTo(price) < 0
+                ? new AuctionSnapshot(id, snapshot.title(), snapshot.status(), snapshot.type(), price, endTime)
+                : snapshot);
+    }
+
+    private void close(final UUID auctionId, final BigDecimal finalPrice) {
+        catalog.computeIfPresent(auctionId, (id, snapshot) -> new AuctionSnapshot(id, snapshot.title(),
+                AuctionStatus.CLOSED, snapshot.type(),
+                finalPrice != null ? finalPrice : snapshot.currentHighestBid(), snapshot.endTime()));
+    }
+
+    private static AuctionSnapshot snapshot(final SearchDocument document) {
+        return new AuctionSnapshot(document.getId(), document.getTitle(), document.getStatus(), document.getType(),
+                document.getCurrentHighestBid(), document.getEndTime());
+    }
+
+    private AuctionSearchResponse mapToResponse(final AuctionSnapshot snapshot, final double score) {
+        return AuctionSearchResponse.builder()
+                .id(snapshot.id())
+                .title(snapshot.title())
+                .status(snapshot.status())
+                .type(snapshot.type())
+                .currentHighestBid(snapshot.currentHighestBid())
+                .endTime(snapshot.endTime())
+                .score(score)
+                .build();
+    }
+
+    private record AuctionSnapshot(UUID id,
+                                   String title,
+                                   AuctionStatus status,
+                                   AuctionType type,
+                                   BigDecimal currentHighestBid,
+                                   LocalDateTime endTime) {
+    }
+}
@@ -3,6 +3,8 @@ package com.aktiia.bidapplication.service;
 import com.aktiia.bidapplication.exception.AuctionClosedException;
 import com.aktiia.bidapplication.exception.BadRequestException;
 import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.helper.DutchPricing;
+import com.aktiia.bidapplication.helper.SparseFields;
 import com.aktiia.bidapplication.job.CloseAuctionJob;
 import com.aktiia.bidapplication.model.dto.request.AuctionRequest;
 import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
@@ -11,20 +13,34 @@ import com.aktiia.bidapplication.model.dto.response.BidResponse;
 import com.aktiia.bidapplication.model.entity.Auction;
 import com.aktiia.bidapplication.model.entity.Bid;
 import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionField;
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.AuctionUpdatedEvent;
 import com.aktiia.bidapplication.repository.AuctionRepository;
 import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.BidRepository.BidCount;
+import com.aktiia.bidapplication.repository.BidRepository.TopBid;
 import com.aktiia.bidapplication.repository.UserRepository;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,25 +50,42 @@ public class AuctionService {
     private final AuctionRepository auctionRepository;
     private final UserRepository userRepository;
     private final BidRepository bidRepository;
+    private final BidArchiveStore bidArchiveStore;
     private final Scheduler scheduler;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AuctionResponse createAuction(final AuctionRequest request, final String username) {
         final User seller = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
 
+        final AuctionType type = request.getType() != null ? request.getType() : AuctionType.ENGLISH;
+        if (type == AuctionType.DUTCH) {
+            validateDutchSchedule(request);
+        }
+        if (type == AuctionType.MULTI_UNIT && request.getQuantity() == null) {
+            throw new BadRequestException("Multi-unit auctions require a quantity");
+        }
+
         Auction auction = Auction.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .startingPrice(request.getStartingPrice())
                 .currentHighestBid(request.getStartingPrice())
                 .status(AuctionStatus.OPEN)
+                .type(type)
+                .priceDecrement(type == AuctionType.DUTCH ? request.getPriceDecrement() : null)
+                .decrementIntervalSeconds(type == AuctionType.DUTCH ? request.getDecrementIntervalSeconds() : null)
+                .floorPrice(type == AuctionType.DUTCH ? request.getFloorPrice() : null)
+                .quantity(type == AuctionType.MULTI_UNIT ? request.getQuantity() : 1)
                 .seller(seller)
                 .endTime(LocalDateTime.now().plusMinutes(request.getDurationMinutes()))
                 .build();
 
         auction = auctionRepository.save(auction);
         scheduleAuctionCloseJob(auction);
+        eventPublisher.publishEvent(new AuctionCreatedEvent(auction.getId(), auction.getTitle(),
+                auction.getDescription(), auction.getType(), auction.getStartingPrice(), auction.getEndTime()));
 
         log.info("Auction created: id={}, title='{}', seller={}, endTime={}",
                 auction.getId(), auction.getTitle(), username, auction.getEndTime());
@@ -95,6 +128,8 @@ public class AuctionService {
         }
 
         auction = auctionRepository.save(auction);
+        eventPublisher.publishEvent(new AuctionUpdatedEvent(auction.getId(), auction.getTitle(),
+                auction.getDescription(), auction.getCurrentHighestBid(), auction.getEndTime()));
         log.info("Auction updated: id={}, title='{}'", auction.getId(), auction.getTitle());
 
         return mapToResponse(auction);
@@ -121,52 +156,121 @@ public class AuctionService {
                 .toList();
     }
 
+    /**
+     * Auctions reduced to the comma-separated {@code fields}. The projection only joins the
+     * seller, counts bids or reads the description when those fields are asked for.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAuctionFields(final String fields, final boolean openOnly) {
+        final Set<AuctionField> selected;
+        try {
+            selected = SparseFields.parse(fields, AuctionField.class, AuctionField::fieldName);
+        } catch (final IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        return auctionRepository.findProjected(selected, openOnly ? AuctionStatus.OPEN : null).stream()
+                .map(tuple -> mapToFields(tuple, selected, now))
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public AuctionStatusResponse getAuctionStatus(final UUID auctionId) {
         final Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
 
-        final List<Bid> recentBids = bidRepository.findTopBidsByAuctionId(auctionId, 10);
+        if (auction.getArchivedBidCount() != null) {
+            return mapToStatusResponse(auction, recentArchivedBids(auction), auction.getArchivedBidCount(),
+                    LocalDateTime.now());
+        }
 
-        // Determine the highest bidder
-        final String highestBidderUsername = recentBids.isEmpty()
-                ? null
-                : recentBids.getFirst().getBidder().getUsername();
+        final List<Bid> recentBids = bidsHidden(auction) ? List.of() : bidRepository.findTopBidsByAuctionId(auctionId, 10);
 
         final List<BidResponse> bidResponses = recentBids.stream()
                 .map(this::mapBidToResponse)
                 .toList();
 
-        return AuctionStatusResponse.builder()
-                .auctionId(auction.getId())
-                .title(auction.getTitle())
-                .status(auction.getStatus())
-                .startingPrice(auction.getStartingPrice())
-                .currentHighestBid(auction.getCurrentHighestBid())
-                .highestBidderUsername(highestBidderUsername)
-                .endTime(auction.getEndTime())
-                .totalBids(bidRepository.countByAuctionId(auctionId))
-                .recentBids(bidResponses)
-                .build();
+        return mapToStatusResponse(auction, bidResponses, bidRepository.countByAuctionId(auctionId), LocalDateTime.now());
+    }
+
+    /**
+     * Statuses of many auctions in three statements however many ids are asked for: the auctions
+     * by id, their bid counts grouped by auction, and their top bids ranked per auction. Unknown
+     * ids are left out of the result. Auctions whose bids were archived are read from the archive.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, AuctionStatusResponse> getAuctionStatuses(final Collection<UUID> auctionIds) {
+        final List<Auction> auctions = auctionRepository.findAllById(new LinkedHashSet<>(auctionIds));
+        if (auctions.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<UUID> foundIds = auctions.stream().map(Auction::getId).toList();
+        final Map<UUID, Long> bidCounts = bidRepository.countByAuctionIds(foundIds).stream()
+                .collect(Collectors.toMap(BidCount::getAuctionId, BidCount::getBidCount));
+
+        final List<UUID> visibleIds = auctions.stream()
+                .filter(auction -> !bidsHidden(auction) && auction.getArchivedBidCount() == null)
+                .map(Auction::getId)
+                .toList();
+        final Map<UUID, List<BidResponse>> topBids = visibleIds.isEmpty()
+                ? Map.of()
+                : bidRepository.findTopBidsByAuctionIds(visibleIds, 10).stream()
+                        .collect(Collectors.groupingBy(TopBid::getAuctionId, Collectors.mapping(this::mapTopBidToResponse,
+                                Collectors.toList())));
+
+        final LocalDateTime now = LocalDateTime.now();
+        final Map<UUID, AuctionStatusResponse> statuses = new LinkedHashMap<>(auctions.size() * 2);
+        for (final Auction auction : auctions) {
+            if (auction.getArchivedBidCount() != null) {
+                statuses.put(auction.getId(), mapToStatusResponse(auction, recentArchivedBids(auction),
+                        auction.getArchivedBidCount(), now));
+                continue;
+            }
+            statuses.put(auction.getId(), mapToStatusResponse(auction,
+                    topBids.getOrDefault(auction.getId(), List.of()),
+                    bidCounts.getOrDefault(auction.getId(), 0L).intValue(),
+                    now));
+        }
+        return statuses;
+    }
+
+    /**
+     * The ten highest bids of an auction whose bids were moved to the archive.
+     */
+    private List<BidResponse> recentArchivedBids(final Auction auction) {
+        final List<BidResponse> bids = bidArchiveStore.read(auction.getId());
+        return List.copyOf(bids.subList(0, Math.min(10, bids.size())));
+    }
+
+    /**
+     * Sealed bids stay hidden until the auction closes.
+     */
+    private static boolean bidsHidden(final Auction auction) {
+        return auction.getType().isSealed() && auction.getStatus() == AuctionStatus.OPEN;
+    }
+
+    private void validateDutchSchedule(final AuctionRequest request) {
+        if (request.getPriceDecrement() == null || request.getDecrementIntervalSeconds() == null
+                || request.getFloorPrice() == null) {
+            throw new BadRequestException("Dutch auctions require priceDecrement, decrementIntervalSeconds and floorPrice");
+        }
+        if (request.getFloorPrice().compareTo(request.getStartingPrice()) > 0) {
+            throw new BadRequestException("Floor price must not exceed the starting price");
+        }
     }
 
     private void scheduleAuctionCloseJob(final Auction auction) {
         try {
 
             final JobDetail jobDetail = JobBuilder.newJob(CloseAuctionJob.class)
-                    .withIdentity("closeAuctionJob-" + auction.getId())
+                    .withIdentity(CloseAuctionJob.jobKey(auction.getId()))
                     .usingJobData("auctionId", String.valueOf(auction.getId()))
                     .storeDurably()
                     .build();
 
-            final Trigger trigger = TriggerBuilder.newTrigger()
-                    .withIdentity("closeAuctionTrigger-" + auction.getId())
-                    .startAt(Timestamp.valueOf(auction.getEndTime()))
-                    .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                            .withMisfireHandlingInstructionFireNow())
-                    .build();
-
-            scheduler.scheduleJob(jobDetail, trigger);
+            scheduler.scheduleJob(jobDetail, CloseAuctionJob.trigger(auction.getId(), auction.getEndTime()));
 
         } catch (final SchedulerException e) {
             throw new RuntimeException("Failed to schedule auction close job", e);
@@ -175,7 +279,7 @@ public class AuctionService {
 
     private void deleteAuctionCloseJob(final UUID auctionId) {
         try {
-            scheduler.deleteJob(new JobKey("closeAuctionJob-" + auctionId));
+            scheduler.deleteJob(CloseAuctionJob.jobKey(auctionId));
         } catch (final SchedulerException e) {
             log.warn("Failed to delete auction close job for auctionId={}", auctionId, e);
         }
@@ -186,18 +290,80 @@ public class AuctionService {
         scheduleAuctionCloseJob(auction);
     }
 
+    private static Map<String, Object> mapToFields(final Tuple tuple, final Set<AuctionField> fields, final LocalDateTime now) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (final AuctionField field : fields) {
+            values.put(field.fieldName(), field == AuctionField.CURRENT_HIGHEST_BID
+                    ? displayPrice(tuple, now)
+                    : tuple.get(field.fieldName()));
+        }
+        return values;
+    }
+
+    private static BigDecimal displayPrice(final Tuple tuple, final LocalDateTime now) {
+        final Auction pricing = Auction.builder()
+                .type(tuple.get("type", AuctionType.class))
+                .status(tuple.get("status", AuctionStatus.class))
+                .createdAt(tuple.get("createdAt", LocalDateTime.class))
+                .startingPrice(tuple.get("startingPrice", BigDecimal.class))
+                .currentHighestBid(tuple.get("currentHighestBid", BigDecimal.class))
+                .priceDecrement(tuple.get("priceDecrement", BigDecimal.class))
+                .decrementIntervalSeconds(tuple.get("decrementIntervalSeconds", Integer.class))
+                .floorPrice(tuple.get("floorPrice", BigDecimal.class))
+                .build();
+        return DutchPricing.displayPrice(pricing, now);
+    }
+
     private AuctionResponse mapToResponse(final Auction auction) {
         return AuctionResponse.builder()
                 .id(auction.getId())
                 .title(auction.getTitle())
                 .description(auction.getDescription())
                 .startingPrice(auction.getStartingPrice())
-                .currentHighestBid(auction.getCurrentHighestBid())
+                .currentHighestBid(DutchPricing.displayPrice(auction, LocalDateTime.now()))
                 .status(auction.getStatus())
+                .type(auction.getType())
+                .quantity(auction.getQuantity())
                 .sellerUsername(auction.getSeller().getUsername())
                 .createdAt(auction.getCreatedAt())
                 .endTime(auction.getEndTime())
-                .totalBids(auction.getBids() != null ? auction.getBids().size() : 0)
+                .totalBids(totalBids(auction))
+                .build();
+    }
+
+    private static int totalBids(final Auction auction) {
+        if (auction.getArchivedBidCount() != null) {
+            return auction.getArchivedBidCount();
+        }
+        return auction.getBids() != null ? auction.getBids().size() : 0;
+    }
+
+    private AuctionStatusResponse mapToStatusResponse(final Auction auction,
+                                                      final List<BidResponse> recentBids,
+                                                      final int totalBids,
+                                                      final LocalDateTime now) {
+        return AuctionStatusResponse.builder()
+                .auctionId(auction.getId())
+                .title(auction.getTitle())
+                .status(auction.getStatus())
+                .type(auction.getType())
+                .quantity(auction.getQuantity())
+                .startingPrice(auction.getStartingPrice())
+                .currentHighestBid(DutchPricing.displayPrice(auction, now))
+                .highestBidderUsername(recentBids.isEmpty() ? null : recentBids.getFirst().bidderUsername())
+                .endTime(auction.getEndTime())
+                .totalBids(totalBids)
+                .recentBids(recentBids)
+                .build();
+    }
+
+    private BidResponse mapTopBidToResponse(final TopBid bid) {
+        return BidResponse.builder()
+                .id(bid.getId())
+                .amount(bid.getAmount())
+                .bidderUsername(bid.getBidderUsername())
+                .auctionId(bid.getAuctionId())
+                .placedAt(bid.getPlacedAt())
                 .build();
     }
 
@@ -0,0 +1,132 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.job.CloseAuctionJob;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.AuctionResult;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Closes auctions and records their outcome.
+ * <p>
+ * The winner and the final price are read from the state every bid already maintains on the
+ * auction ({@code highestBidder} and {@code currentHighestBid}), so settling never scans bids;
+ * sealed auctions are the exception, their top two bids are read once while closing. A
+ * multi-unit auction records every bidder in its winning set, all at the clearing price. Every
+ * settled auction gets an {@code auction_result} row and an {@link AuctionClosedEvent}. An
+ * auction that a late bid extended after its close was requested gets its close trigger back
+ * for the new end time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionSettlementService {
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionResultRepository auctionResultRepository;
+    private final AuctionClosingService auctionClosingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Scheduler scheduler;
+
+    /**
+     * Settles every given auction that is still open and past its end time, in one transaction.
+     * The rows are locked in id order, so concurrent bids wait and concurrent batches cannot deadlock.
+     *
+     * @return the number of auctions closed
+     */
+    @Transactional
+    public int settle(final Collection<UUID> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return 0;
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        final List<AuctionResult> results = new ArrayList<>(auctionIds.size());
+        for (final Auction auction : auctionRepository.findAllByIdWithPessimisticLock(auctionIds)) {
+            if (auction.getStatus() != AuctionStatus.OPEN) {
+                continue;
+            }
+            // Extended by a late bid after its close was requested, possibly on a stale read
+            if (auction.getEndTime().isAfter(now)) {
+                rearm(auction);
+                continue;
+            }
+
+            final List<User> winners = auctionClosingService.close(auction);
+            results.add(record(auction, winners, !winners.isEmpty() ? auction.getCurrentHighestBid() : null, now));
+        }
+
+        auctionResultRepository.saveAll(results);
+        if (!results.isEmpty()) {
+            log.info("Settled {} auction(s)", results.size());
+        }
+        return results.size();
+    }
+
+    /**
+     * Records the result of an auction that was closed by a sale, e.g. an accepted Dutch price.
+     */
+    @Transactional
+    public void recordSale(final Auction auction, final User buyer, final BigDecimal price, final LocalDateTime closedAt) {
+        auctionResultRepository.save(record(auction, List.of(buyer), price, closedAt));
+    }
+
+    /**
+     * Arms the close trigger for the extended end time. The trigger that requested this close
+     * has already fired and is gone, so a new one is stored for the existing job; a failure
+     * leaves the auction to the expired-auction sweeper.
+     */
+    private void rearm(final Auction auction) {
+        final Trigger trigger = CloseAuctionJob.trigger(auction.getId(), auction.getEndTime());
+        try {
+            if (scheduler.rescheduleJob(trigger.getKey(), trigger) == null) {
+                scheduler.scheduleJob(trigger);
+            }
+            log.debug("Auction {} was extended before it settled, close re-armed for {}",
+                    auction.getId(), auction.getEndTime());
+        } catch (final SchedulerException e) {
+            log.warn("Failed to re-arm close trigger for extended auction {}", auction.getId(), e);
+        }
+    }
+
+    private AuctionResult record(final Auction auction,
+                                 final List<User> winners,
+                                 final BigDecimal finalPrice,
+                                 final LocalDateTime closedAt) {
+        final User winner = !winners.isEmpty() ? winners.getFirst() : null;
+        eventPublisher.publishEvent(new AuctionClosedEvent(
+                auction.getId(),
+                auction.getType(),
+                auction.getSeller() != null ? auction.getSeller().getId() : null,
+                winner != null ? winner.getId() : null,
+                winners.stream().map(User::getId).toList(),
+                finalPrice,
+                closedAt));
+
+        return AuctionResult.builder()
+                .auction(auction)
+                .winner(winner)
+                .winners(new ArrayList<>(winners))
+                .finalPrice(finalPrice)
+                .closedAt(closedAt)
+                .build();
+    }
+}
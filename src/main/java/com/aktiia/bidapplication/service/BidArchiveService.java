@@ -0,0 +1,95 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.BidRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves the bids of closed auctions out of the bid table into the {@link BidArchiveStore}.
+ * <p>
+ * An auction is archived in two steps. {@link #archive} writes its bids to a segment, reads the
+ * segment back to check it holds every bid, and records how many there were on the auction; from
+ * then on every bid read of the auction is answered from the segment. {@link #deleteArchived}
+ * then removes the rows in bounded chunks, one short transaction each, so the bid table never sees one huge delete. A crash in between leaves rows
+ * that nobody reads, and they are deleted on the next run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidArchiveService {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final BidArchiveStore bidArchiveStore;
+
+    /**
+     * Writes the bids of a closed auction to the archive, unless that was already done, and checks
+     * the segment holds all of them. Rows must only be deleted once this returned.
+     */
+    @Transactional
+    public void archive(final UUID auctionId) {
+        final Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
+        if (auction.getStatus() != AuctionStatus.CLOSED) {
+            throw new IllegalStateException("Only closed auctions can be archived: " + auctionId);
+        }
+        if (auction.getArchivedBidCount() != null) {
+            verify(auctionId, auction.getArchivedBidCount());
+            return;
+        }
+
+        final List<BidResponse> bids = bidRepository.findWithBidderByAuctionId(auctionId).stream()
+                .map(bid -> BidResponse.builder()
+                        .id(bid.getId())
+                        .amount(bid.getAmount())
+                        .bidderUsername(bid.getBidder().getUsername())
+                        .auctionId(auctionId)
+                        .placedAt(bid.getPlacedAt())
+                        .build())
+                .toList();
+        bidArchiveStore.write(auctionId, bids);
+        verify(auctionId, bids.size());
+        auction.setArchivedBidCount(bids.size());
+        auctionRepository.save(auction);
+        log.info("Archived {} bid(s) of auction {}", bids.size(), auctionId);
+    }
+
+    /**
+     * Deletes up to {@code chunkSize} bid rows of an archived auction.
+     *
+     * @return the number of rows deleted, less than {@code chunkSize} once none are left
+     */
+    @Transactional
+    public int deleteArchived(final UUID auctionId, final int chunkSize) {
+        final Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
+        if (auction.getArchivedBidCount() == null) {
+            throw new IllegalStateException("Bids of auction " + auctionId + " are not archived");
+        }
+
+        final List<UUID> ids = bidRepository.findIdsByAuctionId(auctionId, PageRequest.of(0, chunkSize));
+        if (!ids.isEmpty()) {
+            bidRepository.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    private void verify(final UUID auctionId, final int expected) {
+        final int archived = bidArchiveStore.read(auctionId).size();
+        if (archived != expected) {
+            throw new IllegalStateException("Bid archive of auction " + auctionId + " holds " + archived
+                    + " bid(s), expected " + expected);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.BidSegment;
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Segment files holding the bids of archived auctions, one {@link BidSegment} per auction.
+ * <p>
+ * Files live under {@code app.bid-archive.directory}, spread over subdirectories named after the
+ * first two characters of the auction id so no directory grows too large. A segment is written
+ * to a temporary file and moved into place, so readers see either no segment or a whole one.
+ * The file is forced to disk before the move and its directory after it, so a segment
+ * {@link #write} returned for survives a crash of the host; only then are the rows deleted.
+ * <p>
+ * Once its rows are deleted a segment is the only copy of an auction's bids, and every instance
+ * reads it. The directory must therefore be an absolute path on durable storage shared by all
+ * instances; there is no default, and without one nothing is archived.
+ */
+@Slf4j
+@Service
+public class BidArchiveStore {
+
+    private final Path directory;
+
+    public BidArchiveStore(@Value("${app.bid-archive.directory:}") final String directory) {
+        this.directory = directory.isBlank() ? null : Paths.get(directory);
+        if (this.directory != null && !this.directory.isAbsolute()) {
+            throw new IllegalStateException("app.bid-archive.directory must be an absolute path on storage shared "
+                    + "by every instance, got " + directory);
+        }
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    public void write(final UUID auctionId, final List<BidResponse> bids) {
+        final Path segment = segment(auctionId);
+        try {
+            if (Files.notExists(segment.getParent())) {
+                Files.createDirectories(segment.getParent());
+                force(directory);
+            }
+            final Path temporary = segment.resolveSibling(auctionId + "." + UUID.randomUUID() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                BidSegment.write(bids, out);
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temporary, segment, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // The move is only durable once the directory entry is
+            force(segment.getParent());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to archive bids of auction " + auctionId, e);
+        }
+        log.debug("Archived {} bid(s) of auction {} to {}", bids.size(), auctionId, segment);
+    }
+
+    public List<BidResponse> read(final UUID auctionId) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segment(auctionId)))) {
+            return BidSegment.read(auctionId, in);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read archived bids of auction " + auctionId, e);
+        }
+    }
+
+    private static void force(final Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private Path segment(final UUID auctionId) {
+        if (directory == null) {
+            throw new IllegalStateException("No bid archive directory is configured (app.bid-archive.directory)");
+        }
+        final String name = auctionId.toString();
+        return directory.resolve(name.substring(0, 2)).resolve(name + ".seg");
+    }
+}
@@ -4,22 +4,43 @@ import com.aktiia.bidapplication.exception.AuctionClosedException;
 import com.aktiia.bidapplication.exception.BadRequestException;
 import com.aktiia.bidapplication.exception.BidTooLowException;
 import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.helper.DutchPricing;
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.helper.OrderBook;
+import com.aktiia.bidapplication.helper.SparseFields;
 import com.aktiia.bidapplication.model.dto.request.BidRequest;
 import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.dto.response.BidStandingResponse;
 import com.aktiia.bidapplication.model.entity.Auction;
 import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.entity.ProxyBid;
 import com.aktiia.bidapplication.model.entity.User;
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.enums.BidField;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
 import com.aktiia.bidapplication.repository.AuctionRepository;
 import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.ProxyBidRepository;
 import com.aktiia.bidapplication.repository.UserRepository;
+import com.aktiia.bidapplication.service.ProxyBiddingEngine.AutoBid;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -27,9 +48,19 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BidService {
 
+    private static final Set<AuctionType> SEALED_TYPES = EnumSet.of(
+            AuctionType.SEALED_FIRST_PRICE, AuctionType.SEALED_SECOND_PRICE);
+
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
     private final UserRepository userRepository;
+    private final ProxyBidRepository proxyBidRepository;
+    private final ProxyBiddingEngine proxyBiddingEngine;
+    private final OrderBookService orderBookService;
+    private final AuctionSettlementService auctionSettlementService;
+    private final SoftClosePolicy softClosePolicy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidArchiveStore bidArchiveStore;
 
     /**
      * Places a bid on an auction.
@@ -40,20 +71,47 @@ public class BidService {
      * read the same "current highest bid" and both succeed.
      * <p>
      * The lock is held for the duration of the transaction and released on commit/rollback.
+     * <p>
+     * When the request carries a {@code maxAmount}, or competing proxy bids exist, automatic
+     * bidding is resolved in the same transaction and only the resulting visible bids are written.
+     * <p>
+     * Sealed-bid auctions only take a shared lock and Dutch auctions none, see
+     * {@link #placeSealedBid} and {@link #acceptDutchPrice}. Multi-unit auctions are resolved against an in-memory order
+     * book, see {@link #placeMultiUnitBid}.
+     * <p>
+     * Amounts are converted to {@link Money} on the way in and back to {@code BigDecimal} only
+     * for the rows written, so every comparison in between is on cents.
      */
     @Transactional
     public BidResponse placeBid(final UUID auctionId, final BidRequest request, final String username) {
+        final Money amount = toMoney(request.getAmount());
+        final Money maxAmount = request.getMaxAmount() != null ? toMoney(request.getMaxAmount()) : null;
+        if (maxAmount != null && maxAmount.isLessThan(amount)) {
+            throw new BadRequestException("Maximum amount must not be lower than the bid amount");
+        }
+
+        final AuctionType type = auctionRepository.findTypeById(auctionId).orElse(null);
+        if (type != null && type.isSealed()) {
+            return placeSealedBid(auctionId, request, amount, username);
+        }
+        if (type == AuctionType.DUTCH) {
+            return acceptDutchPrice(auctionId, request, amount, username);
+        }
+        if (type == AuctionType.MULTI_UNIT) {
+            return placeMultiUnitBid(auctionId, request, amount, username);
+        }
+
         final Auction auction = auctionRepository.findByIdWithPessimisticLock(auctionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
 
         // Validate auction is still open
         if (auction.getStatus() == AuctionStatus.CLOSED) {
-            log.error("Closing auction {}", auctionId);
             throw new AuctionClosedException("This auction is closed and no longer accepts bids");
         }
 
         // Check if auction has expired (close it if needed)
-        if (auction.getEndTime().isBefore(LocalDateTime.now())) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (auction.getEndTime().isBefore(now)) {
             auction.setStatus(AuctionStatus.CLOSED);
             auctionRepository.save(auction);
             throw new AuctionClosedException("This auction has expired");
@@ -70,28 +128,45 @@ public class BidService {
         }
 
         // Validate bid amount is higher than current highest
-        if (request.getAmount().compareTo(auction.getCurrentHighestBid()) <= 0) {
-            log.error("Bid too low: user={}, auctionId={}, bidAmount={}, currentHighest={}",
-                    username, auctionId, request.getAmount(), auction.getCurrentHighestBid());
+        final Money currentPrice = Money.of(auction.getCurrentHighestBid());
+        if (!amount.isGreaterThan(currentPrice)) {
+            // Logged, sampled, by GlobalExceptionHandler like every other rejected bid
             throw new BidTooLowException(
-                    "Bid must be higher than current highest bid of " + auction.getCurrentHighestBid()
+                    "Bid must be higher than current highest bid of " + currentPrice
             );
         }
 
         // Create and persist the bid
         final Bid bid = Bid.builder()
-                .amount(request.getAmount())
+                .amount(amount.toBigDecimal())
                 .auction(auction)
                 .bidder(bidder)
                 .build();
 
         bidRepository.save(bid);
 
-        // Update the auction's current highest bid
-        auction.setCurrentHighestBid(request.getAmount());
+        // Update the auction's current highest bid, which automatic bids may already have raised
+        final BigDecimal previousPrice = auction.getCurrentHighestBid();
+        final User previousLeader = auction.getHighestBidder();
+        final AutoBid highestBid = resolveProxyBids(auction, bidder, amount, maxAmount);
+        auction.setCurrentHighestBid(highestBid.amount().toBigDecimal());
+        auction.setHighestBidder(highestBid.bidder());
+
+        // Soft close: a late bid extends the end time in this same write. The close job is not
+        // rescheduled here, it notices the later end time when it fires and re-arms itself.
+        softClosePolicy.extendedEndTime(auction.getEndTime(), now).ifPresent(auction::setEndTime);
         auctionRepository.save(auction);
 
-        log.info("Bid placed: auctionId={}, bidder={}, amount={}", auctionId, username, request.getAmount());
+        final Set<UUID> outbid = new LinkedHashSet<>(2);
+        if (previousLeader != null) {
+            outbid.add(previousLeader.getId());
+        }
+        outbid.add(bidder.getId());
+        outbid.remove(highestBid.bidder().getId());
+        eventPublisher.publishEvent(new BidPlacedEvent(auctionId, bidder.getId(), previousPrice,
+                auction.getCurrentHighestBid(), outbid, now, auction.getEndTime()));
+
+        log.info("Bid placed: auctionId={}, bidder={}, amount={}", auctionId, username, amount);
 
         return mapToResponse(bid);
     }
@@ -102,11 +177,315 @@ public class BidService {
             throw new ResourceNotFoundException("Auction", "id", auctionId);
         }
 
+        // Sealed bids stay hidden until the auction closes
+        if (auctionRepository.existsByIdAndStatusAndTypeIn(auctionId, AuctionStatus.OPEN, SEALED_TYPES)) {
+            return List.of();
+        }
+
+        // Bids of long-closed auctions have moved to the archive, see BidArchiveService
+        if (auctionRepository.existsByIdAndArchivedBidCountIsNotNull(auctionId)) {
+            return bidArchiveStore.read(auctionId);
+        }
+
         return bidRepository.findByAuctionIdOrderByAmountDesc(auctionId).stream()
                 .map(this::mapToResponse)
                 .toList();
     }
 
+    /**
+     * The auction's bids reduced to the comma-separated {@code fields}, read with a projection
+     * that only joins the bidder when {@code bidderUsername} is asked for.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBidFieldsForAuction(final UUID auctionId, final String fields) {
+        final Set<BidField> selected = parseFields(fields);
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction", "id", auctionId);
+        }
+
+        if (auctionRepository.existsByIdAndStatusAndTypeIn(auctionId, AuctionStatus.OPEN, SEALED_TYPES)) {
+            return List.of();
+        }
+
+        if (auctionRepository.existsByIdAndArchivedBidCountIsNotNull(auctionId)) {
+            return bidArchiveStore.read(auctionId).stream()
+                    .map(bid -> mapToFields(bid, selected))
+                    .toList();
+        }
+
+        return bidRepository.findProjectedByAuctionId(auctionId, selected).stream()
+                .map(tuple -> mapToFields(tuple, selected))
+                .toList();
+    }
+
+    /**
+     * Where the user stands in a multi-unit auction: their standing bid, whether it is currently
+     * among the winning ones and the price every winner would pay.
+     */
+    @Transactional(readOnly = true)
+    public BidStandingResponse getStanding(final UUID auctionId, final String username) {
+        final Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
+
+        if (auction.getType() != AuctionType.MULTI_UNIT) {
+            throw new BadRequestException("Standing is only available for multi-unit auctions");
+        }
+        if (auction.getArchivedBidCount() != null) {
+            throw new BadRequestException("Standing is not available once the auction's bids are archived");
+        }
+
+        final User bidder = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+
+        final OrderBook book = orderBookService.book(auction);
+        final OptionalLong standingBid = book.standingBidCents(bidder.getId());
+
+        return BidStandingResponse.builder()
+                .auctionId(auctionId)
+                .quantity(book.quantity())
+                .clearingPrice(Money.ofCents(book.clearingPriceCents(Money.of(auction.getStartingPrice()).cents())).toBigDecimal())
+                .standingBid(standingBid.isPresent() ? Money.ofCents(standingBid.getAsLong()).toBigDecimal() : null)
+                .winning(book.isWinning(bidder.getId()))
+                .build();
+    }
+
+    /**
+     * The top {@code quantity} bids of a multi-unit auction win, one standing bid per bidder, and
+     * every winner pays the clearing price. Placement still takes the row lock, but validation and
+     * the new clearing price come from the auction's {@link OrderBook} instead of a bid scan. The
+     * auction's {@code currentHighestBid} holds the clearing price.
+     */
+    private BidResponse placeMultiUnitBid(final UUID auctionId, final BidRequest request, final Money amount,
+                                          final String username) {
+        if (request.getMaxAmount() != null) {
+            throw new BadRequestException("Maximum amounts are not supported in multi-unit auctions");
+        }
+
+        final Auction auction = auctionRepository.findByIdWithPessimisticLock(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
+
+        final LocalDateTime now = LocalDateTime.now();
+        if (auction.getStatus() == AuctionStatus.CLOSED || auction.getEndTime().isBefore(now)) {
+            throw new AuctionClosedException("This auction is closed and no longer accepts bids");
+        }
+
+        final User bidder = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+
+        if (auction.getSeller().getId().equals(bidder.getId())) {
+            throw new BadRequestException("You cannot bid on your own auction");
+        }
+
+        final OrderBook book = orderBookService.lockedBook(auction);
+        final long reserveCents = Money.of(auction.getStartingPrice()).cents();
+        final long cents = amount.cents();
+
+        if (cents < reserveCents) {
+            throw new BidTooLowException("Bid must be at least the starting price of " + Money.ofCents(reserveCents));
+        }
+        if (book.isFull() && cents <= book.clearingPriceCents(reserveCents)) {
+            throw new BidTooLowException("Bid must be higher than the clearing price of "
+                    + Money.ofCents(book.clearingPriceCents(reserveCents)));
+        }
+        final OptionalLong standingBid = book.standingBidCents(bidder.getId());
+        if (standingBid.isPresent() && cents <= standingBid.getAsLong()) {
+            throw new BidTooLowException("Bid must be higher than your standing bid of "
+                    + Money.ofCents(standingBid.getAsLong()));
+        }
+
+        final Bid bid = bidRepository.save(Bid.builder()
+                .amount(amount.toBigDecimal())
+                .auction(auction)
+                .bidder(bidder)
+                .build());
+
+        final BigDecimal previousPrice = auction.getCurrentHighestBid();
+        final UUID displaced = book.place(bidder.getId(), cents);
+        auction.setOrderBookVersion(auction.getOrderBookVersion() + 1);
+        auction.setCurrentHighestBid(Money.ofCents(book.clearingPriceCents(reserveCents)).toBigDecimal());
+        final UUID leaderId = book.leaderId();
+        auction.setHighestBidder(bidder.getId().equals(leaderId) ? bidder : userRepository.getReferenceById(leaderId));
+        softClosePolicy.extendedEndTime(auction.getEndTime(), now).ifPresent(auction::setEndTime);
+        auctionRepository.save(auction);
+
+        eventPublisher.publishEvent(new BidPlacedEvent(auctionId, bidder.getId(), previousPrice,
+                auction.getCurrentHighestBid(), displaced != null ? List.of(displaced) : List.of(), now,
+                auction.getEndTime()));
+
+        log.info("Multi-unit bid placed: auctionId={}, bidder={}, amount={}, clearingPrice={}",
+                auctionId, username, amount, auction.getCurrentHighestBid());
+
+        return mapToResponse(bid);
+    }
+
+    /**
+     * Sealed bids are never compared against each other while the auction is open: the winner is
+     * computed once at close. Placing one is therefore an insert with no update of the auction.
+     * It holds a shared lock on the auction row, read from the database rather than the
+     * second-level cache: bidders do not block each other, but settlement's write lock waits for
+     * bids in flight, and a bid arriving after settlement sees the auction closed. No bid can
+     * commit unseen by the winner computation.
+     */
+    private BidResponse placeSealedBid(final UUID auctionId, final BidRequest request, final Money amount,
+                                       final String username) {
+        if (request.getMaxAmount() != null) {
+            throw new BadRequestException("Maximum amounts are not supported in sealed-bid auctions");
+        }
+
+        final Auction auction = auctionRepository.findByIdWithSharedLock(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
+
+        // Expired auctions are closed by the close job, the bid path only rejects
+        if (auction.getStatus() == AuctionStatus.CLOSED || auction.getEndTime().isBefore(LocalDateTime.now())) {
+            throw new AuctionClosedException("This auction is closed and no longer accepts bids");
+        }
+
+        final User bidder = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+
+        if (auction.getSeller().getId().equals(bidder.getId())) {
+            throw new BadRequestException("You cannot bid on your own auction");
+        }
+
+        final Money startingPrice = Money.of(auction.getStartingPrice());
+        if (amount.isLessThan(startingPrice)) {
+            throw new BidTooLowException("Bid must be at least the starting price of " + startingPrice);
+        }
+
+        final Bid bid = bidRepository.save(Bid.builder()
+                .amount(amount.toBigDecimal())
+                .auction(auction)
+                .bidder(bidder)
+                .build());
+
+        log.info("Sealed bid placed: auctionId={}, bidder={}", auctionId, username);
+
+        return mapToResponse(bid);
+    }
+
+    /**
+     * A bid on a Dutch auction accepts the current price, which is derived from the elapsed time
+     * rather than stored. The sale is a single conditional update that closes the auction, so
+     * exactly one of any number of concurrent acceptances wins and no row lock is taken.
+     * The bid amount states the most the bidder is willing to pay and must cover the current price.
+     */
+    private BidResponse acceptDutchPrice(final UUID auctionId, final BidRequest request, final Money amount,
+                                         final String username) {
+        if (request.getMaxAmount() != null) {
+            throw new BadRequestException("Maximum amounts are not supported in Dutch auctions");
+        }
+
+        final Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
+
+        final LocalDateTime now = LocalDateTime.now();
+        if (auction.getStatus() == AuctionStatus.CLOSED || !auction.getEndTime().isAfter(now)) {
+            throw new AuctionClosedException("This auction is closed and no longer accepts bids");
+        }
+
+        final User bidder = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+
+        if (auction.getSeller().getId().equals(bidder.getId())) {
+            throw new BadRequestException("You cannot bid on your own auction");
+        }
+
+        final BigDecimal price = DutchPricing.priceAt(auction, now);
+        if (amount.isLessThan(Money.of(price))) {
+            throw new BidTooLowException("Bid must cover the current price of " + price);
+        }
+
+        if (auctionRepository.closeAtPrice(auctionId, price, bidder, now) == 0) {
+            throw new AuctionClosedException("This auction has already been sold");
+        }
+
+        final Bid bid = bidRepository.save(Bid.builder()
+                .amount(price)
+                .auction(auction)
+                .bidder(bidder)
+                .build());
+        auctionSettlementService.recordSale(auction, bidder, price, now);
+
+        log.info("Dutch auction sold: auctionId={}, buyer={}, price={}", auctionId, username, price);
+
+        return mapToResponse(bid);
+    }
+
+    /**
+     * Registers the bidder's maximum (if any) and lets the strongest competing proxy respond.
+     *
+     * @return the highest visible bid, and its bidder, after automatic bidding
+     */
+    private AutoBid resolveProxyBids(final Auction auction, final User bidder, final Money amount, final Money maxAmount) {
+        Money bidderMaximum = amount;
+
+        final Optional<ProxyBid> ownProxy = proxyBidRepository.findByAuctionIdAndBidderId(auction.getId(), bidder.getId());
+        if (maxAmount != null) {
+            final ProxyBid proxy = ownProxy.orElseGet(() -> ProxyBid.builder()
+                    .auction(auction)
+                    .bidder(bidder)
+                    .build());
+            proxy.setMaxAmount(maxAmount.toBigDecimal());
+            proxyBidRepository.save(proxy);
+            bidderMaximum = maxAmount;
+        } else if (ownProxy.isPresent()) {
+            bidderMaximum = bidderMaximum.max(Money.of(ownProxy.get().getMaxAmount()));
+        }
+
+        final Optional<ProxyBid> rival = proxyBidRepository.findStrongestRival(auction.getId(), bidder.getId(),
+                amount.toBigDecimal());
+        if (rival.isEmpty()) {
+            return new AutoBid(bidder, amount);
+        }
+
+        AutoBid highestBid = new AutoBid(bidder, amount);
+        for (final AutoBid autoBid : proxyBiddingEngine.resolve(bidder, amount, bidderMaximum, rival.get())) {
+            bidRepository.save(Bid.builder()
+                    .amount(autoBid.amount().toBigDecimal())
+                    .auction(auction)
+                    .bidder(autoBid.bidder())
+                    .build());
+            highestBid = autoBid;
+        }
+        return highestBid;
+    }
+
+    private static Money toMoney(final BigDecimal amount) {
+        try {
+            return Money.of(amount);
+        } catch (final IllegalArgumentException e) {
+            throw new BadRequestException("Bid amount must not have more than 2 decimal places");
+        }
+    }
+
+    private static Set<BidField> parseFields(final String fields) {
+        try {
+            return SparseFields.parse(fields, BidField.class, BidField::fieldName);
+        } catch (final IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> mapToFields(final Tuple tuple, final Set<BidField> fields) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        fields.forEach(field -> values.put(field.fieldName(), tuple.get(field.fieldName())));
+        return values;
+    }
+
+    private static Map<String, Object> mapToFields(final BidResponse bid, final Set<BidField> fields) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (final BidField field : fields) {
+            values.put(field.fieldName(), switch (field) {
+                case ID -> bid.id();
+                case AMOUNT -> bid.amount();
+                case BIDDER_USERNAME -> bid.bidderUsername();
+                case AUCTION_ID -> bid.auctionId();
+                case PLACED_AT -> bid.placedAt();
+            });
+        }
+        return values;
+    }
+
     private BidResponse mapToResponse(final Bid bid) {
         return BidResponse.builder()
                 .id(bid.getId())
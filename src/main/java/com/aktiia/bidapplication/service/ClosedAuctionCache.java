@@ -0,0 +1,147 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
+import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * Serialized JSON of closed auctions, served as bytes with an ETag by
+ * {@link com.aktiia.bidapplication.controller.ClosedAuctionCacheAdvice}.
+ * <p>
+ * A closed auction, its status and its bids never change again. When an auction closes, a
+ * background thread reads the three views once and keeps their JSON, so later reads skip
+ * Hibernate and Jackson and clients may cache the answer for a year, revalidating by ETag.
+ * Views read the normal way that turn out to be closed are kept too, which refills the cache
+ * after a restart or an eviction. Entries are evicted least recently used first once their
+ * bytes exceed {@code app.closed-auction-cache.max-bytes}.
+ */
+@Slf4j
+@Service
+public class ClosedAuctionCache {
+
+    private final AuctionService auctionService;
+    private final BidService bidService;
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private final ExecutorService filler = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "closed-auction-cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClosedAuctionCache(final AuctionService auctionService,
+                              final BidService bidService,
+                              final ObjectMapper objectMapper,
+                              @Value("${app.closed-auction-cache.max-bytes:67108864}") final long maxBytes) {
+        this.auctionService = auctionService;
+        this.bidService = bidService;
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    public Optional<Entry> get(final UUID auctionId, final View view) {
+        synchronized (entries) {
+            return Optional.ofNullable(entries.get(new Key(auctionId, view)));
+        }
+    }
+
+    /**
+     * Serializes a view that can no longer change and keeps it, unless it alone exceeds the
+     * byte limit or cannot be serialized.
+     */
+    public Optional<Entry> put(final UUID auctionId, final View view, final Object response) {
+        final byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(response);
+        } catch (final JsonProcessingException e) {
+            log.warn("Could not serialize closed auction {} ({})", auctionId, view, e);
+            return Optional.empty();
+        }
+        if (body.length > maxBytes) {
+            return Optional.empty();
+        }
+
+        final Entry entry = new Entry(body, DigestUtils.md5DigestAsHex(body));
+        synchronized (entries) {
+            final Entry previous = entries.put(new Key(auctionId, view), entry);
+            totalBytes += body.length - (previous != null ? previous.body().length : 0);
+
+            final Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes) {
+                totalBytes -= eldest.next().body().length;
+                eldest.remove();
+            }
+        }
+        return Optional.of(entry);
+    }
+
+    @TransactionalEventListener
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        filler.execute(() -> fill(event.auctionId()));
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        filler.shutdown();
+    }
+
+    private void fill(final UUID auctionId) {
+        try {
+            put(auctionId, View.AUCTION, auctionService.getAuction(auctionId));
+            put(auctionId, View.STATUS, auctionService.getAuctionStatus(auctionId));
+            put(auctionId, View.BIDS, bidService.getBidsForAuction(auctionId));
+        } catch (final RuntimeException e) {
+            log.warn("Could not cache closed auction {}", auctionId, e);
+        }
+    }
+
+    public enum View {
+        AUCTION(response -> response instanceof AuctionResponse auction && auction.status() == AuctionStatus.CLOSED),
+        STATUS(response -> response instanceof AuctionStatusResponse status && status.status() == AuctionStatus.CLOSED),
+        // A bid list does not say whether its auction closed; it is cached when the auction closes
+        BIDS(response -> false);
+
+        private final Predicate<Object> closed;
+
+        View(final Predicate<Object> closed) {
+            this.closed = closed;
+        }
+
+        public boolean isClosed(final Object response) {
+            return closed.test(response);
+        }
+    }
+
+    private record Key(UUID auctionId, View view) {
+    }
+
+    public record Entry(byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.exception.IdempotencyKeyReusedException;
+import com.aktiia.bidapplication.model.dto.request.BidRequest;
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.entity.IdempotencyRecord;
+import com.aktiia.bidapplication.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates bid placements carrying the same {@code Idempotency-Key}.
+ * <p>
+ * Keys are scoped to the user and the auction. The first request executes the bid, every retry
+ * with the same key gets the original {@link BidResponse} back without touching the locked bid
+ * path. A retry that arrives while the original is still running waits for its outcome instead
+ * of competing for the auction row lock. Failed placements are not remembered, so a retry after
+ * an error is executed again. A key reused with a different request is rejected with
+ * {@link IdempotencyKeyReusedException}, answered as 422.
+ * <p>
+ * Results are kept in a bounded, time-expiring in-memory map and, when
+ * {@code app.idempotency.persistent} is enabled, in the {@code idempotency_key} table as well.
+ * The table is what deduplicates across nodes: the key is inserted in the bid's own transaction
+ * before the bid is placed, so a second node claiming it waits on that row, fails on the primary
+ * key once the first commits, and replays the committed result.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMs;
+    private final boolean persistent;
+    private final Map<String, StoredResult> results;
+
+    public IdempotencyService(final IdempotencyRecordRepository idempotencyRecordRepository,
+                              final PlatformTransactionManager transactionManager,
+                              @Value("${app.idempotency.ttl-ms:86400000}") final long ttlMs,
+                              @Value("${app.idempotency.max-entries:50000}") final int maxEntries,
+                              @Value("${app.idempotency.persistent:false}") final boolean persistent) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlMs = ttlMs;
+        this.persistent = persistent;
+        this.results = new LinkedHashMap<>(1024, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, StoredResult> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public BidResponse placeBidOnce(final UUID auctionId,
+                                    final String username,
+                                    final String idempotencyKey,
+                                    final BidRequest request,
+                                    final Supplier<BidResponse> placeBid) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        final String storeKey = username + ":" + auctionId + ":" + idempotencyKey;
+        final String requestHash = requestHash(request);
+        final long now = System.currentTimeMillis();
+        final StoredResult ownResult = new StoredResult(new CompletableFuture<>(), requestHash, now + ttlMs);
+
+        final StoredResult existing;
+        synchronized (results) {
+            final StoredResult stored = results.get(storeKey);
+            if (stored != null && stored.expiresAt() > now) {
+                existing = stored;
+            } else {
+                existing = null;
+                results.put(storeKey, ownResult);
+            }
+        }
+
+        if (existing != null) {
+            if (!existing.requestHash().equals(requestHash)) {
+                throw reused(idempotencyKey);
+            }
+            log.debug("Replaying idempotent bid: key={}, auctionId={}", idempotencyKey, auctionId);
+            return awaitResult(existing.result());
+        }
+
+        try {
+            final BidResponse response = persistent
+                    ? placeAndRecord(storeKey, idempotencyKey, requestHash, placeBid)
+                    : placeBid.get();
+            ownResult.result().complete(response);
+            return response;
+        } catch (RuntimeException ex) {
+            synchronized (results) {
+                results.remove(storeKey, ownResult);
+            }
+            ownResult.result().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.idempotency.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        final long now = System.currentTimeMillis();
+        synchronized (results) {
+            results.values().removeIf(stored -> stored.expiresAt() <= now);
+        }
+
+        if (persistent) {
+            final int purged = idempotencyRecordRepository.deleteOlderThan(LocalDateTime.now().minus(Duration.ofMillis(ttlMs)));
+            log.debug("Purged {} expired idempotency record(s)", purged);
+        }
+    }
+
+    /**
+     * Claims the key and places the bid in one transaction; the bid joins it. If another node
+     * holds the key the insert waits for it, and once that node commits fails on the primary key,
+     * rolling back before any bid is placed here.
+     */
+    private BidResponse placeAndRecord(final String storeKey,
+                                       final String idempotencyKey,
+                                       final String requestHash,
+                                       final Supplier<BidResponse> placeBid) {
+        final Optional<BidResponse> persisted = findPersisted(storeKey, idempotencyKey, requestHash);
+        if (persisted.isPresent()) {
+            return persisted.get();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                idempotencyRecordRepository.claim(storeKey, requestHash, LocalDateTime.now());
+                final BidResponse response = placeBid.get();
+                idempotencyRecordRepository.complete(storeKey, response.id(), response.auctionId(), response.amount(),
+                        response.bidderUsername(), response.placedAt());
+                return response;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Idempotency key claimed by another node, replaying: key={}", idempotencyKey);
+            return findPersisted(storeKey, idempotencyKey, requestHash).orElseThrow(() -> ex);
+        }
+    }
+
+    private Optional<BidResponse> findPersisted(final String storeKey,
+                                                final String idempotencyKey,
+                                                final String requestHash) {
+        return idempotencyRecordRepository.findById(storeKey)
+                .map(record -> {
+                    // Rows written before request hashes were stored carry none
+                    if (record.getRequestHash() != null && !record.getRequestHash().equals(requestHash)) {
+                        throw reused(idempotencyKey);
+                    }
+                    return BidResponse.builder()
+                            .id(record.getBidId())
+                            .amount(record.getAmount())
+                            .bidderUsername(record.getBidderUsername())
+                            .auctionId(record.getAuctionId())
+                            .placedAt(record.getPlacedAt())
+                            .build();
+                });
+    }
+
+    private static String requestHash(final BidRequest request) {
+        final String canonical = canonical(request.getAmount()) + ":" + canonical(request.getMaxAmount());
+        return DigestUtils.md5DigestAsHex(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String canonical(final BigDecimal amount) {
+        return amount == null ? "" : amount.stripTrailingZeros().toPlainString();
+    }
+
+    private static IdempotencyKeyReusedException reused(final String idempotencyKey) {
+        return new IdempotencyKeyReusedException("Idempotency-Key " + idempotencyKey
+                + " was already used with a different request");
+    }
+
+    private BidResponse awaitResult(final CompletableFuture<BidResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record StoredResult(CompletableFuture<BidResponse> result, String requestHash, long expiresAt) {
+    }
+}
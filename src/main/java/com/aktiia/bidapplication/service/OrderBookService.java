@@ -0,0 +1,103 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.helper.OrderBook;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.repository.BidRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link OrderBook} of every multi-unit auction that has seen a bid since startup.
+ * <p>
+ * A book is built by replaying the auction's bids from {@link BidRepository}. Every bid bumps
+ * the auction's {@code orderBookVersion} in its locked write, so the version is the number of
+ * bids and tells without a query whether a cached book still matches the table; a book that
+ * missed bids placed through another instance is rebuilt. Under the auction row lock the version
+ * is exact. Reads go by the auction they are given, which may come from the second-level cache
+ * and lag another instance's latest bid the same way its price does.
+ * <p>
+ * The cache only ever holds committed bids. Bid placement takes the book out of the cache while
+ * its transaction changes it, and puts it back once that transaction commits; readers in the
+ * meantime build their own from the committed rows. A placement that rolls back drops the book.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderBookService {
+
+    private final BidRepository bidRepository;
+    private final Map<UUID, OrderBook> books = new ConcurrentHashMap<>();
+
+    /**
+     * Book for bid placement, private to the calling transaction until it completes. Must be
+     * called while holding the auction row lock.
+     */
+    public OrderBook lockedBook(final Auction auction) {
+        final UUID auctionId = auction.getId();
+        final OrderBook cached = books.remove(auctionId);
+        final long committed = auction.getOrderBookVersion();
+        final OrderBook book = current(auction, cached, committed);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status == STATUS_COMMITTED || book.bidCount() == committed) {
+                        publish(auctionId, book);
+                    } else {
+                        log.info("Order book of auction {} dropped after rollback", auctionId);
+                    }
+                }
+            });
+        }
+        return book;
+    }
+
+    /**
+     * Book for reads, holding committed bids only. A book built here is not cached, only
+     * placement publishes books.
+     */
+    public OrderBook book(final Auction auction) {
+        return current(auction, books.get(auction.getId()), auction.getOrderBookVersion());
+    }
+
+    public void evict(final UUID auctionId) {
+        books.remove(auctionId);
+    }
+
+    private OrderBook current(final Auction auction, final OrderBook cached, final long committed) {
+        if (cached != null && cached.bidCount() == committed) {
+            return cached;
+        }
+        if (cached != null) {
+            log.debug("Order book of auction {} is stale ({} of {} bids), rebuilding", auction.getId(),
+                    cached.bidCount(), committed);
+        }
+        return load(auction);
+    }
+
+    /**
+     * Concurrent placements finish in any order, the book with the most bids is kept.
+     */
+    private void publish(final UUID auctionId, final OrderBook book) {
+        books.merge(auctionId, book, (current, candidate) ->
+                candidate.bidCount() >= current.bidCount() ? candidate : current);
+    }
+
+    private OrderBook load(final Auction auction) {
+        final OrderBook book = new OrderBook(auction.getQuantity());
+        for (final Bid bid : bidRepository.findByAuctionIdOrderByPlacedAtAsc(auction.getId())) {
+            book.place(bid.getBidder().getId(), Money.of(bid.getAmount()).cents());
+        }
+        return book;
+    }
+}
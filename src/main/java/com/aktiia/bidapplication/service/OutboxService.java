@@ -0,0 +1,70 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Turns domain events into outbox rows. The listeners are synchronous, so the rows are written
+ * in the transaction that placed the bid or closed the auction and commit or roll back with it.
+ * Nothing is delivered here, see {@link com.aktiia.bidapplication.job.OutboxDispatcher}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @EventListener
+    public void onBidPlaced(final BidPlacedEvent event) {
+        if (event.outbidUserIds().isEmpty()) {
+            return;
+        }
+
+        final List<OutboxEvent> events = new ArrayList<>(event.outbidUserIds().size());
+        for (final UUID outbidUserId : event.outbidUserIds()) {
+            events.add(OutboxEvent.builder()
+                    .type(NotificationType.OUTBID)
+                    .recipientId(outbidUserId)
+                    .auctionId(event.auctionId())
+                    .amount(event.currentPrice())
+                    .createdAt(event.placedAt())
+                    .build());
+        }
+        outboxEventRepository.saveAll(events);
+    }
+
+    @EventListener
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        // Every winner of a multi-unit auction took a unit at the same final price
+        final List<OutboxEvent> events = new ArrayList<>(event.winnerIds().size() + 1);
+        for (final UUID winnerId : event.winnerIds()) {
+            events.add(OutboxEvent.builder()
+                    .type(NotificationType.AUCTION_WON)
+                    .recipientId(winnerId)
+                    .auctionId(event.auctionId())
+                    .amount(event.finalPrice())
+                    .createdAt(event.closedAt())
+                    .build());
+        }
+        if (event.sellerId() != null) {
+            events.add(OutboxEvent.builder()
+                    .type(NotificationType.AUCTION_ENDED)
+                    .recipientId(event.sellerId())
+                    .auctionId(event.auctionId())
+                    .amount(event.finalPrice())
+                    .createdAt(event.closedAt())
+                    .build());
+        }
+        outboxEventRepository.saveAll(events);
+    }
+}
@@ -0,0 +1,298 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.AuctionClosedException;
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.helper.InvertedIndex;
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.helper.SavedSearchMatcher;
+import com.aktiia.bidapplication.helper.TransactionCallbacks;
+import com.aktiia.bidapplication.model.dto.request.PriceAlertRequest;
+import com.aktiia.bidapplication.model.dto.response.PriceAlertResponse;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.entity.PriceAlert;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import com.aktiia.bidapplication.repository.PriceAlertRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Price alerts, persisted in {@code price_alert}.
+ * <p>
+ * Auction alerts are matched in the table: an accepted bid reads the alerts of its auction
+ * whose threshold lies between the previous and the new price, through the
+ * {@code (auction_id, threshold)} index, inside the bid transaction. Bids on one auction
+ * serialize on its row, so every instance sees every alert that committed before the bid.
+ * <p>
+ * Search alerts live in a {@link SavedSearchMatcher}, like saved searches, so a newly listed
+ * auction only visits the alerts filed under one of its terms and the matching rules are those
+ * of search. {@link SavedSearchService} drives that matching, so one listing notifies each user
+ * once. The matcher is loaded at startup, and search alerts created on other instances are
+ * picked up every {@code app.price-alerts.refresh-interval-ms}; until then a listing on this
+ * instance does not see them. Alerts deleted or fired elsewhere stay in the matcher until they
+ * next match, when the table turns them down and they are dropped.
+ * <p>
+ * Matching only writes outbox rows, delivery is left to the outbox dispatcher. An alert fires
+ * once: firing sets {@code triggered_at} only where it is still unset, so of two instances
+ * matching the same alert only one notifies. Auction alerts that never fired are deleted when
+ * the auction closes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceAlertService {
+
+    private static final Duration REFRESH_LOOK_BACK = Duration.ofMinutes(1);
+
+    private final PriceAlertRepository priceAlertRepository;
+    private final AuctionRepository auctionRepository;
+    private final UserRepository userRepository;
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final SavedSearchMatcher searchAlerts = new SavedSearchMatcher();
+    private final Map<UUID, Integer> searchMatcherIds = new ConcurrentHashMap<>();
+    private final Map<Integer, UUID> searchAlertIds = new ConcurrentHashMap<>();
+    // Search alerts indexed in the matcher, by alert id
+    private final Map<UUID, ActiveAlert> activeAlerts = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAlerts() {
+        final List<PriceAlert> alerts = priceAlertRepository.findActiveSearchAlerts();
+        alerts.forEach(alert -> index(ActiveAlert.of(alert)));
+        log.info("Price alerts loaded: {} active search alert(s)", alerts.size());
+    }
+
+    /**
+     * Indexes the search alerts created lately, here or on another instance. The look-back
+     * covers transactions that committed after their {@code created_at}, and clock skew
+     * between instances; alerts already indexed are skipped.
+     */
+    @Scheduled(fixedDelayString = "${app.price-alerts.refresh-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void refreshSearchAlerts() {
+        final List<PriceAlert> alerts = priceAlertRepository.findActiveSearchAlertsCreatedAfter(
+                LocalDateTime.now().minus(REFRESH_LOOK_BACK));
+        alerts.stream()
+                .filter(alert -> !activeAlerts.containsKey(alert.getId()))
+                .forEach(alert -> index(ActiveAlert.of(alert)));
+    }
+
+    @Transactional
+    public PriceAlertResponse createAlert(final PriceAlertRequest request, final String username) {
+        if ((request.getAuctionId() == null) == (request.getQuery() == null)) {
+            throw new BadRequestException("Exactly one of auctionId and query is required");
+        }
+        if (request.getQuery() != null && InvertedIndex.tokenize(request.getQuery()).isEmpty()) {
+            throw new BadRequestException("Query must contain at least one word");
+        }
+
+        final User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+
+        if (request.getAuctionId() != null) {
+            final Auction auction = auctionRepository.findById(request.getAuctionId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", request.getAuctionId()));
+            if (auction.getStatus() == AuctionStatus.CLOSED) {
+                throw new AuctionClosedException("Alerts cannot be set on a closed auction");
+            }
+            if (request.getThreshold().compareTo(auction.getCurrentHighestBid()) <= 0) {
+                throw new BadRequestException("The auction's price has already reached " + request.getThreshold());
+            }
+        }
+
+        final PriceAlert alert = priceAlertRepository.save(PriceAlert.builder()
+                .user(user)
+                .auctionId(request.getAuctionId())
+                .searchQuery(request.getQuery() != null ? request.getQuery().trim() : null)
+                .threshold(request.getThreshold())
+                .build());
+        if (alert.getAuctionId() == null) {
+            TransactionCallbacks.afterCommit(() -> index(ActiveAlert.of(alert)));
+        }
+
+        return mapToResponse(alert);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PriceAlertResponse> getAlerts(final String username) {
+        final User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        return priceAlertRepository.findByUserIdAndTriggeredAtIsNullOrderByCreatedAtDesc(user.getId()).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteAlert(final UUID alertId, final String username) {
+        final User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        final PriceAlert alert = priceAlertRepository.findByIdAndUserId(alertId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("PriceAlert", "id", alertId));
+
+        priceAlertRepository.delete(alert);
+        if (alert.getAuctionId() == null) {
+            TransactionCallbacks.afterCommit(() -> unindex(alert.getId()));
+        }
+    }
+
+    /**
+     * Fires the auction alerts the new price has reached: {@code previous < threshold <= current}.
+     */
+    @EventListener
+    public void onBidPlaced(final BidPlacedEvent event) {
+        final List<ActiveAlert> crossed = priceAlertRepository.findCrossed(
+                        event.auctionId(), event.previousPrice(), event.currentPrice()).stream()
+                .map(ActiveAlert::of)
+                .toList();
+        fire(crossed, event.auctionId(), event.currentPrice(), event.placedAt());
+    }
+
+    /**
+     * Fires the search alerts that a newly listed auction is under and matches. Called by
+     * {@link SavedSearchService}, which matches listings against saved searches in the same pass.
+     *
+     * @param terms      the listing's title and description terms
+     * @param priceCents the listing's starting price
+     * @return the users whose alert fired
+     */
+    public Set<UUID> fireSearchAlerts(final AuctionCreatedEvent event, final List<String> terms, final long priceCents) {
+        if (searchAlerts.size() == 0) {
+            return Set.of();
+        }
+
+        final List<UUID> matchedIds = new ArrayList<>();
+        searchAlerts.match(terms, priceCents, id -> {
+            final UUID alertId = searchAlertIds.get(id);
+            if (alertId != null) {
+                matchedIds.add(alertId);
+            }
+        });
+        // Removing from activeAlerts decides the race between two listings on this instance
+        final List<ActiveAlert> matched = matchedIds.stream()
+                .map(activeAlerts::remove)
+                .filter(alert -> alert != null)
+                .toList();
+        matched.forEach(alert -> unmatch(alert.id()));
+
+        final List<ActiveAlert> fired = fire(matched, event.auctionId(), event.startingPrice(), LocalDateTime.now());
+        // Put back on rollback the ones that fired; the others were deleted or fired elsewhere
+        TransactionCallbacks.afterRollback(() -> fired.forEach(this::index));
+        return fired.stream()
+                .map(ActiveAlert::userId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Deletes the auction's alerts that never fired, in the closing transaction: they can no
+     * longer fire and must not be listed as active.
+     */
+    @EventListener
+    public void onAuctionClosed(final AuctionClosedEvent event) {
+        final int deleted = priceAlertRepository.deleteUntriggeredByAuctionId(event.auctionId());
+        if (deleted > 0) {
+            log.debug("Deleted {} unfired price alert(s) of closed auction {}", deleted, event.auctionId());
+        }
+    }
+
+    /**
+     * Fires the alerts that are still unfired in the table and writes their outbox rows.
+     *
+     * @return the alerts that fired
+     */
+    private List<ActiveAlert> fire(final List<ActiveAlert> alerts, final UUID auctionId, final BigDecimal price,
+                                   final LocalDateTime now) {
+        if (alerts.isEmpty()) {
+            return List.of();
+        }
+
+        // Another instance may have fired or deleted an alert since it was read
+        final List<ActiveAlert> fired = alerts.stream()
+                .filter(alert -> priceAlertRepository.markTriggered(List.of(alert.id()), now) == 1)
+                .toList();
+        if (fired.isEmpty()) {
+            return List.of();
+        }
+
+        outboxEventRepository.saveAll(fired.stream()
+                .map(alert -> OutboxEvent.builder()
+                        .type(NotificationType.PRICE_ALERT)
+                        .recipientId(alert.userId())
+                        .auctionId(auctionId)
+                        .amount(price)
+                        .createdAt(now)
+                        .build())
+                .toList());
+        log.debug("Fired {} price alert(s) for auction {}", fired.size(), auctionId);
+        return fired;
+    }
+
+    private void index(final ActiveAlert alert) {
+        if (alert.queryTokens().isEmpty() || activeAlerts.putIfAbsent(alert.id(), alert) != null) {
+            return;
+        }
+        // Fires for listings strictly under the threshold
+        final int id = searchAlerts.add(alert.queryTokens(), alert.thresholdCents() - 1);
+        searchAlertIds.put(id, alert.id());
+        searchMatcherIds.put(alert.id(), id);
+    }
+
+    private void unindex(final UUID alertId) {
+        activeAlerts.remove(alertId);
+        unmatch(alertId);
+    }
+
+    private void unmatch(final UUID alertId) {
+        final Integer id = searchMatcherIds.remove(alertId);
+        if (id != null) {
+            searchAlertIds.remove(id);
+            searchAlerts.remove(id);
+        }
+    }
+
+    private PriceAlertResponse mapToResponse(final PriceAlert alert) {
+        return PriceAlertResponse.builder()
+                .id(alert.getId())
+                .auctionId(alert.getAuctionId())
+                .query(alert.getSearchQuery())
+                .threshold(alert.getThreshold())
+                .createdAt(alert.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * What matching needs of an alert, without the entity.
+     */
+    private record ActiveAlert(UUID id, UUID userId, UUID auctionId, List<String> queryTokens, long thresholdCents) {
+
+        static ActiveAlert of(final PriceAlert alert) {
+            return new ActiveAlert(alert.getId(), alert.getUser().getId(), alert.getAuctionId(),
+                    InvertedIndex.tokenize(alert.getSearchQuery()), Money.ofRoundedDown(alert.getThreshold()).cents());
+        }
+    }
+}
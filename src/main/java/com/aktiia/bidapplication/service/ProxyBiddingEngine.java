@@ -0,0 +1,75 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.model.entity.ProxyBid;
+import com.aktiia.bidapplication.model.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves automatic (proxy) bidding in a single pass.
+ * <p>
+ * Instead of replaying the bidding war one increment at a time, the outcome is computed
+ * directly from the two highest maximums: the stronger side wins at one increment above the
+ * weaker side's maximum (capped at its own maximum) and the weaker side is shown bidding its
+ * full maximum. Only those resulting visible bids are written.
+ * <p>
+ * Invariant: after every resolution the visible price is at least the maximum of every losing
+ * proxy, so only the single strongest rival above the incoming amount can still respond.
+ * Automatic bids must be strictly higher than the visible price, and equal maximums are won by
+ * the proxy that was registered first. Amounts are {@link Money}, so resolving compares and adds
+ * cents only.
+ */
+@Component
+public class ProxyBiddingEngine {
+
+    private final Money minIncrement;
+
+    public ProxyBiddingEngine(@Value("${auction.bidding.min-increment:1.00}") final BigDecimal minIncrement) {
+        this.minIncrement = Money.of(minIncrement);
+    }
+
+    /**
+     * @param bidder        the user placing the explicit bid
+     * @param amount        the explicit bid, already validated to beat the visible price
+     * @param bidderMaximum the bidder's own maximum (at least {@code amount})
+     * @param rival         strongest competing proxy whose maximum exceeds {@code amount}
+     * @return the automatic bids to write after the explicit one, in ascending order
+     */
+    public List<AutoBid> resolve(final User bidder,
+                                 final Money amount,
+                                 final Money bidderMaximum,
+                                 final ProxyBid rival) {
+        final List<AutoBid> autoBids = new ArrayList<>(2);
+        final Money rivalMaximum = Money.of(rival.getMaxAmount());
+
+        if (!rivalMaximum.isLessThan(bidderMaximum)) {
+            // The rival holds on. The bidder is pushed to their maximum unless the rival wins a tie there.
+            Money visiblePrice = amount;
+            if (bidderMaximum.isGreaterThan(amount) && rivalMaximum.isGreaterThan(bidderMaximum)) {
+                autoBids.add(new AutoBid(bidder, bidderMaximum));
+                visiblePrice = bidderMaximum;
+            }
+
+            final Money rivalPrice = rivalMaximum.equals(bidderMaximum)
+                    ? rivalMaximum
+                    : rivalMaximum.min(bidderMaximum.plus(minIncrement));
+            if (rivalPrice.isGreaterThan(visiblePrice)) {
+                autoBids.add(new AutoBid(rival.getBidder(), rivalPrice));
+            }
+        } else {
+            // The bidder's maximum is stronger: the rival is exhausted and the bidder leads just above it
+            autoBids.add(new AutoBid(rival.getBidder(), rivalMaximum));
+            autoBids.add(new AutoBid(bidder, bidderMaximum.min(rivalMaximum.plus(minIncrement))));
+        }
+
+        return autoBids;
+    }
+
+    public record AutoBid(User bidder, Money amount) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.helper.InvertedIndex;
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.helper.SavedSearchMatcher;
+import com.aktiia.bidapplication.helper.TransactionCallbacks;
+import com.aktiia.bidapplication.model.dto.request.SavedSearchRequest;
+import com.aktiia.bidapplication.model.dto.response.SavedSearchResponse;
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.entity.SavedSearch;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import com.aktiia.bidapplication.repository.SavedSearchRepository;
+import com.aktiia.bidapplication.repository.SavedSearchRepository.SavedSearchEntry;
+import com.aktiia.bidapplication.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saved searches, stored in {@code saved_search} and mirrored in a {@link SavedSearchMatcher}.
+ * <p>
+ * A new auction is matched inside the creating transaction: the matcher only visits the saved
+ * searches filed under one of the listing's terms, so the cost does not grow with the number of
+ * saved searches. Every user with at least one match gets a single outbox row, which the outbox
+ * dispatcher delivers asynchronously. Matching follows the search rules, see {@link InvertedIndex}.
+ * <p>
+ * Every instance keeps its own matcher. It is loaded at startup, and saved searches created on
+ * other instances are picked up every {@code app.saved-search.refresh-interval-ms}; a listing
+ * created on this instance before then does not see them. The searches a listing matches are
+ * checked against the table before anyone is notified, so one deleted on another instance
+ * never notifies and is dropped from the matcher.
+ * <p>
+ * Search price alerts are one-shot saved searches with a price limit. This service matches a
+ * new listing against them first, through {@link PriceAlertService#fireSearchAlerts}, so a user
+ * whose alert fired gets that {@code PRICE_ALERT} and no {@code SAVED_SEARCH_MATCH} besides.
+ */
+@Slf4j
+@Service
+public class SavedSearchService {
+
+    private static final Duration REFRESH_LOOK_BACK = Duration.ofMinutes(1);
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final UserRepository userRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PriceAlertService priceAlertService;
+    private final int maxPerUser;
+
+    private final SavedSearchMatcher matcher = new SavedSearchMatcher();
+    private final Map<UUID, Integer> matcherIds = new ConcurrentHashMap<>();
+    private final Map<Integer, UUID> recipients = new ConcurrentHashMap<>();
+    private final Map<Integer, UUID> savedSearchIds = new ConcurrentHashMap<>();
+
+    public SavedSearchService(final SavedSearchRepository savedSearchRepository,
+                              final UserRepository userRepository,
+                              final OutboxEventRepository outboxEventRepository,
+                              final PriceAlertService priceAlertService,
+                              @Value("${app.saved-search.max-per-user:25}") final int maxPerUser) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.userRepository = userRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.priceAlertService = priceAlertService;
+        this.maxPerUser = maxPerUser;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadSavedSearches() {
+        final List<SavedSearchEntry> entries = savedSearchRepository.findAllEntries();
+        entries.forEach(entry -> register(entry.getId(), entry.getUserId(), entry.getSearchQuery(), entry.getMaxPrice()));
+        log.info("Saved searches loaded: {} search(es)", entries.size());
+    }
+
+    /**
+     * Registers the saved searches created lately, here or on another instance. The look-back
+     * covers transactions that committed after their {@code created_at}, and clock skew
+     * between instances; searches already registered are skipped.
+     */
+    @Scheduled(fixedDelayString = "${app.saved-search.refresh-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void refreshSavedSearches() {
+        savedSearchRepository.findEntriesCreatedAfter(LocalDateTime.now().minus(REFRESH_LOOK_BACK))
+                .forEach(entry -> register(entry.getId(), entry.getUserId(), entry.getSearchQuery(), entry.getMaxPrice()));
+    }
+
+    @Transactional
+    public SavedSearchResponse createSavedSearch(final SavedSearchRequest request, final String username) {
+        final User user = findUser(username);
+        if (InvertedIndex.tokenize(request.getQuery()).isEmpty()) {
+            throw new BadRequestException("Query must contain at least one word");
+        }
+        if (savedSearchRepository.countByUserId(user.getId()) >= maxPerUser) {
+            throw new BadRequestException("At most " + maxPerUser + " saved searches are allowed");
+        }
+
+        final SavedSearch savedSearch = savedSearchRepository.save(SavedSearch.builder()
+                .user(user)
+                .searchQuery(request.getQuery().trim())
+                .maxPrice(request.getMaxPrice())
+                .build());
+        TransactionCallbacks.afterCommit(() ->
+                register(savedSearch.getId(), user.getId(), savedSearch.getSearchQuery(), savedSearch.getMaxPrice()));
+
+        return mapToResponse(savedSearch);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getSavedSearches(final String username) {
+        final User user = findUser(username);
+        return savedSearchRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteSavedSearch(final UUID savedSearchId, final String username) {
+        final User user = findUser(username);
+        final SavedSearch savedSearch = savedSearchRepository.findByIdAndUserId(savedSearchId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("SavedSearch", "id", savedSearchId));
+
+        savedSearchRepository.delete(savedSearch);
+        TransactionCallbacks.afterCommit(() -> unregister(savedSearchId));
+    }
+
+    @EventListener
+    public void onAuctionCreated(final AuctionCreatedEvent event) {
+        final List<String> terms = new ArrayList<>(InvertedIndex.tokenize(event.title()));
+        terms.addAll(InvertedIndex.tokenize(event.description()));
+        final long priceCents = Money.ofRoundedDown(event.startingPrice()).cents();
+        final Set<UUID> alerted = priceAlertService.fireSearchAlerts(event, terms, priceCents);
+
+        final Map<UUID, UUID> matched = new LinkedHashMap<>();
+        matcher.match(terms, priceCents, id -> {
+            final UUID savedSearchId = savedSearchIds.get(id);
+            final UUID userId = recipients.get(id);
+            if (savedSearchId != null && userId != null && !alerted.contains(userId)) {
+                matched.put(savedSearchId, userId);
+            }
+        });
+        if (matched.isEmpty()) {
+            return;
+        }
+
+        // Searches deleted on another instance are still in this matcher
+        final Set<UUID> existing = savedSearchRepository.findExistingIds(matched.keySet());
+        matched.keySet().stream()
+                .filter(savedSearchId -> !existing.contains(savedSearchId))
+                .toList()
+                .forEach(savedSearchId -> {
+                    matched.remove(savedSearchId);
+                    unregister(savedSearchId);
+                });
+        final Set<UUID> matchedUsers = new LinkedHashSet<>(matched.values());
+        if (matchedUsers.isEmpty()) {
+            return;
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.saveAll(matchedUsers.stream()
+                .map(userId -> OutboxEvent.builder()
+                        .type(NotificationType.SAVED_SEARCH_MATCH)
+                        .recipientId(userId)
+                        .auctionId(event.auctionId())
+                        .amount(event.startingPrice())
+                        .createdAt(now)
+                        .build())
+                .toList());
+        log.debug("Auction {} matched saved searches of {} user(s)", event.auctionId(), matchedUsers.size());
+    }
+
+    private synchronized void register(final UUID savedSearchId, final UUID userId, final String query, final BigDecimal maxPrice) {
+        final List<String> tokens = InvertedIndex.tokenize(query);
+        if (tokens.isEmpty() || matcherIds.containsKey(savedSearchId)) {
+            return;
+        }
+        final int id = matcher.add(tokens, maxPrice != null ? Money.ofRoundedDown(maxPrice).cents() : Long.MAX_VALUE);
+        recipients.put(id, userId);
+        savedSearchIds.put(id, savedSearchId);
+        matcherIds.put(savedSearchId, id);
+    }
+
+    private synchronized void unregister(final UUID savedSearchId) {
+        final Integer id = matcherIds.remove(savedSearchId);
+        if (id != null) {
+            recipients.remove(id);
+            savedSearchIds.remove(id);
+            matcher.remove(id);
+        }
+    }
+
+    private User findUser(final String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+    }
+
+    private SavedSearchResponse mapToResponse(final SavedSearch savedSearch) {
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .query(savedSearch.getSearchQuery())
+                .maxPrice(savedSearch.getMaxPrice())
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.aktiia.bidapplication.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Anti-sniping rule: a bid arriving in the final {@code window-seconds} of an auction pushes
+ * the end time to {@code extension-seconds} after the bid. A window of 0 disables soft close.
+ */
+@Component
+public class SoftClosePolicy {
+
+    private final long windowSeconds;
+    private final long extensionSeconds;
+
+    public SoftClosePolicy(@Value("${auction.soft-close.window-seconds:0}") final long windowSeconds,
+                           @Value("${auction.soft-close.extension-seconds:0}") final long extensionSeconds) {
+        this.windowSeconds = windowSeconds;
+        this.extensionSeconds = extensionSeconds;
+    }
+
+    /**
+     * @return the new end time if a bid placed at {@code bidTime} extends the auction
+     */
+    public Optional<LocalDateTime> extendedEndTime(final LocalDateTime endTime, final LocalDateTime bidTime) {
+        if (windowSeconds <= 0 || bidTime.plusSeconds(windowSeconds).isBefore(endTime)) {
+            return Optional.empty();
+        }
+
+        final LocalDateTime extended = bidTime.plusSeconds(extensionSeconds);
+        return extended.isAfter(endTime) ? Optional.of(extended) : Optional.empty();
+    }
+}
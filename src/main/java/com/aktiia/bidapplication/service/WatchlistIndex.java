@@ -0,0 +1,93 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.IntSet;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reverse index from an open auction to the users watching it.
+ * <p>
+ * Users are interned to small {@code int} indexes once, and each auction's watchers are an
+ * {@link IntSet}, so a hot auction with 100k watchers is a single ~1 MB int array rather than
+ * 100k boxed entries, and fanning out a change never touches JPA. Every set is guarded by its
+ * own monitor; mutations additionally run inside the map's per-key {@code compute}.
+ */
+@Component
+public class WatchlistIndex {
+
+    private final Map<UUID, Integer> userIndexes = new ConcurrentHashMap<>();
+    private final AtomicInteger lastUserIndex = new AtomicInteger();
+    private final Map<UUID, IntSet> watchers = new ConcurrentHashMap<>();
+
+    public int userIndex(final UUID userId) {
+        return userIndexes.computeIfAbsent(userId, id -> lastUserIndex.incrementAndGet());
+    }
+
+    public void watch(final UUID auctionId, final UUID userId) {
+        final int userIndex = userIndex(userId);
+        watchers.compute(auctionId, (id, set) -> {
+            final IntSet watching = set != null ? set : new IntSet();
+            synchronized (watching) {
+                watching.add(userIndex);
+            }
+            return watching;
+        });
+    }
+
+    public void unwatch(final UUID auctionId, final UUID userId) {
+        final Integer userIndex = userIndexes.get(userId);
+        if (userIndex == null) {
+            return;
+        }
+        watchers.computeIfPresent(auctionId, (id, watching) -> {
+            synchronized (watching) {
+                watching.remove(userIndex);
+                return watching.isEmpty() ? null : watching;
+            }
+        });
+    }
+
+    public int watcherCount(final UUID auctionId) {
+        final IntSet watching = watchers.get(auctionId);
+        if (watching == null) {
+            return 0;
+        }
+        synchronized (watching) {
+            return watching.size();
+        }
+    }
+
+    public boolean isWatching(final UUID auctionId, final int userIndex) {
+        final IntSet watching = watchers.get(auctionId);
+        if (watching == null) {
+            return false;
+        }
+        synchronized (watching) {
+            return watching.contains(userIndex);
+        }
+    }
+
+    /**
+     * @return a snapshot of the watchers' user indexes
+     */
+    public int[] watchers(final UUID auctionId) {
+        final IntSet watching = watchers.get(auctionId);
+        if (watching == null) {
+            return new int[0];
+        }
+        synchronized (watching) {
+            return watching.toArray();
+        }
+    }
+
+    /**
+     * Closed auctions no longer change, their watchers do not need to be indexed.
+     */
+    public void removeAuction(final UUID auctionId) {
+        watchers.remove(auctionId);
+    }
+}
@@ -0,0 +1,136 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.AuctionClosedException;
+import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.helper.TransactionCallbacks;
+import com.aktiia.bidapplication.model.dto.response.AuctionChangeResponse;
+import com.aktiia.bidapplication.model.dto.response.WatchlistEntryResponse;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.entity.WatchlistEntry;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import com.aktiia.bidapplication.repository.WatchlistRepository;
+import com.aktiia.bidapplication.repository.WatchlistRepository.WatchPair;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Watchlists are stored in the {@code watchlist} table and mirrored, for open auctions only, in
+ * the {@link WatchlistIndex}. Price and status changes are pushed to watchers' event streams
+ * from the change feed, see {@link AuctionChangeFeedFollower}, so a stream open on any instance
+ * gets the bids and closes made through every instance, in feed order, within a poll interval
+ * of their commit.
+ * <p>
+ * Every instance keeps its own index. Subscribing adds the user's watches from the table, so
+ * watches made through another instance are followed from the next connection on; a watch
+ * removed elsewhere keeps notifying this instance's streams until the index is reloaded.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WatchlistService {
+
+    private final WatchlistRepository watchlistRepository;
+    private final AuctionRepository auctionRepository;
+    private final UserRepository userRepository;
+    private final WatchlistIndex watchlistIndex;
+    private final WatchlistStreamService watchlistStreamService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        final List<WatchPair> pairs = watchlistRepository.findWatchPairsByAuctionStatus(AuctionStatus.OPEN);
+        pairs.forEach(pair -> watchlistIndex.watch(pair.getAuctionId(), pair.getUserId()));
+        log.info("Watchlist index loaded: {} watch(es)", pairs.size());
+    }
+
+    @Transactional
+    public void watch(final UUID auctionId, final String username) {
+        final User user = findUser(username);
+        final Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction", "id", auctionId));
+
+        if (auction.getStatus() == AuctionStatus.CLOSED) {
+            throw new AuctionClosedException("Closed auctions cannot be watched");
+        }
+        if (watchlistRepository.existsByUserIdAndAuctionId(user.getId(), auctionId)) {
+            return;
+        }
+
+        watchlistRepository.save(WatchlistEntry.builder()
+                .user(user)
+                .auction(auction)
+                .build());
+        TransactionCallbacks.afterCommit(() -> watchlistIndex.watch(auctionId, user.getId()));
+    }
+
+    @Transactional
+    public void unwatch(final UUID auctionId, final String username) {
+        final User user = findUser(username);
+        watchlistRepository.deleteByUserIdAndAuctionId(user.getId(), auctionId);
+        TransactionCallbacks.afterCommit(() -> watchlistIndex.unwatch(auctionId, user.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<WatchlistEntryResponse> getWatchlist(final String username) {
+        final User user = findUser(username);
+        return watchlistRepository.findByUserIdWithAuction(user.getId()).stream()
+                .map(entry -> WatchlistEntryResponse.builder()
+                        .auctionId(entry.getAuction().getId())
+                        .title(entry.getAuction().getTitle())
+                        .currentHighestBid(entry.getAuction().getCurrentHighestBid())
+                        .status(entry.getAuction().getStatus())
+                        .endTime(entry.getAuction().getEndTime())
+                        .watchedAt(entry.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(final String username) {
+        final User user = findUser(username);
+        watchlistRepository.findByUserIdWithAuction(user.getId()).stream()
+                .filter(entry -> entry.getAuction().getStatus() == AuctionStatus.OPEN)
+                .forEach(entry -> watchlistIndex.watch(entry.getAuction().getId(), user.getId()));
+        return watchlistStreamService.subscribe(watchlistIndex.userIndex(user.getId()));
+    }
+
+    @EventListener
+    public void onFeedChanges(final AuctionChangesEvent event) {
+        for (final AuctionChange change : event.changes()) {
+            if (change.getChange() == AuctionChangeType.BID_PLACED) {
+                watchlistStreamService.publish(AuctionChangeResponse.builder()
+                        .auctionId(change.getAuctionId())
+                        .currentPrice(change.getCurrentPrice())
+                        .status(AuctionStatus.OPEN)
+                        .changedAt(change.getChangedAt())
+                        .build());
+            } else if (change.getChange() == AuctionChangeType.CLOSED) {
+                watchlistStreamService.publish(AuctionChangeResponse.builder()
+                        .auctionId(change.getAuctionId())
+                        .currentPrice(change.getCurrentPrice())
+                        .status(AuctionStatus.CLOSED)
+                        .changedAt(change.getChangedAt())
+                        .build());
+            }
+        }
+    }
+
+    private User findUser(final String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+    }
+}
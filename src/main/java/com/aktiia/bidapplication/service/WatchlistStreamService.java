@@ -0,0 +1,115 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.dto.response.AuctionChangeResponse;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Server-sent event streams of watched auction changes, one or more per connected user.
+ * <p>
+ * Changes are fanned out on a single background thread, which keeps them in commit order per
+ * auction and keeps slow clients off the request threads. Each fan-out walks the smaller of
+ * the two sides: the auction's watchers (looking up connections) or the connected users
+ * (checking the watcher set), so 100k watchers with a handful of open streams costs a handful
+ * of lookups.
+ */
+@Slf4j
+@Service
+public class WatchlistStreamService {
+
+    private static final String EVENT_NAME = "auction-change";
+
+    private final WatchlistIndex watchlistIndex;
+    private final long timeoutMs;
+    private final Map<Integer, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService fanOut = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "watchlist-fan-out");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WatchlistStreamService(final WatchlistIndex watchlistIndex,
+                                  @Value("${app.watchlist.stream-timeout-ms:1800000}") final long timeoutMs) {
+        this.watchlistIndex = watchlistIndex;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe(final int userIndex) {
+        final SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitters.computeIfAbsent(userIndex, index -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        final Runnable remove = () -> disconnect(userIndex, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    /**
+     * Queues the change for delivery to every connected watcher of its auction.
+     */
+    public void publish(final AuctionChangeResponse change) {
+        fanOut.execute(() -> {
+            deliver(change);
+            if (change.status() == AuctionStatus.CLOSED) {
+                watchlistIndex.removeAuction(change.auctionId());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+    }
+
+    private void deliver(final AuctionChangeResponse change) {
+        final int watcherCount = watchlistIndex.watcherCount(change.auctionId());
+        if (watcherCount == 0 || emitters.isEmpty()) {
+            return;
+        }
+
+        if (emitters.size() < watcherCount) {
+            emitters.forEach((userIndex, connections) -> {
+                if (watchlistIndex.isWatching(change.auctionId(), userIndex)) {
+                    send(userIndex, connections, change);
+                }
+            });
+        } else {
+            for (final int userIndex : watchlistIndex.watchers(change.auctionId())) {
+                final Set<SseEmitter> connections = emitters.get(userIndex);
+                if (connections != null) {
+                    send(userIndex, connections, change);
+                }
+            }
+        }
+    }
+
+    private void send(final int userIndex, final Set<SseEmitter> connections, final AuctionChangeResponse change) {
+        for (final SseEmitter emitter : connections) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(change));
+            } catch (final IOException | IllegalStateException e) {
+                log.debug("Dropping watchlist stream of user index {}: {}", userIndex, e.getMessage());
+                disconnect(userIndex, emitter);
+            }
+        }
+    }
+
+    private void disconnect(final int userIndex, final SseEmitter emitter) {
+        emitters.computeIfPresent(userIndex, (index, connections) -> {
+            connections.remove(emitter);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.aktiia.bidapplication.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(jwtTokenProvider, true, 2, 0.001, 1, 0.001);
+    }
+
+    private MockHttpServletResponse perform(final MockHttpServletRequest request) throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest bidRequest(final String token) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auctions/abc/bids");
+        request.setServletPath("/api/auctions/abc/bids");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should throttle bids per username and return Retry-After")
+    void shouldThrottleBidsPerUser() throws Exception {
+        when(jwtTokenProvider.findUsernameInToken("token-a")).thenReturn(Optional.of("alice"));
+        when(jwtTokenProvider.findUsernameInToken("token-b")).thenReturn(Optional.of("bob"));
+
+        assertThat(perform(bidRequest("token-a")).getStatus()).isEqualTo(200);
+        assertThat(perform(bidRequest("token-a")).getStatus()).isEqualTo(200);
+
+        final MockHttpServletResponse throttled = perform(bidRequest("token-a"));
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(throttled.getHeader("Retry-After")).isNotBlank();
+
+        // Another user has a bucket of their own
+        assertThat(perform(bidRequest("token-b")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should throttle auth endpoints per client IP")
+    void shouldThrottleAuthPerIp() throws Exception {
+        final MockHttpServletRequest first = new MockHttpServletRequest("POST", "/api/auth/login");
+        first.setServletPath("/api/auth/login");
+        final MockHttpServletRequest second = new MockHttpServletRequest("POST", "/api/auth/login");
+        second.setServletPath("/api/auth/login");
+
+        assertThat(perform(first).getStatus()).isEqualTo(200);
+        assertThat(perform(second).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should not throttle reads")
+    void shouldNotThrottleReads() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auctions/abc/bids");
+            request.setServletPath("/api/auctions/abc/bids");
+            assertThat(perform(request).getStatus()).isEqualTo(200);
+        }
+    }
+}
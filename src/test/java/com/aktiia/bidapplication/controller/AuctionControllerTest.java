@@ -2,12 +2,27 @@ package com.aktiia.bidapplication.controller;
 
 import com.aktiia.bidapplication.auth.JwtAuthenticationEntryPoint;
 import com.aktiia.bidapplication.auth.JwtTokenProvider;
+import com.aktiia.bidapplication.config.MessageConverterConfig;
 import com.aktiia.bidapplication.config.SecurityConfig;
+import com.aktiia.bidapplication.helper.LogSampler;
 import com.aktiia.bidapplication.model.dto.request.AuctionRequest;
 import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
+import com.aktiia.bidapplication.model.dto.response.AuctionSearchResponse;
 import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import com.aktiia.bidapplication.model.dto.response.AuctionSummaryResponse;
+import com.aktiia.bidapplication.model.dto.response.BrowsePageResponse;
+import com.aktiia.bidapplication.model.dto.response.ChangeFeedEntryResponse;
+import com.aktiia.bidapplication.model.dto.response.ChangeFeedResponse;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.service.AuctionBrowseService;
+import com.aktiia.bidapplication.service.AuctionChangeFeedService;
+import com.aktiia.bidapplication.service.AuctionReadService;
+import com.aktiia.bidapplication.service.AuctionSearchService;
 import com.aktiia.bidapplication.service.AuctionService;
+import com.aktiia.bidapplication.service.BidService;
+import com.aktiia.bidapplication.service.ClosedAuctionCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,21 +38,27 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static com.aktiia.bidapplication.model.enums.AuctionStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuctionController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, MessageConverterConfig.class, AuctionReadService.class, ClosedAuctionCache.class})
 class AuctionControllerTest {
 
     @Autowired
@@ -46,6 +67,18 @@ class AuctionControllerTest {
     @MockitoBean
     private AuctionService auctionService;
 
+    @MockitoBean
+    private AuctionSearchService auctionSearchService;
+
+    @MockitoBean
+    private AuctionBrowseService auctionBrowseService;
+
+    @MockitoBean
+    private AuctionChangeFeedService auctionChangeFeedService;
+
+    @MockitoBean
+    private BidService bidService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -55,6 +88,9 @@ class AuctionControllerTest {
     @MockitoBean
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
+    @MockitoBean
+    private LogSampler logSampler;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -201,6 +237,20 @@ class AuctionControllerTest {
 
             then(auctionService).should().getOpenAuctions();
         }
+
+        @Test
+        void getAuctionsWithFieldsReturnsOnlyThoseFields() throws Exception {
+            given(auctionService.getAuctionFields("id,title", false))
+                    .willReturn(List.of(Map.of("id", auctionId, "title", "Lamp")));
+
+            mockMvc.perform(get("/api/auctions")
+                            .param("fields", "id,title"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].title").value("Lamp"))
+                    .andExpect(jsonPath("$[0].description").doesNotExist());
+
+            then(auctionService).should(never()).getAllAuctions();
+        }
     }
 
     @Nested
@@ -223,5 +273,195 @@ class AuctionControllerTest {
 
             then(auctionService).should().getAuctionStatus(auctionId);
         }
+
+        @Test
+        void closedAuctionStatusServedFromCacheWithETag() throws Exception {
+            given(auctionService.getAuctionStatus(auctionId))
+                    .willReturn(AuctionStatusResponse.builder().auctionId(auctionId).status(CLOSED).build());
+
+            final String etag = mockMvc.perform(get("/api/auctions/{id}/status", auctionId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("CLOSED"))
+                    .andExpect(header().string("Cache-Control", "max-age=31536000, public"))
+                    .andExpect(header().string("Vary", "Accept"))
+                    .andReturn().getResponse().getHeader("ETag");
+            assertThat(etag).isNotBlank();
+            mockMvc.perform(get("/api/auctions/{id}/status", auctionId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("CLOSED"))
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(header().string("Cache-Control", "max-age=31536000, public"))
+                    .andExpect(header().string("Vary", "Accept"));
+            mockMvc.perform(get("/api/auctions/{id}/status", auctionId)
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("Vary", "Accept"));
+
+            then(auctionService).should(times(1)).getAuctionStatus(auctionId);
+        }
+
+        @Test
+        void closedAuctionStatusAsCborSkipsCache() throws Exception {
+            given(auctionService.getAuctionStatus(auctionId))
+                    .willReturn(AuctionStatusResponse.builder().auctionId(auctionId).status(CLOSED).build());
+
+            mockMvc.perform(get("/api/auctions/{id}/status", auctionId))
+                    .andExpect(status().isOk());
+            final byte[] body = mockMvc.perform(get("/api/auctions/{id}/status", auctionId)
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().doesNotExist("ETag"))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(new ObjectMapper(new CBORFactory()).readTree(body).get("status").asText()).isEqualTo("CLOSED");
+            then(auctionService).should(times(2)).getAuctionStatus(auctionId);
+        }
+
+        @Test
+        void getAuctionStatusAsCborWhenAccepted() throws Exception {
+            given(auctionService.getAuctionStatus(auctionId))
+                    .willReturn(AuctionStatusResponse.builder().auctionId(auctionId).status(OPEN).build());
+
+            final byte[] body = mockMvc.perform(get("/api/auctions/{id}/status", auctionId)
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(new ObjectMapper(new CBORFactory()).readTree(body).get("status").asText()).isEqualTo("OPEN");
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Auctions Tests")
+    class SearchAuctionsTests {
+
+        @Test
+        void searchReturnsRankedResultsWithoutAuth() throws Exception {
+            given(auctionSearchService.search("vintage watch", true, 20))
+                    .willReturn(List.of(AuctionSearchResponse.builder()
+                            .id(auctionId)
+                            .title("Vintage Watch")
+                            .status(OPEN)
+                            .score(1.5)
+                            .build()));
+
+            mockMvc.perform(get("/api/auctions/search")
+                            .param("q", "vintage watch")
+                            .param("openOnly", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].title").value("Vintage Watch"));
+        }
+
+        @Test
+        void searchWithoutQueryReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/auctions/search"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Browse Tests")
+    class BrowseTests {
+
+        @Test
+        void endingSoonReturnsPage() throws Exception {
+            given(auctionBrowseService.getEndingSoon(1, 10)).willReturn(BrowsePageResponse.builder()
+                    .items(List.of(AuctionSummaryResponse.builder().id(auctionId).title("Lamp").build()))
+                    .page(1)
+                    .size(10)
+                    .hasNext(true)
+                    .build());
+
+            mockMvc.perform(get("/api/auctions/ending-soon")
+                            .param("page", "1")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].title").value("Lamp"))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+        }
+
+        @Test
+        void priceRangePassesBounds() throws Exception {
+            given(auctionBrowseService.getPricedBetween(new BigDecimal("10"), new BigDecimal("50.5"), 0, 20))
+                    .willReturn(BrowsePageResponse.builder().items(List.of()).size(20).build());
+
+            mockMvc.perform(get("/api/auctions/price-range")
+                            .param("min", "10")
+                            .param("max", "50.5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items").isEmpty());
+        }
+
+        @Test
+        void priceRangeWithoutBoundsReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/auctions/price-range"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Feed Tests")
+    class ChangeFeedTests {
+
+        @Test
+        void changesSinceCursorReturned() throws Exception {
+            given(auctionChangeFeedService.getChanges("abc.4", 500)).willReturn(ChangeFeedResponse.builder()
+                    .changes(List.of(ChangeFeedEntryResponse.builder()
+                            .change(AuctionChangeType.BID_PLACED)
+                            .auctionId(auctionId)
+                            .currentPrice(new BigDecimal("12.00"))
+                            .build()))
+                    .cursor("abc.5")
+                    .build());
+
+            mockMvc.perform(get("/api/auctions/changes").param("since", "abc.4"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changes[0].change").value("BID_PLACED"))
+                    .andExpect(jsonPath("$.cursor").value("abc.5"))
+                    .andExpect(jsonPath("$.resyncRequired").value(false));
+        }
+
+        @Test
+        void withoutCursorReturnsStartingCursor() throws Exception {
+            given(auctionChangeFeedService.getChanges(null, 500)).willReturn(ChangeFeedResponse.builder()
+                    .changes(List.of())
+                    .cursor("abc.0")
+                    .build());
+
+            mockMvc.perform(get("/api/auctions/changes"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cursor").value("abc.0"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Status Tests")
+    class BatchStatusTests {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void batchStatusReturnsMapKeyedById() throws Exception {
+            given(auctionService.getAuctionStatuses(List.of(auctionId))).willReturn(Map.of(auctionId,
+                    AuctionStatusResponse.builder().auctionId(auctionId).status(OPEN).build()));
+
+            mockMvc.perform(post("/api/auctions/status:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[\"" + auctionId + "\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$['" + auctionId + "'].status").value("OPEN"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void batchStatusWithoutIdsReturnsBadRequest() throws Exception {
+            mockMvc.perform(post("/api/auctions/status:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            then(auctionService).shouldHaveNoInteractions();
+        }
     }
 }
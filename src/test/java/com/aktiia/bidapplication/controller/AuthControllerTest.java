@@ -3,10 +3,12 @@ package com.aktiia.bidapplication.controller;
 import com.aktiia.bidapplication.auth.JwtAuthenticationEntryPoint;
 import com.aktiia.bidapplication.auth.JwtTokenProvider;
 import com.aktiia.bidapplication.config.SecurityConfig;
+import com.aktiia.bidapplication.helper.LogSampler;
 import com.aktiia.bidapplication.model.dto.request.LoginRequest;
 import com.aktiia.bidapplication.model.dto.request.RegisterRequest;
 import com.aktiia.bidapplication.model.dto.response.AuthResponse;
 import com.aktiia.bidapplication.service.AuthService;
+import com.aktiia.bidapplication.service.ClosedAuctionCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +39,9 @@ class AuthControllerTest {
     @MockitoBean
     private AuthService authService;
 
+    @MockitoBean
+    private ClosedAuctionCache closedAuctionCache;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -46,6 +51,9 @@ class AuthControllerTest {
     @MockitoBean
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
+    @MockitoBean
+    private LogSampler logSampler;
+
     @Autowired
     private ObjectMapper objectMapper;
 
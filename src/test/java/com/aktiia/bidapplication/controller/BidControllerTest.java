@@ -3,9 +3,15 @@ package com.aktiia.bidapplication.controller;
 import com.aktiia.bidapplication.auth.JwtAuthenticationEntryPoint;
 import com.aktiia.bidapplication.auth.JwtTokenProvider;
 import com.aktiia.bidapplication.config.SecurityConfig;
+import com.aktiia.bidapplication.exception.IdempotencyKeyReusedException;
+import com.aktiia.bidapplication.helper.LogSampler;
 import com.aktiia.bidapplication.model.dto.request.BidRequest;
 import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.dto.response.BidStandingResponse;
+import com.aktiia.bidapplication.service.AuctionService;
 import com.aktiia.bidapplication.service.BidService;
+import com.aktiia.bidapplication.service.ClosedAuctionCache;
+import com.aktiia.bidapplication.service.IdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +28,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -34,7 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BidController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, ClosedAuctionCache.class})
 class BidControllerTest {
 
     @Autowired
@@ -43,6 +50,12 @@ class BidControllerTest {
     @MockitoBean
     private BidService bidService;
 
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private AuctionService auctionService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -52,6 +65,9 @@ class BidControllerTest {
     @MockitoBean
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
+    @MockitoBean
+    private LogSampler logSampler;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -102,6 +118,40 @@ class BidControllerTest {
                     .andExpect(status().isCreated());
         }
 
+        @Test
+        @WithMockUser(username = "testUser", roles = "USER")
+        void placeBidWithIdempotencyKeyGoesThroughIdempotencyService() throws Exception {
+            given(idempotencyService.placeBidOnce(eq(auctionId), eq("testUser"), eq("retry-1"), any(), any()))
+                    .willReturn(BidResponse.builder()
+                            .amount(new BigDecimal("200.00"))
+                            .bidderUsername("testUser")
+                            .build());
+
+            mockMvc.perform(post("/api/auctions/{auctionId}/bids", auctionId)
+                            .header("Idempotency-Key", "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.bidderUsername").value("testUser"));
+
+            then(idempotencyService).should()
+                    .placeBidOnce(eq(auctionId), eq("testUser"), eq("retry-1"), any(), any());
+            then(bidService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @WithMockUser(username = "testUser", roles = "USER")
+        void placeBidWithReusedIdempotencyKeyReturns422() throws Exception {
+            given(idempotencyService.placeBidOnce(eq(auctionId), eq("testUser"), eq("retry-1"), any(), any()))
+                    .willThrow(new IdempotencyKeyReusedException("Idempotency-Key retry-1 was already used with a different request"));
+
+            mockMvc.perform(post("/api/auctions/{auctionId}/bids", auctionId)
+                            .header("Idempotency-Key", "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isUnprocessableEntity());
+        }
+
         @Test
         @WithMockUser(roles = "GUEST")
         void placeBidWithInvalidRoleReturnsForbidden() throws Exception {
@@ -168,5 +218,35 @@ class BidControllerTest {
 
             then(bidService).should().getBidsForAuction(auctionId);
         }
+
+        @Test
+        void getBidsWithFieldsReturnsOnlyThoseFields() throws Exception {
+            given(bidService.getBidFieldsForAuction(auctionId, "amount"))
+                    .willReturn(List.of(Map.of("amount", new BigDecimal("200.00"))));
+
+            mockMvc.perform(get("/api/auctions/{auctionId}/bids", auctionId)
+                            .param("fields", "amount"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].amount").value(200.00))
+                    .andExpect(jsonPath("$[0].bidderUsername").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser(username = "testUser", roles = "USER")
+        void getStandingReturnsOk() throws Exception {
+            given(bidService.getStanding(auctionId, "testUser"))
+                    .willReturn(BidStandingResponse.builder()
+                            .auctionId(auctionId)
+                            .quantity(3)
+                            .clearingPrice(new BigDecimal("120.00"))
+                            .standingBid(new BigDecimal("150.00"))
+                            .winning(true)
+                            .build());
+
+            mockMvc.perform(get("/api/auctions/{auctionId}/bids/standing", auctionId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.winning").value(true))
+                    .andExpect(jsonPath("$.clearingPrice").value(120.00));
+        }
     }
 }
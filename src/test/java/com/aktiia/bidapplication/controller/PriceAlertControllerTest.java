@@ -0,0 +1,101 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.auth.JwtAuthenticationEntryPoint;
+import com.aktiia.bidapplication.auth.JwtTokenProvider;
+import com.aktiia.bidapplication.config.SecurityConfig;
+import com.aktiia.bidapplication.helper.LogSampler;
+import com.aktiia.bidapplication.model.dto.request.PriceAlertRequest;
+import com.aktiia.bidapplication.model.dto.response.PriceAlertResponse;
+import com.aktiia.bidapplication.service.ClosedAuctionCache;
+import com.aktiia.bidapplication.service.PriceAlertService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PriceAlertController.class)
+@Import(SecurityConfig.class)
+class PriceAlertControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PriceAlertService priceAlertService;
+
+    @MockitoBean
+    private ClosedAuctionCache closedAuctionCache;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    @MockitoBean
+    private LogSampler logSampler;
+
+    private final UUID auctionId = UUID.randomUUID();
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should create a price alert")
+    void createAlertReturnsCreated() throws Exception {
+        given(priceAlertService.createAlert(any(PriceAlertRequest.class), eq("testUser"))).willReturn(PriceAlertResponse.builder()
+                .id(UUID.randomUUID())
+                .auctionId(auctionId)
+                .threshold(new BigDecimal("250.00"))
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        mockMvc.perform(post("/api/alerts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"auctionId\":\"" + auctionId + "\",\"threshold\":250.00}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.threshold").value(250.00));
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should reject an alert without a threshold")
+    void createAlertWithoutThresholdIsRejected() throws Exception {
+        mockMvc.perform(post("/api/alerts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"rolex\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should delete a price alert")
+    void deleteAlertReturnsNoContent() throws Exception {
+        final UUID alertId = UUID.randomUUID();
+
+        mockMvc.perform(delete("/api/alerts/{alertId}", alertId))
+                .andExpect(status().isNoContent());
+
+        then(priceAlertService).should().deleteAlert(alertId, "testUser");
+    }
+}
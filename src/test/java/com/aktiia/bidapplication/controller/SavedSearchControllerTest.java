@@ -0,0 +1,98 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.auth.JwtAuthenticationEntryPoint;
+import com.aktiia.bidapplication.auth.JwtTokenProvider;
+import com.aktiia.bidapplication.config.SecurityConfig;
+import com.aktiia.bidapplication.helper.LogSampler;
+import com.aktiia.bidapplication.model.dto.request.SavedSearchRequest;
+import com.aktiia.bidapplication.model.dto.response.SavedSearchResponse;
+import com.aktiia.bidapplication.service.ClosedAuctionCache;
+import com.aktiia.bidapplication.service.SavedSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SavedSearchController.class)
+@Import(SecurityConfig.class)
+class SavedSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SavedSearchService savedSearchService;
+
+    @MockitoBean
+    private ClosedAuctionCache closedAuctionCache;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    @MockitoBean
+    private LogSampler logSampler;
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should create a saved search")
+    void createSavedSearchReturnsCreated() throws Exception {
+        given(savedSearchService.createSavedSearch(any(SavedSearchRequest.class), eq("testUser")))
+                .willReturn(SavedSearchResponse.builder()
+                        .id(UUID.randomUUID())
+                        .query("vintage rolex")
+                        .createdAt(LocalDateTime.now())
+                        .build());
+
+        mockMvc.perform(post("/api/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"vintage rolex\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.query").value("vintage rolex"));
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should reject a blank query")
+    void createSavedSearchWithBlankQueryIsRejected() throws Exception {
+        mockMvc.perform(post("/api/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\" \"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should delete a saved search")
+    void deleteSavedSearchReturnsNoContent() throws Exception {
+        final UUID savedSearchId = UUID.randomUUID();
+
+        mockMvc.perform(delete("/api/saved-searches/{savedSearchId}", savedSearchId))
+                .andExpect(status().isNoContent());
+
+        then(savedSearchService).should().deleteSavedSearch(savedSearchId, "testUser");
+    }
+}
@@ -0,0 +1,102 @@
+package com.aktiia.bidapplication.controller;
+
+import com.aktiia.bidapplication.auth.JwtAuthenticationEntryPoint;
+import com.aktiia.bidapplication.auth.JwtTokenProvider;
+import com.aktiia.bidapplication.config.SecurityConfig;
+import com.aktiia.bidapplication.helper.LogSampler;
+import com.aktiia.bidapplication.model.dto.response.WatchlistEntryResponse;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.service.ClosedAuctionCache;
+import com.aktiia.bidapplication.service.WatchlistService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WatchlistController.class)
+@Import(SecurityConfig.class)
+class WatchlistControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WatchlistService watchlistService;
+
+    @MockitoBean
+    private ClosedAuctionCache closedAuctionCache;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    @MockitoBean
+    private LogSampler logSampler;
+
+    private final UUID auctionId = UUID.randomUUID();
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should watch an auction")
+    void watchReturnsNoContent() throws Exception {
+        mockMvc.perform(put("/api/watchlist/{auctionId}", auctionId))
+                .andExpect(status().isNoContent());
+
+        then(watchlistService).should().watch(auctionId, "testUser");
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should stop watching an auction")
+    void unwatchReturnsNoContent() throws Exception {
+        mockMvc.perform(delete("/api/watchlist/{auctionId}", auctionId))
+                .andExpect(status().isNoContent());
+
+        then(watchlistService).should().unwatch(auctionId, "testUser");
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    @DisplayName("Should list watched auctions")
+    void getWatchlistReturnsOk() throws Exception {
+        given(watchlistService.getWatchlist("testUser")).willReturn(List.of(WatchlistEntryResponse.builder()
+                .auctionId(auctionId)
+                .title("Vintage Watch")
+                .currentHighestBid(new BigDecimal("150.00"))
+                .status(AuctionStatus.OPEN)
+                .build()));
+
+        mockMvc.perform(get("/api/watchlist"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Vintage Watch"));
+    }
+
+    @Test
+    @DisplayName("Should require authentication")
+    void watchWithoutAuthIsRejected() throws Exception {
+        mockMvc.perform(put("/api/watchlist/{auctionId}", auctionId))
+                .andExpect(status().is4xxClientError());
+    }
+}
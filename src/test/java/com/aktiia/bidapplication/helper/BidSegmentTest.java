@@ -0,0 +1,99 @@
+package com.aktiia.bidapplication.helper;
+
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidSegmentTest {
+
+    private final UUID auctionId = UUID.randomUUID();
+    private final LocalDateTime start = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_000);
+
+    private BidResponse bid(final String amount, final String bidder, final long secondsAfterStart) {
+        return BidResponse.builder()
+                .id(UUID.randomUUID())
+                .amount(new BigDecimal(amount))
+                .bidderUsername(bidder)
+                .auctionId(auctionId)
+                .placedAt(start.plusSeconds(secondsAfterStart))
+                .build();
+    }
+
+    private List<BidResponse> roundTrip(final List<BidResponse> bids) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BidSegment.write(bids, out);
+        return BidSegment.read(auctionId, new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should read back every bid, highest amount first and earliest first on ties")
+    void shouldRoundTripInListingOrder() throws IOException {
+        final BidResponse early = bid("150.00", "bidder1", 10);
+        final BidResponse late = bid("150.00", "bidder2", 20);
+        final BidResponse top = bid("210.50", "bidder1", 30);
+        final BidResponse low = bid("100.01", "bidder3", 5);
+
+        assertThat(roundTrip(List.of(late, low, top, early))).containsExactly(top, early, late, low);
+    }
+
+    @Test
+    @DisplayName("Should keep bids placed out of order and before 1970")
+    void shouldHandleNegativeDeltas() throws IOException {
+        final BidResponse old = BidResponse.builder()
+                .id(UUID.randomUUID())
+                .amount(new BigDecimal("0.01"))
+                .bidderUsername("bidder1")
+                .auctionId(auctionId)
+                .placedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000))
+                .build();
+        final BidResponse recent = bid("99999999.99", "bidder2", 3600);
+
+        assertThat(roundTrip(List.of(old, recent))).containsExactly(recent, old);
+    }
+
+    @Test
+    @DisplayName("Should compress a large auction well below its raw size")
+    void shouldCompress() throws IOException {
+        final List<BidResponse> bids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            bids.add(bid(BigDecimal.valueOf(10_000 + i * 100L, 2).toPlainString(), "bidder" + (i % 20), i * 7L));
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BidSegment.write(bids, out);
+
+        // Ids are random and take 16 bytes each, everything else should shrink to a few bytes per bid
+        assertThat(out.size()).isLessThan(1000 * 24);
+        assertThat(BidSegment.read(auctionId, new ByteArrayInputStream(out.toByteArray()))).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("Should write and read an auction without bids")
+    void shouldRoundTripEmpty() throws IOException {
+        assertThat(roundTrip(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject data that is not a bid segment")
+    void shouldRejectForeignData() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write("not a segment".getBytes());
+        }
+
+        assertThatThrownBy(() -> BidSegment.read(auctionId, new ByteArrayInputStream(out.toByteArray())))
+                .isInstanceOf(IOException.class);
+    }
+}
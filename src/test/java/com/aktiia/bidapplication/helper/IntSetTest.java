@@ -0,0 +1,54 @@
+package com.aktiia.bidapplication.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntSetTest {
+
+    @Test
+    @DisplayName("Should behave like a HashSet under random adds and removes")
+    void shouldMatchHashSet() {
+        final Random random = new Random(42);
+        final IntSet set = new IntSet();
+        final Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            final int value = 1 + random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(set.toArray()).containsExactlyInAnyOrderElementsOf(expected);
+        expected.forEach(value -> assertThat(set.contains(value)).isTrue());
+    }
+
+    @Test
+    @DisplayName("Should hold 100k members")
+    void shouldHoldManyMembers() {
+        final IntSet set = new IntSet();
+        for (int i = 1; i <= 100_000; i++) {
+            set.add(i);
+        }
+
+        assertThat(set.size()).isEqualTo(100_000);
+        assertThat(set.contains(100_000)).isTrue();
+        assertThat(set.contains(100_001)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive values")
+    void shouldRejectNonPositive() {
+        assertThatThrownBy(() -> new IntSet().add(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.aktiia.bidapplication.helper;
+
+import com.aktiia.bidapplication.helper.InvertedIndex.Document;
+import com.aktiia.bidapplication.helper.InvertedIndex.Hit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private final UUID rolex = UUID.randomUUID();
+    private final UUID omega = UUID.randomUUID();
+    private final UUID daytona = UUID.randomUUID();
+
+    private InvertedIndex sampleIndex() {
+        final InvertedIndex index = new InvertedIndex();
+        index.put(rolex, "Vintage Rolex Submariner", "Café condition, box and papers");
+        index.put(omega, "Omega Seamaster", "Vintage dial");
+        index.put(daytona, "Rolex Daytona", "Unworn");
+        return index;
+    }
+
+    @Test
+    @DisplayName("Should fold case and accents and split on punctuation")
+    void shouldTokenize() {
+        assertThat(InvertedIndex.tokenize("Café-Racer, 1970s  ROLEX!")).containsExactly("cafe", "racer", "1970s", "rolex");
+        assertThat(InvertedIndex.tokenize("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank a title match above a description match")
+    void shouldRankTitleAboveDescription() {
+        assertThat(sampleIndex().search("vintage", 10, id -> true))
+                .extracting(Hit::id)
+                .containsExactly(rolex, omega);
+    }
+
+    @Test
+    @DisplayName("Should match prefixes and require every query token")
+    void shouldMatchPrefixesConjunctively() {
+        final InvertedIndex index = sampleIndex();
+
+        assertThat(index.search("rol", 10, id -> true)).extracting(Hit::id).containsExactlyInAnyOrder(rolex, daytona);
+        assertThat(index.search("rolex cafe", 10, id -> true)).extracting(Hit::id).containsExactly(rolex);
+        assertThat(index.search("rolex omega", 10, id -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank an exact term above a longer term it prefixes")
+    void shouldPreferExactMatch() {
+        final InvertedIndex index = new InvertedIndex();
+        final UUID exact = UUID.randomUUID();
+        final UUID longer = UUID.randomUUID();
+        index.put(longer, "Watches", null);
+        index.put(exact, "Watch", null);
+
+        assertThat(index.search("watch", 10, id -> true)).extracting(Hit::id).containsExactly(exact, longer);
+    }
+
+    @Test
+    @DisplayName("Should replace a document's terms on re-put and drop them on remove")
+    void shouldUpdateAndRemove() {
+        final InvertedIndex index = sampleIndex();
+
+        index.put(rolex, "Casio", "Plastic");
+        assertThat(index.search("submariner", 10, id -> true)).isEmpty();
+        assertThat(index.search("casio", 10, id -> true)).extracting(Hit::id).containsExactly(rolex);
+
+        index.remove(omega);
+        assertThat(index.search("omega", 10, id -> true)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should filter before limiting")
+    void shouldFilterBeforeLimit() {
+        final InvertedIndex index = new InvertedIndex();
+        final List<UUID> ids = IntStream.range(0, 50).mapToObj(i -> UUID.randomUUID()).toList();
+        index.putAll(ids.stream().map(id -> new Document(id, "Lamp", null)).toList());
+
+        final UUID wanted = ids.get(42);
+        assertThat(index.search("lamp", 5, wanted::equals)).extracting(Hit::id).containsExactly(wanted);
+        assertThat(index.search("lamp", 5, id -> true)).hasSize(5);
+    }
+}
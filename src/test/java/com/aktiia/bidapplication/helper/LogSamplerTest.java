@@ -0,0 +1,60 @@
+package com.aktiia.bidapplication.helper;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+
+    private final LogSampler logSampler = new LogSampler(3, 60000);
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LogSampler.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should let through only the first occurrences of an event in a window")
+    void shouldLimitPerWindow() {
+        final long sampled = IntStream.range(0, 10).filter(i -> logSampler.sample("bid.too-low")).count();
+
+        assertThat(sampled).isEqualTo(3);
+        assertThat(logSampler.sample("jwt.invalid")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report the suppressed count on flush and start a new window")
+    void shouldFlushSuppressedCount() {
+        IntStream.range(0, 10).forEach(i -> logSampler.sample("bid.too-low"));
+        IntStream.range(0, 2).forEach(i -> logSampler.sample("jwt.invalid"));
+
+        logSampler.flush();
+
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .isEqualTo("Event 'bid.too-low' occurred 10 time(s) in the last 60000 ms, 7 log line(s) suppressed");
+        assertThat(logSampler.sample("bid.too-low")).isTrue();
+
+        appender.list.clear();
+        logSampler.flush();
+        assertThat(appender.list).isEmpty();
+    }
+}
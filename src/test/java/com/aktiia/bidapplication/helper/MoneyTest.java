@@ -0,0 +1,54 @@
+package com.aktiia.bidapplication.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should convert between amounts and cents whatever the scale")
+    void shouldConvertCents() {
+        assertThat(Money.of(new BigDecimal("123.45")).cents()).isEqualTo(12345);
+        assertThat(Money.of(new BigDecimal("150"))).isEqualTo(Money.of(new BigDecimal("150.00")));
+        assertThat(Money.of(new BigDecimal("1.5000")).cents()).isEqualTo(150);
+        assertThat(Money.ofCents(12345).toBigDecimal()).isEqualTo(new BigDecimal("123.45"));
+        assertThat(Money.ofCents(-5)).hasToString("-0.05");
+    }
+
+    @Test
+    @DisplayName("Should reject fractions of a cent unless asked to round them down")
+    void shouldRejectFractionsOfCents() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("10.005")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Money.ofRoundedDown(new BigDecimal("10.009")).cents()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Should compare and add by cents")
+    void shouldCompareAndAdd() {
+        final Money low = Money.ofCents(10000);
+        final Money high = Money.ofCents(10001);
+
+        assertThat(high.isGreaterThan(low)).isTrue();
+        assertThat(low.isLessThan(high)).isTrue();
+        assertThat(low.isGreaterThan(low)).isFalse();
+        assertThat(low.min(high)).isSameAs(low);
+        assertThat(low.max(high)).isSameAs(high);
+        assertThat(low.plus(Money.ofCents(100))).isEqualTo(Money.ofCents(10100));
+        assertThat(low).isLessThan(high);
+    }
+
+    @Test
+    @DisplayName("Should fail instead of overflowing")
+    void shouldNotOverflow() {
+        assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e20")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.aktiia.bidapplication.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderBookTest {
+
+    private static final long RESERVE = 10000;
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should clear at the reserve until every unit is taken")
+    void shouldClearAtReserveUntilFull() {
+        final OrderBook book = new OrderBook(2);
+        book.place(alice, 12000);
+
+        assertThat(book.isFull()).isFalse();
+        assertThat(book.clearingPriceCents(RESERVE)).isEqualTo(RESERVE);
+        assertThat(book.isWinning(alice)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should push the weakest winner out and clear at the new weakest winning bid")
+    void shouldDisplaceWeakestWinner() {
+        final OrderBook book = new OrderBook(2);
+        book.place(alice, 12000);
+        book.place(bob, 13000);
+        final UUID displaced = book.place(carol, 14000);
+
+        assertThat(displaced).isEqualTo(alice);
+        assertThat(book.isWinning(alice)).isFalse();
+        assertThat(book.isWinning(bob)).isTrue();
+        assertThat(book.isWinning(carol)).isTrue();
+        assertThat(book.clearingPriceCents(RESERVE)).isEqualTo(13000);
+    }
+
+    @Test
+    @DisplayName("Should keep the earlier bid ahead on equal amounts")
+    void shouldPreferEarlierBidOnTie() {
+        final OrderBook book = new OrderBook(1);
+        book.place(alice, 12000);
+        book.place(bob, 12000);
+
+        assertThat(book.isWinning(alice)).isTrue();
+        assertThat(book.isWinning(bob)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should replace a bidder's standing bid and promote the best losing bid")
+    void shouldReplaceStandingBid() {
+        final OrderBook book = new OrderBook(2);
+        book.place(alice, 12000);
+        book.place(bob, 13000);
+        book.place(carol, 11000);
+
+        assertThat(book.place(alice, 15000)).isNull();
+
+        assertThat(book.standingBidCents(alice)).hasValue(15000);
+        assertThat(book.isWinning(carol)).isFalse();
+        assertThat(book.clearingPriceCents(RESERVE)).isEqualTo(13000);
+    }
+}
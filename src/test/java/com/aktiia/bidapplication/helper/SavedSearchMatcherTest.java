@@ -0,0 +1,99 @@
+package com.aktiia.bidapplication.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SavedSearchMatcherTest {
+
+    @Test
+    @DisplayName("Should require every token, matching longer tokens as prefixes")
+    void shouldMatchAllTokens() {
+        final SavedSearchMatcher matcher = new SavedSearchMatcher();
+        final int rolex = matcher.add(List.of("rolex"), Long.MAX_VALUE);
+        final int vintageRolex = matcher.add(List.of("vint", "rolex"), Long.MAX_VALUE);
+        final int omega = matcher.add(List.of("omega"), Long.MAX_VALUE);
+
+        assertThat(matches(matcher, List.of("vintage", "rolex", "submariner"), 100)).containsExactlyInAnyOrder(rolex, vintageRolex);
+        assertThat(matches(matcher, List.of("rolex"), 100)).containsExactly(rolex);
+        assertThat(matches(matcher, List.of("omegas"), 100)).containsExactly(omega);
+    }
+
+    @Test
+    @DisplayName("Should only match a one-character token exactly")
+    void shouldMatchShortTokensExactly() {
+        final SavedSearchMatcher matcher = new SavedSearchMatcher();
+        final int x = matcher.add(List.of("x"), Long.MAX_VALUE);
+
+        assertThat(matches(matcher, List.of("xbox"), 100)).isEmpty();
+        assertThat(matches(matcher, List.of("model", "x"), 100)).containsExactly(x);
+    }
+
+    @Test
+    @DisplayName("Should respect the price limit and forget removed searches")
+    void shouldApplyPriceLimitAndRemove() {
+        final SavedSearchMatcher matcher = new SavedSearchMatcher();
+        final int cheap = matcher.add(List.of("lamp"), 5_000);
+        final int any = matcher.add(List.of("lamp"), Long.MAX_VALUE);
+
+        assertThat(matches(matcher, List.of("lamp"), 5_000)).containsExactlyInAnyOrder(cheap, any);
+        assertThat(matches(matcher, List.of("lamp"), 5_001)).containsExactly(any);
+
+        matcher.remove(any);
+        assertThat(matches(matcher, List.of("lamp"), 100)).containsExactly(cheap);
+        assertThat(matcher.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan under random adds and removes")
+    void shouldMatchLinearScan() {
+        final String[] vocabulary = {"a", "ab", "abc", "abcd", "rol", "rolex", "om", "omega", "vin", "vintage"};
+        final Random random = new Random(7);
+        final SavedSearchMatcher matcher = new SavedSearchMatcher();
+        final Map<Integer, List<String>> queries = new HashMap<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            final List<String> query = new ArrayList<>();
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                query.add(vocabulary[random.nextInt(vocabulary.length)]);
+            }
+            queries.put(matcher.add(query, Long.MAX_VALUE), query);
+            if (random.nextInt(5) == 0) {
+                final int removed = new ArrayList<>(queries.keySet()).get(random.nextInt(queries.size()));
+                matcher.remove(removed);
+                queries.remove(removed);
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            final List<String> listing = new ArrayList<>();
+            for (int j = random.nextInt(5); j > 0; j--) {
+                listing.add(vocabulary[random.nextInt(vocabulary.length)]);
+            }
+            final Set<Integer> expected = new HashSet<>();
+            queries.forEach((id, query) -> {
+                if (query.stream().allMatch(token -> listing.stream().anyMatch(term -> token.length() >= 2
+                        ? term.startsWith(token)
+                        : term.equals(token)))) {
+                    expected.add(id);
+                }
+            });
+            assertThat(matches(matcher, listing, 100)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static List<Integer> matches(final SavedSearchMatcher matcher, final List<String> listing, final long priceCents) {
+        final List<Integer> matched = new ArrayList<>();
+        matcher.match(listing, priceCents, matched::add);
+        return matched;
+    }
+}
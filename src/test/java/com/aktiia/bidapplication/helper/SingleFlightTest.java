@@ -0,0 +1,90 @@
+package com.aktiia.bidapplication.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Should run one load for concurrent callers of the same key and share its result")
+    void shouldCoalesceConcurrentCalls() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch arrived = new CountDownLatch(CALLERS);
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return singleFlight.execute("auction", () -> {
+                        loading.countDown();
+                        await(release);
+                        return loads.incrementAndGet();
+                    });
+                }));
+            }
+            assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (final Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous call has completed")
+    void shouldNotCacheCompletedCalls() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("auction", loads::incrementAndGet);
+        singleFlight.execute("auction", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should pass the loader's exception on and forget the key")
+    void shouldPropagateFailure() {
+        assertThatThrownBy(() -> singleFlight.execute("auction", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(singleFlight.size()).isZero();
+        assertThat(singleFlight.execute("auction", () -> 7)).isEqualTo(7);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.aktiia.bidapplication.integration;
+
+import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.Role;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionResultRepository;
+import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import com.aktiia.bidapplication.service.AuctionReadService;
+import com.aktiia.bidapplication.service.AuctionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class AuctionReadIntegrationTest {
+
+    private static final int REQUESTS = 100;
+
+    @Autowired
+    private AuctionReadService auctionReadService;
+
+    @MockitoSpyBean
+    private AuctionService auctionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private AuctionResultRepository auctionResultRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID auctionId;
+
+    @BeforeEach
+    void setUp() {
+        auctionResultRepository.deleteAll();
+        bidRepository.deleteAll();
+        auctionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        final User seller = userRepository.save(User.builder()
+                .username("read_seller")
+                .email("read_seller@aktiia.com")
+                .password("password")
+                .role(Role.ROLE_ADMIN)
+                .build());
+        auctionId = auctionRepository.save(Auction.builder()
+                .title("Trending Auction")
+                .description("Read by many clients at once")
+                .startingPrice(new BigDecimal("100.00"))
+                .currentHighestBid(new BigDecimal("100.00"))
+                .status(AuctionStatus.OPEN)
+                .seller(seller)
+                .endTime(LocalDateTime.now().plusHours(2))
+                .build()).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("A burst of concurrent reads of one auction should prepare the statements of a single read")
+    void concurrentReadsShouldShareOneQuery() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        auctionReadService.getAuction(auctionId);
+        final long singleRead = statistics.getPrepareStatementCount();
+        assertThat(singleRead).isPositive();
+
+        // Hold the first read until every request is waiting on it
+        final CountDownLatch arrived = new CountDownLatch(REQUESTS);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(auctionService).getAuction(auctionId);
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            final List<Future<AuctionResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                responses.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return auctionReadService.getAuction(auctionId);
+                }));
+            }
+            assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (final Future<AuctionResponse> response : responses) {
+                assertThat(response.get(5, TimeUnit.SECONDS).id()).isEqualTo(auctionId);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Without coalescing each request would prepare its own statements
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(singleRead);
+        verify(auctionService, times(2)).getAuction(auctionId);
+    }
+}
@@ -0,0 +1,147 @@
+package com.aktiia.bidapplication.integration;
+
+import com.aktiia.bidapplication.helper.H2ReplicaSimulator;
+import com.aktiia.bidapplication.helper.ReadYourWritesFilter;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.Role;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionResultRepository;
+import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.datasource.replica.url=jdbc:h2:mem:testdb-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=USER",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.max-lag-ms=5000",
+        // Replicated only when the tests say so
+        "app.datasource.replica.simulated-lag-ms=3600000"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ReplicaRoutingIntegrationTest {
+
+    private static final String TITLE = "Replicated Auction";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private H2ReplicaSimulator replicaSimulator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private AuctionResultRepository auctionResultRepository;
+
+    private User seller;
+
+    @BeforeEach
+    void setUp() {
+        auctionResultRepository.deleteAll();
+        bidRepository.deleteAll();
+        auctionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        seller = userRepository.save(User.builder()
+                .username("replica_seller")
+                .email("replica_seller@aktiia.com")
+                .password("password")
+                .role(Role.ROLE_ADMIN)
+                .build());
+        replicaSimulator.replicate();
+    }
+
+    @Test
+    @DisplayName("GET requests should read from the replica, and see a write once it is replicated")
+    void getRequestsShouldReadFromReplica() throws Exception {
+        saveAuction();
+
+        mockMvc.perform(get("/api/auctions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", not(hasItem(TITLE))));
+
+        replicaSimulator.replicate();
+
+        mockMvc.perform(get("/api/auctions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", hasItem(TITLE)));
+    }
+
+    @Test
+    @DisplayName("GET requests with a recent write token should read from the primary")
+    void recentWriteTokenShouldReadFromPrimary() throws Exception {
+        saveAuction();
+        final long now = System.currentTimeMillis();
+
+        mockMvc.perform(get("/api/auctions")
+                        .header(ReadYourWritesFilter.WRITE_TOKEN_HEADER, String.valueOf(now)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", hasItem(TITLE)));
+
+        mockMvc.perform(get("/api/auctions")
+                        .header(ReadYourWritesFilter.WRITE_TOKEN_HEADER, String.valueOf(now - TimeUnit.HOURS.toMillis(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", not(hasItem(TITLE))));
+    }
+
+    @Test
+    @DisplayName("Writes should hand out a write token and read the primary, so a new user can log in at once")
+    void writesShouldReadFromPrimary() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "replica_user", "email": "replica_user@aktiia.com", "password": "password123"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(ReadYourWritesFilter.WRITE_TOKEN_HEADER));
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "replica_user", "password": "password123"}
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    private void saveAuction() {
+        auctionRepository.save(Auction.builder()
+                .title(TITLE)
+                .description("Written to the primary only")
+                .startingPrice(new BigDecimal("100.00"))
+                .currentHighestBid(new BigDecimal("100.00"))
+                .status(AuctionStatus.OPEN)
+                .seller(seller)
+                .endTime(LocalDateTime.now().plusHours(2))
+                .build());
+    }
+}
@@ -0,0 +1,149 @@
+package com.aktiia.bidapplication.integration;
+
+import com.aktiia.bidapplication.exception.AuctionClosedException;
+import com.aktiia.bidapplication.exception.BidTooLowException;
+import com.aktiia.bidapplication.model.dto.request.BidRequest;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.Role;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionResultRepository;
+import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import com.aktiia.bidapplication.service.AuctionService;
+import com.aktiia.bidapplication.service.AuctionSettlementService;
+import com.aktiia.bidapplication.service.BidService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private AuctionSettlementService auctionSettlementService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private AuctionResultRepository auctionResultRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User seller;
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        auctionResultRepository.deleteAll();
+        bidRepository.deleteAll();
+        auctionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        seller = userRepository.save(user("cache_seller", Role.ROLE_ADMIN));
+        userRepository.save(user("cache_bidder_a", Role.ROLE_USER));
+        userRepository.save(user("cache_bidder_b", Role.ROLE_USER));
+        auction = auctionRepository.save(auction(LocalDateTime.now().plusHours(2)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Settlement results reference auctions, which other tests delete in their setup
+        auctionResultRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Bids should always see the latest currentHighestBid, even with the auction cached")
+    void bidsShouldNeverSeeStaleHighestBid() {
+        auctionService.getAuction(auction.getId());
+        assertThat(entityManagerFactory.getCache().contains(Auction.class, auction.getId())).isTrue();
+
+        bidService.placeBid(auction.getId(), new BidRequest(new BigDecimal("150.00")), "cache_bidder_a");
+        assertThat(auctionService.getAuction(auction.getId()).currentHighestBid()).isEqualByComparingTo("150.00");
+
+        assertThatThrownBy(() -> bidService.placeBid(auction.getId(), new BidRequest(new BigDecimal("140.00")), "cache_bidder_b"))
+                .isInstanceOf(BidTooLowException.class);
+
+        bidService.placeBid(auction.getId(), new BidRequest(new BigDecimal("160.00")), "cache_bidder_b");
+        assertThat(auctionService.getAuction(auction.getId()).currentHighestBid()).isEqualByComparingTo("160.00");
+    }
+
+    @Test
+    @DisplayName("A close done by settlement should replace the cached open auction")
+    void settlementShouldUpdateCachedAuction() {
+        final Auction expired = auctionRepository.save(auction(LocalDateTime.now().minusMinutes(1)));
+        assertThat(auctionService.getAuction(expired.getId()).status()).isEqualTo(AuctionStatus.OPEN);
+
+        assertThat(auctionSettlementService.settle(List.of(expired.getId()))).isEqualTo(1);
+
+        assertThat(auctionService.getAuction(expired.getId()).status()).isEqualTo(AuctionStatus.CLOSED);
+        assertThatThrownBy(() -> bidService.placeBid(expired.getId(), new BidRequest(new BigDecimal("150.00")), "cache_bidder_a"))
+                .isInstanceOf(AuctionClosedException.class);
+    }
+
+    @Test
+    @DisplayName("Repeated reads of users and auctions should be served from the cache")
+    void repeatedReadsShouldHitCache() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        auctionService.getAuction(auction.getId());
+        userRepository.findByUsername("cache_bidder_a");
+        statistics.clear();
+
+        auctionService.getAuction(auction.getId());
+        userRepository.findByUsername("cache_bidder_a");
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    private static User user(final String username, final Role role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@aktiia.com")
+                .password("password")
+                .role(role)
+                .build();
+    }
+
+    private Auction auction(final LocalDateTime endTime) {
+        return Auction.builder()
+                .title("Cached Auction")
+                .description("Read through the second-level cache")
+                .startingPrice(new BigDecimal("100.00"))
+                .currentHighestBid(new BigDecimal("100.00"))
+                .status(AuctionStatus.OPEN)
+                .seller(seller)
+                .endTime(endTime)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.aktiia.bidapplication.job;
+
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.service.BidArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidArchiverTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private BidArchiveService bidArchiveService;
+
+    private BidArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new BidArchiver(auctionRepository, bidArchiveService, 30, 100, 1000);
+    }
+
+    @Test
+    @DisplayName("Should archive an auction and then delete its rows a chunk at a time")
+    void shouldDeleteInChunks() {
+        final UUID auctionId = UUID.randomUUID();
+        when(auctionRepository.findIdsToArchive(any(), any())).thenReturn(List.of(auctionId));
+        when(bidArchiveService.deleteArchived(auctionId, 1000)).thenReturn(1000, 1000, 345);
+
+        archiver.archive();
+
+        final InOrder order = inOrder(bidArchiveService);
+        order.verify(bidArchiveService).archive(auctionId);
+        order.verify(bidArchiveService, times(3)).deleteArchived(auctionId, 1000);
+        verifyNoMoreInteractions(bidArchiveService);
+    }
+
+    @Test
+    @DisplayName("Should go on with the other auctions when one cannot be archived")
+    void shouldSkipFailedAuction() {
+        final UUID failing = UUID.randomUUID();
+        final UUID archived = UUID.randomUUID();
+        when(auctionRepository.findIdsToArchive(any(), any())).thenReturn(List.of(failing, archived));
+        doThrow(new UncheckedIOException(new IOException("Disk full"))).when(bidArchiveService).archive(failing);
+        when(bidArchiveService.deleteArchived(archived, 1000)).thenReturn(12);
+
+        archiver.archive();
+
+        verify(bidArchiveService, never()).deleteArchived(failing, 1000);
+        verify(bidArchiveService).deleteArchived(archived, 1000);
+    }
+}
@@ -0,0 +1,99 @@
+package com.aktiia.bidapplication.job;
+
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import com.aktiia.bidapplication.notification.InMemoryNotificationSink;
+import com.aktiia.bidapplication.notification.NotificationSink;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final InMemoryNotificationSink sink = new InMemoryNotificationSink();
+    private final User user = User.builder().id(UUID.randomUUID()).username("bidder1").email("bidder@aktiia.com").build();
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(outboxEventRepository, userRepository, List.of(sink), 60000, 604800000, 200);
+    }
+
+    private OutboxEvent outbid(final int price) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .type(NotificationType.OUTBID)
+                .recipientId(user.getId())
+                .auctionId(UUID.randomUUID())
+                .amount(BigDecimal.valueOf(price))
+                .createdAt(LocalDateTime.now().minusMinutes(2))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should deliver all pending notifications of a user as one digest")
+    void shouldDeliverOneDigestPerUser() {
+        final List<OutboxEvent> events = IntStream.range(0, 50).mapToObj(this::outbid).toList();
+        when(outboxEventRepository.findRecipientsDue(any(), any())).thenReturn(List.of(user.getId()));
+        when(outboxEventRepository.findPendingForUpdate(List.of(user.getId()))).thenReturn(events);
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(user));
+
+        dispatcher.dispatch();
+
+        assertThat(sink.getDelivered()).singleElement()
+                .satisfies(digest -> assertThat(digest.items()).hasSize(50));
+        verify(outboxEventRepository).markDispatched(argThat(ids -> ids.size() == 50), any());
+    }
+
+    @Test
+    @DisplayName("Should leave notifications pending when a sink fails")
+    void shouldKeepPendingWhenSinkFails() {
+        final NotificationSink failing = digest -> {
+            throw new IllegalStateException("SMTP down");
+        };
+        dispatcher = new OutboxDispatcher(outboxEventRepository, userRepository, List.of(failing), 60000, 604800000, 200);
+        when(outboxEventRepository.findRecipientsDue(any(), any())).thenReturn(List.of(user.getId()));
+        when(outboxEventRepository.findPendingForUpdate(List.of(user.getId()))).thenReturn(new ArrayList<>(List.of(outbid(150))));
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(user));
+
+        dispatcher.dispatch();
+
+        verify(outboxEventRepository, never()).markDispatched(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no user is due")
+    void shouldSkipWhenNothingDue() {
+        when(outboxEventRepository.findRecipientsDue(any(), any())).thenReturn(List.of());
+
+        dispatcher.dispatch();
+
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,174 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.model.dto.response.AuctionSummaryResponse;
+import com.aktiia.bidapplication.model.dto.response.BrowsePageResponse;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBrowseServiceTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @InjectMocks
+    private AuctionBrowseService auctionBrowseService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("Should page open auctions by end time, skipping closed ones")
+    void shouldPageEndingSoon() {
+        loadEmpty();
+        final UUID later = create("Later", AuctionType.ENGLISH, "10.00", now.plusHours(3));
+        final UUID soonest = create("Soonest", AuctionType.ENGLISH, "10.00", now.plusMinutes(5));
+        final UUID closed = create("Closed", AuctionType.ENGLISH, "10.00", now.plusMinutes(1));
+        final UUID middle = create("Middle", AuctionType.ENGLISH, "10.00", now.plusHours(1));
+        auctionBrowseService.onAuctionClosed(new AuctionClosedEvent(closed, AuctionType.ENGLISH, UUID.randomUUID(),
+                null, List.of(), null, now));
+
+        final BrowsePageResponse first = auctionBrowseService.getEndingSoon(0, 2);
+        assertThat(first.items()).extracting(AuctionSummaryResponse::id).containsExactly(soonest, middle);
+        assertThat(first.hasNext()).isTrue();
+
+        final BrowsePageResponse second = auctionBrowseService.getEndingSoon(1, 2);
+        assertThat(second.items()).extracting(AuctionSummaryResponse::id).containsExactly(later);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should move an auction within the price index when it is bid on")
+    void shouldFollowBidsInPriceRange() {
+        loadEmpty();
+        final UUID cheap = create("Cheap", AuctionType.ENGLISH, "20.00", now.plusHours(1));
+        final UUID dutch = create("Dutch", AuctionType.DUTCH, "25.00", now.plusHours(1));
+        create("Expensive", AuctionType.ENGLISH, "500.00", now.plusHours(1));
+
+        assertThat(auctionBrowseService.getPricedBetween(new BigDecimal("10"), new BigDecimal("50"), 0, 10).items())
+                .extracting(AuctionSummaryResponse::id).containsExactly(cheap).doesNotContain(dutch);
+
+        auctionBrowseService.onBidPlaced(new BidPlacedEvent(cheap, UUID.randomUUID(), new BigDecimal("20.00"),
+                new BigDecimal("75.00"), List.of(), now, now.plusHours(1)));
+
+        assertThat(auctionBrowseService.getPricedBetween(new BigDecimal("10"), new BigDecimal("50"), 0, 10).items()).isEmpty();
+        assertThat(auctionBrowseService.getPricedBetween(new BigDecimal("75"), new BigDecimal("75"), 0, 10).items())
+                .extracting(AuctionSummaryResponse::currentHighestBid)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("75.00"));
+    }
+
+    @Test
+    @DisplayName("Should follow auctions created, bid on and closed through another instance")
+    void shouldFollowChangesFromOtherInstances() {
+        loadEmpty();
+        final UUID remote = UUID.randomUUID();
+
+        feed(AuctionChange.builder().change(AuctionChangeType.CREATED).auctionId(remote).title("Remote")
+                .type(AuctionType.ENGLISH).currentPrice(new BigDecimal("20.00")).endTime(now.plusHours(1)));
+        feed(AuctionChange.builder().change(AuctionChangeType.BID_PLACED).auctionId(remote)
+                .currentPrice(new BigDecimal("40.00")).endTime(now.plusHours(1)));
+
+        assertThat(auctionBrowseService.getPricedBetween(new BigDecimal("40"), new BigDecimal("40"), 0, 10).items())
+                .extracting(AuctionSummaryResponse::id).containsExactly(remote);
+
+        feed(AuctionChange.builder().change(AuctionChangeType.CLOSED).auctionId(remote).status(AuctionStatus.CLOSED));
+
+        assertThat(auctionBrowseService.getEndingSoon(0, 10).items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not bring back an auction closed here when its older changes arrive from the feed")
+    void shouldKeepLocalCloseAheadOfFeed() {
+        loadEmpty();
+        final UUID id = create("Closed here", AuctionType.ENGLISH, "10.00", now.plusHours(1));
+        auctionBrowseService.onAuctionClosed(new AuctionClosedEvent(id, AuctionType.ENGLISH, UUID.randomUUID(),
+                null, List.of(), null, now));
+
+        feed(AuctionChange.builder().change(AuctionChangeType.CREATED).auctionId(id).title("Closed here")
+                .type(AuctionType.ENGLISH).currentPrice(new BigDecimal("10.00")).endTime(now.plusHours(1)));
+
+        assertThat(auctionBrowseService.getEndingSoon(0, 10).items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reload the open auctions when the feed was purged before it was read")
+    void shouldResyncFromDatabase() {
+        loadEmpty();
+        final UUID stale = create("Closed elsewhere", AuctionType.ENGLISH, "10.00", now.plusHours(1));
+        final AuctionRepository.BrowseEntry entry = mock(AuctionRepository.BrowseEntry.class);
+        final UUID open = UUID.randomUUID();
+        when(entry.getId()).thenReturn(open);
+        when(entry.getTitle()).thenReturn("Still open");
+        when(entry.getType()).thenReturn(AuctionType.ENGLISH);
+        when(entry.getCurrentHighestBid()).thenReturn(new BigDecimal("10.00"));
+        when(entry.getEndTime()).thenReturn(now.plusHours(2));
+        when(auctionRepository.findBrowseEntriesByStatus(AuctionStatus.OPEN)).thenReturn(List.of(entry));
+
+        auctionBrowseService.onFeedChanges(new AuctionChangesEvent(List.of(), true));
+
+        assertThat(auctionBrowseService.getEndingSoon(0, 10).items())
+                .extracting(AuctionSummaryResponse::id).containsExactly(open).doesNotContain(stale);
+    }
+
+    @Test
+    @DisplayName("Should read from the database until the indexes are loaded")
+    void shouldFallBackBeforeLoad() {
+        when(auctionRepository.findBrowseEntriesEndingAfter(eq(AuctionStatus.OPEN), any(LocalDateTime.class),
+                eq(PageRequest.of(0, 20)))).thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        assertThat(auctionBrowseService.getEndingSoon(0, 20).items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid pages and price ranges")
+    void shouldValidateArguments() {
+        assertThatThrownBy(() -> auctionBrowseService.getEndingSoon(-1, 20)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> auctionBrowseService.getEndingSoon(0, AuctionBrowseService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> auctionBrowseService.getPricedBetween(BigDecimal.TEN, BigDecimal.ONE, 0, 20))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void loadEmpty() {
+        when(auctionRepository.findBrowseEntriesByStatus(AuctionStatus.OPEN)).thenReturn(List.of());
+        auctionBrowseService.loadIndexes();
+    }
+
+    private void feed(final AuctionChange.AuctionChangeBuilder change) {
+        auctionBrowseService.onFeedChanges(new AuctionChangesEvent(List.of(change.build()), false));
+    }
+
+    private UUID create(final String title, final AuctionType type, final String price, final LocalDateTime endTime) {
+        final UUID id = UUID.randomUUID();
+        auctionBrowseService.onAuctionCreated(new AuctionCreatedEvent(id, title, null, type, new BigDecimal(price), endTime));
+        return id;
+    }
+}
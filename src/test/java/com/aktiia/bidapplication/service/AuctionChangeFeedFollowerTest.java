@@ -0,0 +1,108 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.entity.ChangeSequence;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.repository.AuctionChangeRepository;
+import com.aktiia.bidapplication.repository.ChangeSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class AuctionChangeFeedFollowerTest {
+
+    private final AuctionChangeRepository auctionChangeRepository = mock(AuctionChangeRepository.class);
+    private final ChangeSequenceRepository changeSequenceRepository = mock(ChangeSequenceRepository.class);
+    private final List<AuctionChangesEvent> published = new ArrayList<>();
+    private final ApplicationEventPublisher eventPublisher = event -> published.add((AuctionChangesEvent) event);
+    private final AuctionChangeFeedFollower follower =
+            new AuctionChangeFeedFollower(auctionChangeRepository, changeSequenceRepository, eventPublisher, 2);
+
+    // The tables, as the repositories would see them
+    private final ChangeSequence sequence = new ChangeSequence(AuctionChangeFeedService.SEQUENCE, 0L);
+    private final List<AuctionChange> changes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(changeSequenceRepository.findById(AuctionChangeFeedService.SEQUENCE)).thenReturn(Optional.of(sequence));
+        when(auctionChangeRepository.findAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            final long after = invocation.getArgument(0);
+            final Pageable pageable = invocation.getArgument(1);
+            return changes.stream()
+                    .filter(change -> change.getSequence() > after)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(auctionChangeRepository.findOldestSequence()).thenAnswer(invocation -> changes.stream()
+                .map(AuctionChange::getSequence)
+                .min(Long::compare));
+    }
+
+    private void append() {
+        sequence.setLastValue(sequence.getLastValue() + 1);
+        changes.add(AuctionChange.builder()
+                .sequence(sequence.getLastValue())
+                .change(AuctionChangeType.BID_PLACED)
+                .auctionId(UUID.randomUUID())
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should publish only the changes committed after it started, in pages, each once")
+    void shouldPublishChangesAfterCursor() {
+        append();
+        follower.start();
+        append();
+        append();
+        append();
+
+        follower.follow();
+        follower.follow();
+
+        assertThat(published).extracting(event -> event.changes().size()).containsExactly(2, 1);
+        assertThat(published).flatExtracting(AuctionChangesEvent::changes)
+                .extracting(AuctionChange::getSequence).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should not poll before it started")
+    void shouldWaitForStart() {
+        append();
+
+        follower.follow();
+
+        assertThat(published).isEmpty();
+        verifyNoInteractions(auctionChangeRepository);
+    }
+
+    @Test
+    @DisplayName("Should ask for a resync when changes were purged before they were read")
+    void shouldResyncAfterPurge() {
+        follower.start();
+        append();
+        append();
+        append();
+        changes.removeFirst();
+        changes.removeFirst();
+
+        follower.follow();
+        append();
+        follower.follow();
+
+        assertThat(published.getFirst().resyncRequired()).isTrue();
+        assertThat(published.get(1).changes()).extracting(AuctionChange::getSequence).containsExactly(4L);
+    }
+}
@@ -0,0 +1,163 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.model.dto.response.ChangeFeedEntryResponse;
+import com.aktiia.bidapplication.model.dto.response.ChangeFeedResponse;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.entity.ChangeSequence;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionChangeRepository;
+import com.aktiia.bidapplication.repository.ChangeSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuctionChangeFeedServiceTest {
+
+    private final AuctionChangeRepository auctionChangeRepository = mock(AuctionChangeRepository.class);
+    private final ChangeSequenceRepository changeSequenceRepository = mock(ChangeSequenceRepository.class);
+    private final AuctionChangeFeedService auctionChangeFeedService =
+            new AuctionChangeFeedService(auctionChangeRepository, changeSequenceRepository, 4);
+
+    // The tables, as the repositories would see them
+    private final ChangeSequence sequence = new ChangeSequence(AuctionChangeFeedService.SEQUENCE, 0L);
+    private final List<AuctionChange> changes = new ArrayList<>();
+
+    private final UUID auctionId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        when(changeSequenceRepository.findByNameForUpdate(AuctionChangeFeedService.SEQUENCE))
+                .thenReturn(Optional.of(sequence));
+        when(changeSequenceRepository.findById(AuctionChangeFeedService.SEQUENCE)).thenReturn(Optional.of(sequence));
+        when(auctionChangeRepository.save(any(AuctionChange.class))).thenAnswer(invocation -> {
+            changes.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(auctionChangeRepository.findAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            final long after = invocation.getArgument(0);
+            final Pageable pageable = invocation.getArgument(1);
+            return changes.stream()
+                    .filter(change -> change.getSequence() > after)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(auctionChangeRepository.findOldestSequence()).thenAnswer(invocation -> changes.stream()
+                .map(AuctionChange::getSequence)
+                .min(Long::compare));
+        when(auctionChangeRepository.deleteUpTo(anyLong())).thenAnswer(invocation -> {
+            final long upTo = invocation.getArgument(0);
+            final int before = changes.size();
+            changes.removeIf(change -> change.getSequence() <= upTo);
+            return before - changes.size();
+        });
+    }
+
+    @Test
+    @DisplayName("Should return the changes since a cursor in the order they were numbered")
+    void shouldReturnChangesSinceCursor() {
+        final String start = auctionChangeFeedService.getChanges(null, 10).cursor();
+        create();
+        bid("12.00");
+        final UUID winnerId = UUID.randomUUID();
+        auctionChangeFeedService.onAuctionClosed(new AuctionClosedEvent(auctionId, AuctionType.ENGLISH,
+                UUID.randomUUID(), winnerId, List.of(winnerId), new BigDecimal("12.00"), now));
+
+        final ChangeFeedResponse response = auctionChangeFeedService.getChanges(start, 10);
+
+        assertThat(response.changes()).extracting(ChangeFeedEntryResponse::change)
+                .containsExactly(AuctionChangeType.CREATED, AuctionChangeType.BID_PLACED, AuctionChangeType.CLOSED);
+        assertThat(response.changes().get(1).currentPrice()).isEqualByComparingTo("12.00");
+        assertThat(response.changes().get(2).status()).isEqualTo(AuctionStatus.CLOSED);
+        assertThat(response.resyncRequired()).isFalse();
+        assertThat(response.cursor()).isEqualTo("3");
+        assertThat(auctionChangeFeedService.getChanges(response.cursor(), 10).changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should number every change from the locked sequence row")
+    void shouldNumberFromLockedSequence() {
+        create();
+        bid("11.00");
+
+        assertThat(changes).extracting(AuctionChange::getSequence).containsExactly(1L, 2L);
+        assertThat(sequence.getLastValue()).isEqualTo(2L);
+        verify(changeSequenceRepository, times(2)).findByNameForUpdate(AuctionChangeFeedService.SEQUENCE);
+    }
+
+    @Test
+    @DisplayName("Should page through changes with the returned cursor")
+    void shouldPageChanges() {
+        final String start = auctionChangeFeedService.getChanges(null, 10).cursor();
+        create();
+        bid("11.00");
+        bid("12.00");
+
+        final ChangeFeedResponse first = auctionChangeFeedService.getChanges(start, 2);
+        assertThat(first.changes()).hasSize(2);
+        assertThat(first.hasMore()).isTrue();
+
+        final ChangeFeedResponse second = auctionChangeFeedService.getChanges(first.cursor(), 2);
+        assertThat(second.changes()).extracting(ChangeFeedEntryResponse::currentPrice)
+                .containsExactly(new BigDecimal("12.00"));
+        assertThat(second.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ask for a resync when the cursor's changes were purged")
+    void shouldRequireResyncForPurgedCursor() {
+        final String start = auctionChangeFeedService.getChanges(null, 10).cursor();
+        create();
+        for (int i = 1; i <= 5; i++) {
+            bid(i + ".00");
+        }
+        auctionChangeFeedService.purgeOldChanges();
+
+        final ChangeFeedResponse response = auctionChangeFeedService.getChanges(start, 10);
+
+        assertThat(changes).hasSize(4);
+        assertThat(response.resyncRequired()).isTrue();
+        assertThat(response.changes()).isEmpty();
+        assertThat(auctionChangeFeedService.getChanges(response.cursor(), 10).changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and out-of-range limits")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> auctionChangeFeedService.getChanges("garbage", 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> auctionChangeFeedService.getChanges("-1", 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> auctionChangeFeedService.getChanges("0", AuctionChangeFeedService.MAX_LIMIT + 1))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void create() {
+        auctionChangeFeedService.onAuctionCreated(new AuctionCreatedEvent(auctionId, "Lamp", "Brass lamp",
+                AuctionType.ENGLISH, new BigDecimal("10.00"), now.plusDays(1)));
+    }
+
+    private void bid(final String amount) {
+        auctionChangeFeedService.onBidPlaced(new BidPlacedEvent(auctionId, UUID.randomUUID(), null,
+                new BigDecimal(amount), List.of(), now, now.plusDays(1)));
+    }
+}
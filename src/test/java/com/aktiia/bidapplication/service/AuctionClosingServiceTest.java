@@ -0,0 +1,164 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.OrderBook;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionClosingServiceTest {
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private OrderBookService orderBookService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AuctionClosingService auctionClosingService;
+
+    private final UUID auctionId = UUID.randomUUID();
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        auction = Auction.builder()
+                .id(auctionId)
+                .title("Sealed Auction")
+                .startingPrice(new BigDecimal("100.00"))
+                .currentHighestBid(new BigDecimal("100.00"))
+                .status(AuctionStatus.OPEN)
+                .endTime(LocalDateTime.now())
+                .build();
+    }
+
+    private final User winner = User.builder().id(UUID.randomUUID()).username("winner").build();
+
+    private Bid bid(final String amount, final User bidder) {
+        return Bid.builder().id(UUID.randomUUID()).amount(new BigDecimal(amount)).auction(auction).bidder(bidder).build();
+    }
+
+    @Test
+    @DisplayName("English auctions are closed without looking at bids")
+    void shouldCloseEnglishAuction() {
+        auction.setHighestBidder(winner);
+
+        assertThat(auctionClosingService.close(auction)).containsExactly(winner);
+
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.CLOSED);
+        verifyNoInteractions(bidRepository);
+    }
+
+    @Test
+    @DisplayName("Multi-unit auctions are won by every bidder in the winning set")
+    void shouldCloseMultiUnitWithEveryWinner() {
+        auction.setType(AuctionType.MULTI_UNIT);
+        auction.setQuantity(3);
+        final OrderBook book = new OrderBook(3);
+        final List<User> bidders = List.of(winner,
+                User.builder().id(UUID.randomUUID()).username("second").build(),
+                User.builder().id(UUID.randomUUID()).username("third").build(),
+                User.builder().id(UUID.randomUUID()).username("outbid").build());
+        book.place(bidders.get(3).getId(), 11_000);
+        book.place(bidders.get(2).getId(), 12_000);
+        book.place(bidders.get(1).getId(), 13_000);
+        book.place(bidders.get(0).getId(), 14_000);
+        when(orderBookService.book(auction)).thenReturn(book);
+        bidders.forEach(bidder -> lenient().when(userRepository.getReferenceById(bidder.getId())).thenReturn(bidder));
+
+        final List<User> winners = auctionClosingService.close(auction);
+
+        assertThat(winners).containsExactly(bidders.get(0), bidders.get(1), bidders.get(2));
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.CLOSED);
+        verify(orderBookService).evict(auctionId);
+    }
+
+    @Test
+    @DisplayName("First-price sealed auctions clear at the highest bid")
+    void shouldSettleFirstPrice() {
+        auction.setType(AuctionType.SEALED_FIRST_PRICE);
+        when(bidRepository.findTopBidsByAuctionId(auctionId, 1)).thenReturn(List.of(bid("300.00", winner)));
+
+        auctionClosingService.close(auction);
+
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.CLOSED);
+        assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("300.00");
+        assertThat(auction.getHighestBidder()).isEqualTo(winner);
+    }
+
+    @Test
+    @DisplayName("Second-price sealed auctions clear at the runner-up's bid")
+    void shouldSettleSecondPrice() {
+        auction.setType(AuctionType.SEALED_SECOND_PRICE);
+        when(bidRepository.findTopBidsByAuctionId(auctionId, 1)).thenReturn(List.of(bid("300.00", winner)));
+        when(bidRepository.findHighestAmountExcludingBidder(auctionId, winner.getId()))
+                .thenReturn(Optional.of(new BigDecimal("250.00")));
+
+        auctionClosingService.close(auction);
+
+        assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("250.00");
+    }
+
+    @Test
+    @DisplayName("Second-price winners holding the top two bids pay the best rival's bid")
+    void shouldSettleSecondPriceAgainstRival() {
+        auction.setType(AuctionType.SEALED_SECOND_PRICE);
+        // winner bid 300 and 280, the best other bidder 200
+        when(bidRepository.findTopBidsByAuctionId(auctionId, 1)).thenReturn(List.of(bid("300.00", winner)));
+        when(bidRepository.findHighestAmountExcludingBidder(auctionId, winner.getId()))
+                .thenReturn(Optional.of(new BigDecimal("200.00")));
+
+        auctionClosingService.close(auction);
+
+        assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("200.00");
+        assertThat(auction.getHighestBidder()).isEqualTo(winner);
+    }
+
+    @Test
+    @DisplayName("A single second-price bid clears at the starting price")
+    void shouldSettleSingleSecondPriceBidAtStartingPrice() {
+        auction.setType(AuctionType.SEALED_SECOND_PRICE);
+        when(bidRepository.findTopBidsByAuctionId(auctionId, 1)).thenReturn(List.of(bid("300.00", winner)));
+        when(bidRepository.findHighestAmountExcludingBidder(auctionId, winner.getId())).thenReturn(Optional.empty());
+
+        auctionClosingService.close(auction);
+
+        assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("Closing an already closed auction is a no-op")
+    void shouldIgnoreClosedAuction() {
+        auction.setType(AuctionType.SEALED_FIRST_PRICE);
+        auction.setStatus(AuctionStatus.CLOSED);
+
+        auctionClosingService.close(auction);
+
+        verify(bidRepository, never()).findTopBidsByAuctionId(any(), anyInt());
+    }
+}
@@ -0,0 +1,86 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.aktiia.bidapplication.model.enums.AuctionStatus.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionReadServiceTest {
+
+    private static final int REQUESTS = 200;
+
+    @Mock
+    private AuctionService auctionService;
+
+    @InjectMocks
+    private AuctionReadService auctionReadService;
+
+    private final UUID auctionId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should query a trending auction's status once for a burst of identical requests")
+    void shouldCoalesceThunderingHerd() throws Exception {
+        final AuctionStatusResponse status = AuctionStatusResponse.builder().auctionId(auctionId).status(OPEN).build();
+        final CountDownLatch querying = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch arrived = new CountDownLatch(REQUESTS);
+        when(auctionService.getAuctionStatus(auctionId)).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return status;
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            final List<Future<AuctionStatusResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                responses.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return auctionReadService.getAuctionStatus(auctionId);
+                }));
+            }
+            assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (final Future<AuctionStatusResponse> response : responses) {
+                assertThat(response.get(5, TimeUnit.SECONDS)).isSameAs(status);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(auctionService, times(1)).getAuctionStatus(auctionId);
+    }
+
+    @Test
+    @DisplayName("Should pass a missing auction through to the caller")
+    void shouldPropagateNotFound() {
+        when(auctionService.getAuction(auctionId)).thenThrow(new ResourceNotFoundException("Auction", "id", auctionId));
+
+        assertThatThrownBy(() -> auctionReadService.getAuction(auctionId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.model.dto.response.AuctionSearchResponse;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.AuctionUpdatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionRepository.SearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSearchServiceTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @InjectMocks
+    private AuctionSearchService auctionSearchService;
+
+    private final UUID auctionId = UUID.randomUUID();
+    private final LocalDateTime endTime = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        auctionSearchService.onAuctionCreated(new AuctionCreatedEvent(auctionId, "Vintage Rolex",
+                "Box and papers", AuctionType.ENGLISH, new BigDecimal("100.00"), endTime));
+    }
+
+    @Test
+    @DisplayName("Should find a created auction without touching the database")
+    void shouldSearchFromMemory() {
+        final List<AuctionSearchResponse> results = auctionSearchService.search("rolex papers", false, 20);
+
+        assertThat(results).extracting(AuctionSearchResponse::id).containsExactly(auctionId);
+        assertThat(results.getFirst().currentHighestBid()).isEqualByComparingTo("100.00");
+        verifyNoInteractions(auctionRepository);
+    }
+
+    @Test
+    @DisplayName("Should reflect bids, edits and closing in results")
+    void shouldFollowAuctionEvents() {
+        auctionSearchService.onBidPlaced(new BidPlacedEvent(auctionId, UUID.randomUUID(), new BigDecimal("100.00"),
+                new BigDecimal("150.00"), List.of(), LocalDateTime.now(), endTime));
+        assertThat(auctionSearchService.search("rolex", false, 20).getFirst().currentHighestBid())
+                .isEqualByComparingTo("150.00");
+
+        auctionSearchService.onAuctionUpdated(new AuctionUpdatedEvent(auctionId, "Vintage Omega", "Box",
+                new BigDecimal("150.00"), endTime));
+        assertThat(auctionSearchService.search("rolex", false, 20)).isEmpty();
+        assertThat(auctionSearchService.search("omega", false, 20)).hasSize(1);
+
+        final UUID winnerId = UUID.randomUUID();
+        auctionSearchService.onAuctionClosed(new AuctionClosedEvent(auctionId, AuctionType.ENGLISH, UUID.randomUUID(),
+                winnerId, List.of(winnerId), new BigDecimal("150.00"), LocalDateTime.now()));
+        assertThat(auctionSearchService.search("omega", true, 20)).isEmpty();
+        assertThat(auctionSearchService.search("omega", false, 20).getFirst().status()).isEqualTo(AuctionStatus.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should find an auction created through another instance once the feed brings it")
+    void shouldIndexAuctionCreatedElsewhere() {
+        final UUID remoteId = UUID.randomUUID();
+        final SearchDocument document = mock(SearchDocument.class);
+        when(document.getId()).thenReturn(remoteId);
+        when(document.getTitle()).thenReturn("Omega Speedmaster");
+        when(document.getDescription()).thenReturn("Moonwatch");
+        when(document.getType()).thenReturn(AuctionType.ENGLISH);
+        when(document.getStatus()).thenReturn(AuctionStatus.OPEN);
+        when(document.getCurrentHighestBid()).thenReturn(new BigDecimal("200.00"));
+        when(document.getEndTime()).thenReturn(endTime);
+        when(auctionRepository.findSearchDocumentsByIds(Set.of(remoteId))).thenReturn(List.of(document));
+
+        auctionSearchService.onFeedChanges(new AuctionChangesEvent(List.of(AuctionChange.builder()
+                .sequence(1L).change(AuctionChangeType.CREATED).auctionId(remoteId).title("Omega Speedmaster")
+                .build()), false));
+
+        assertThat(auctionSearchService.search("moonwatch", true, 20))
+                .extracting(AuctionSearchResponse::id).containsExactly(remoteId);
+    }
+
+    @Test
+    @DisplayName("Should reflect bids and closing made through another instance")
+    void shouldFollowFeedBidsAndClose() {
+        auctionSearchService.onFeedChanges(new AuctionChangesEvent(List.of(
+                AuctionChange.builder().sequence(1L).change(AuctionChangeType.BID_PLACED).auctionId(auctionId)
+                        .currentPrice(new BigDecimal("180.00")).endTime(endTime).build(),
+                AuctionChange.builder().sequence(2L).change(AuctionChangeType.BID_PLACED).auctionId(auctionId)
+                        .currentPrice(new BigDecimal("120.00")).endTime(endTime).build()), false));
+
+        assertThat(auctionSearchService.search("rolex", true, 20).getFirst().currentHighestBid())
+                .isEqualByComparingTo("180.00");
+
+        auctionSearchService.onFeedChanges(new AuctionChangesEvent(List.of(AuctionChange.builder()
+                .sequence(3L).change(AuctionChangeType.CLOSED).auctionId(auctionId)
+                .status(AuctionStatus.CLOSED).currentPrice(new BigDecimal("180.00")).build()), false));
+
+        assertThat(auctionSearchService.search("rolex", true, 20)).isEmpty();
+        verifyNoInteractions(auctionRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank query and an out-of-range limit")
+    void shouldValidateArguments() {
+        assertThatThrownBy(() -> auctionSearchService.search(" ", false, 20)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> auctionSearchService.search("rolex", false, 0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> auctionSearchService.search("rolex", false, AuctionSearchService.MAX_LIMIT + 1))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -6,14 +6,20 @@ import com.aktiia.bidapplication.exception.ResourceNotFoundException;
 import com.aktiia.bidapplication.model.dto.request.AuctionRequest;
 import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
 import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
 import com.aktiia.bidapplication.model.entity.Auction;
 import com.aktiia.bidapplication.model.entity.Bid;
 import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionField;
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
 import com.aktiia.bidapplication.model.enums.Role;
 import com.aktiia.bidapplication.repository.AuctionRepository;
 import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.BidRepository.BidCount;
+import com.aktiia.bidapplication.repository.BidRepository.TopBid;
 import com.aktiia.bidapplication.repository.UserRepository;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.quartz.Scheduler;
 
 import java.math.BigDecimal;
@@ -44,9 +51,15 @@ class AuctionServiceTest {
     @Mock
     private BidRepository bidRepository;
 
+    @Mock
+    private BidArchiveStore bidArchiveStore;
+
     @Mock
     private Scheduler scheduler;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuctionService auctionService;
 
@@ -208,6 +221,49 @@ class AuctionServiceTest {
             assertThat(result).hasSize(1);
             assertThat(result.getFirst().status()).isEqualTo(AuctionStatus.OPEN);
         }
+
+        @Test
+        @DisplayName("Should project only the requested fields, in response order")
+        void shouldProjectRequestedFields() {
+            final Tuple tuple = mock(Tuple.class);
+            when(tuple.get("id")).thenReturn(auctionId);
+            when(tuple.get("title")).thenReturn("Lamp");
+            when(auctionRepository.findProjected(EnumSet.of(AuctionField.ID, AuctionField.TITLE), AuctionStatus.OPEN))
+                    .thenReturn(List.of(tuple));
+
+            final List<Map<String, Object>> result = auctionService.getAuctionFields("title, id", true);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.getFirst()).containsExactly(entry("id", auctionId), entry("title", "Lamp"));
+        }
+
+        @Test
+        @DisplayName("Should derive the live price of an open Dutch auction from the projected schedule")
+        void shouldProjectDutchPrice() {
+            final Tuple tuple = mock(Tuple.class);
+            when(tuple.get("type", AuctionType.class)).thenReturn(AuctionType.DUTCH);
+            when(tuple.get("status", AuctionStatus.class)).thenReturn(AuctionStatus.OPEN);
+            when(tuple.get("createdAt", LocalDateTime.class)).thenReturn(LocalDateTime.now().minusSeconds(125));
+            when(tuple.get("startingPrice", BigDecimal.class)).thenReturn(new BigDecimal("100.00"));
+            when(tuple.get("priceDecrement", BigDecimal.class)).thenReturn(new BigDecimal("10.00"));
+            when(tuple.get("decrementIntervalSeconds", Integer.class)).thenReturn(60);
+            when(tuple.get("floorPrice", BigDecimal.class)).thenReturn(new BigDecimal("50.00"));
+            when(auctionRepository.findProjected(EnumSet.of(AuctionField.CURRENT_HIGHEST_BID), null))
+                    .thenReturn(List.of(tuple));
+
+            final List<Map<String, Object>> result = auctionService.getAuctionFields("currentHighestBid", false);
+
+            assertThat((BigDecimal) result.getFirst().get("currentHighestBid")).isEqualByComparingTo("80.00");
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown field")
+        void shouldRejectUnknownField() {
+            assertThatThrownBy(() -> auctionService.getAuctionFields("id,password", false))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("password");
+            verifyNoInteractions(auctionRepository);
+        }
     }
 
     @Nested
@@ -236,6 +292,32 @@ class AuctionServiceTest {
             assertThat(status.status()).isEqualTo(AuctionStatus.OPEN);
         }
 
+        @Test
+        @DisplayName("Should read the recent bids of an archived auction from the archive")
+        void shouldReadArchivedBids() {
+            auction.setStatus(AuctionStatus.CLOSED);
+            auction.setArchivedBidCount(12);
+            final List<BidResponse> archived = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                archived.add(BidResponse.builder()
+                        .id(UUID.randomUUID())
+                        .amount(BigDecimal.valueOf(20_000 - i * 100L, 2))
+                        .bidderUsername("bidder" + i)
+                        .auctionId(auctionId)
+                        .placedAt(LocalDateTime.now().minusDays(40))
+                        .build());
+            }
+            when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+            when(bidArchiveStore.read(auctionId)).thenReturn(archived);
+
+            final AuctionStatusResponse status = auctionService.getAuctionStatus(auctionId);
+
+            assertThat(status.totalBids()).isEqualTo(12);
+            assertThat(status.recentBids()).hasSize(10).first().isEqualTo(archived.getFirst());
+            assertThat(status.highestBidderUsername()).isEqualTo("bidder0");
+            verifyNoInteractions(bidRepository);
+        }
+
         @Test
         @DisplayName("Should return status with no bidder when no bids exist")
         void shouldReturnStatusWithNoBids() {
@@ -248,5 +330,81 @@ class AuctionServiceTest {
             assertThat(status.highestBidderUsername()).isNull();
             assertThat(status.totalBids()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("Should resolve many statuses with set-based queries and skip unknown ids")
+        void shouldReturnBatchStatuses() {
+            final UUID unknownId = UUID.randomUUID();
+            final Auction sealed = Auction.builder()
+                    .id(UUID.randomUUID())
+                    .title("Sealed")
+                    .startingPrice(new BigDecimal("10.00"))
+                    .currentHighestBid(new BigDecimal("10.00"))
+                    .status(AuctionStatus.OPEN)
+                    .type(AuctionType.SEALED_FIRST_PRICE)
+                    .endTime(LocalDateTime.now().plusHours(1))
+                    .build();
+
+            when(auctionRepository.findAllById(any())).thenReturn(List.of(auction, sealed));
+            when(bidRepository.countByAuctionIds(List.of(auctionId, sealed.getId())))
+                    .thenReturn(List.of(bidCount(auctionId, 3), bidCount(sealed.getId(), 2)));
+            when(bidRepository.findTopBidsByAuctionIds(List.of(auctionId), 10))
+                    .thenReturn(List.of(topBid(auctionId, "bidder1", "150.00"), topBid(auctionId, "bidder2", "120.00")));
+
+            final Map<UUID, AuctionStatusResponse> statuses =
+                    auctionService.getAuctionStatuses(List.of(auctionId, sealed.getId(), unknownId));
+
+            assertThat(statuses).containsOnlyKeys(auctionId, sealed.getId());
+            assertThat(statuses.get(auctionId).highestBidderUsername()).isEqualTo("bidder1");
+            assertThat(statuses.get(auctionId).recentBids()).hasSize(2);
+            assertThat(statuses.get(auctionId).totalBids()).isEqualTo(3);
+            assertThat(statuses.get(sealed.getId()).recentBids()).isEmpty();
+            assertThat(statuses.get(sealed.getId()).totalBids()).isEqualTo(2);
+            verify(bidRepository, never()).findTopBidsByAuctionId(any(), anyInt());
+            verify(bidRepository, never()).countByAuctionId(any());
+        }
+    }
+
+    private static BidCount bidCount(final UUID auctionId, final long count) {
+        return new BidCount() {
+            @Override
+            public UUID getAuctionId() {
+                return auctionId;
+            }
+
+            @Override
+            public long getBidCount() {
+                return count;
+            }
+        };
+    }
+
+    private static TopBid topBid(final UUID auctionId, final String bidderUsername, final String amount) {
+        return new TopBid() {
+            @Override
+            public UUID getId() {
+                return UUID.randomUUID();
+            }
+
+            @Override
+            public UUID getAuctionId() {
+                return auctionId;
+            }
+
+            @Override
+            public BigDecimal getAmount() {
+                return new BigDecimal(amount);
+            }
+
+            @Override
+            public String getBidderUsername() {
+                return bidderUsername;
+            }
+
+            @Override
+            public LocalDateTime getPlacedAt() {
+                return LocalDateTime.now();
+            }
+        };
     }
 }
@@ -0,0 +1,153 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.job.CloseAuctionJob;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.AuctionResult;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.AuctionResultRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSettlementServiceTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AuctionResultRepository auctionResultRepository;
+
+    @Mock
+    private AuctionClosingService auctionClosingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @InjectMocks
+    private AuctionSettlementService auctionSettlementService;
+
+    private final User winner = User.builder().id(UUID.randomUUID()).username("winner").build();
+
+    private Auction auction(final LocalDateTime endTime, final User highestBidder) {
+        return Auction.builder()
+                .id(UUID.randomUUID())
+                .startingPrice(new BigDecimal("100.00"))
+                .currentHighestBid(new BigDecimal("150.00"))
+                .highestBidder(highestBidder)
+                .status(AuctionStatus.OPEN)
+                .endTime(endTime)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should close a batch in one call and record the maintained winner and price")
+    @SuppressWarnings("unchecked")
+    void shouldSettleBatchFromMaintainedState() {
+        final Auction sold = auction(LocalDateTime.now().minusSeconds(1), winner);
+        final Auction unsold = auction(LocalDateTime.now().minusSeconds(1), null);
+        final List<UUID> ids = List.of(sold.getId(), unsold.getId());
+        when(auctionRepository.findAllByIdWithPessimisticLock(ids)).thenReturn(List.of(sold, unsold));
+        when(auctionClosingService.close(sold)).thenReturn(List.of(winner));
+
+        final int settled = auctionSettlementService.settle(ids);
+
+        assertThat(settled).isEqualTo(2);
+        final ArgumentCaptor<List<AuctionResult>> results = ArgumentCaptor.forClass(List.class);
+        verify(auctionResultRepository).saveAll(results.capture());
+        assertThat(results.getValue()).satisfiesExactly(
+                result -> {
+                    assertThat(result.getWinner()).isEqualTo(winner);
+                    assertThat(result.getFinalPrice()).isEqualByComparingTo("150.00");
+                },
+                result -> {
+                    assertThat(result.getWinner()).isNull();
+                    assertThat(result.getFinalPrice()).isNull();
+                });
+        verify(eventPublisher, times(2)).publishEvent(any(AuctionClosedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should record every winner of a quantity-3 auction at the clearing price")
+    @SuppressWarnings("unchecked")
+    void shouldSettleEveryMultiUnitWinner() {
+        final User second = User.builder().id(UUID.randomUUID()).username("second").build();
+        final User third = User.builder().id(UUID.randomUUID()).username("third").build();
+        final Auction auction = auction(LocalDateTime.now().minusSeconds(1), winner);
+        auction.setType(AuctionType.MULTI_UNIT);
+        auction.setQuantity(3);
+        when(auctionRepository.findAllByIdWithPessimisticLock(List.of(auction.getId()))).thenReturn(List.of(auction));
+        when(auctionClosingService.close(auction)).thenReturn(List.of(winner, second, third));
+
+        auctionSettlementService.settle(List.of(auction.getId()));
+
+        final ArgumentCaptor<List<AuctionResult>> results = ArgumentCaptor.forClass(List.class);
+        verify(auctionResultRepository).saveAll(results.capture());
+        assertThat(results.getValue()).singleElement().satisfies(result -> {
+            assertThat(result.getWinner()).isEqualTo(winner);
+            assertThat(result.getWinners()).containsExactly(winner, second, third);
+            assertThat(result.getFinalPrice()).isEqualByComparingTo("150.00");
+        });
+        final ArgumentCaptor<AuctionClosedEvent> event = ArgumentCaptor.forClass(AuctionClosedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().winnerIds()).containsExactly(winner.getId(), second.getId(), third.getId());
+        assertThat(event.getValue().finalPrice()).isEqualByComparingTo("150.00");
+    }
+
+    @Test
+    @DisplayName("Should skip auctions that were extended or already closed")
+    void shouldSkipExtendedAndClosedAuctions() {
+        final Auction extended = auction(LocalDateTime.now().plusMinutes(1), winner);
+        final Auction closed = auction(LocalDateTime.now().minusSeconds(1), winner);
+        closed.setStatus(AuctionStatus.CLOSED);
+        final List<UUID> ids = List.of(extended.getId(), closed.getId());
+        when(auctionRepository.findAllByIdWithPessimisticLock(ids)).thenReturn(List.of(extended, closed));
+
+        assertThat(auctionSettlementService.settle(ids)).isZero();
+
+        verifyNoInteractions(auctionClosingService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should re-arm the close trigger when a bid extends the auction between the close job's read and settlement")
+    void shouldRearmAuctionExtendedBeforeSettlement() throws Exception {
+        // The close job read this end time and queued the auction
+        final Auction auction = auction(LocalDateTime.now().minusSeconds(1), winner);
+        // A late bid on another node extended it before the settlement batch locked the row
+        final LocalDateTime extendedEnd = LocalDateTime.now().plusMinutes(2);
+        auction.setEndTime(extendedEnd);
+        when(auctionRepository.findAllByIdWithPessimisticLock(List.of(auction.getId()))).thenReturn(List.of(auction));
+
+        assertThat(auctionSettlementService.settle(List.of(auction.getId()))).isZero();
+
+        final ArgumentCaptor<Trigger> trigger = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).scheduleJob(trigger.capture());
+        assertThat(trigger.getValue().getJobKey()).isEqualTo(CloseAuctionJob.jobKey(auction.getId()));
+        assertThat(trigger.getValue().getStartTime()).isEqualTo(Timestamp.valueOf(extendedEnd));
+        verifyNoInteractions(auctionClosingService, eventPublisher);
+    }
+}
@@ -0,0 +1,115 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.BidRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidArchiveServiceTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private BidArchiveStore bidArchiveStore;
+
+    @InjectMocks
+    private BidArchiveService bidArchiveService;
+
+    private final UUID auctionId = UUID.randomUUID();
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        auction = Auction.builder()
+                .id(auctionId)
+                .title("Old Auction")
+                .status(AuctionStatus.CLOSED)
+                .endTime(LocalDateTime.now().minusDays(60))
+                .build();
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+    }
+
+    private List<Bid> bids(final int count) {
+        final User bidder = User.builder().id(UUID.randomUUID()).username("bidder").build();
+        return IntStream.range(0, count)
+                .mapToObj(i -> Bid.builder()
+                        .id(UUID.randomUUID())
+                        .amount(new BigDecimal(10 + i))
+                        .auction(auction)
+                        .bidder(bidder)
+                        .placedAt(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+
+    private List<BidResponse> segment(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> BidResponse.builder().id(UUID.randomUUID()).auctionId(auctionId).build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should record the bid count once the segment read back holds every bid")
+    void shouldArchiveVerifiedSegment() {
+        when(bidRepository.findWithBidderByAuctionId(auctionId)).thenReturn(bids(3));
+        when(bidArchiveStore.read(auctionId)).thenReturn(segment(3));
+
+        bidArchiveService.archive(auctionId);
+
+        assertThat(auction.getArchivedBidCount()).isEqualTo(3);
+        verify(auctionRepository).save(auction);
+    }
+
+    @Test
+    @DisplayName("Should not mark the auction archived when the segment read back is short")
+    void shouldRejectShortSegment() {
+        when(bidRepository.findWithBidderByAuctionId(auctionId)).thenReturn(bids(3));
+        when(bidArchiveStore.read(auctionId)).thenReturn(segment(2));
+
+        assertThatThrownBy(() -> bidArchiveService.archive(auctionId))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(auction.getArchivedBidCount()).isNull();
+        verify(auctionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should check the existing segment again before an archived auction's rows are deleted")
+    void shouldReverifyArchivedAuction() {
+        auction.setArchivedBidCount(5);
+        when(bidArchiveStore.read(auctionId)).thenReturn(segment(4));
+
+        assertThatThrownBy(() -> bidArchiveService.archive(auctionId))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(bidArchiveStore, never()).write(any(), any());
+        verifyNoInteractions(bidRepository);
+    }
+}
@@ -4,16 +4,25 @@ import com.aktiia.bidapplication.exception.AuctionClosedException;
 import com.aktiia.bidapplication.exception.BadRequestException;
 import com.aktiia.bidapplication.exception.BidTooLowException;
 import com.aktiia.bidapplication.exception.ResourceNotFoundException;
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.helper.OrderBook;
 import com.aktiia.bidapplication.model.dto.request.BidRequest;
 import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.dto.response.BidStandingResponse;
 import com.aktiia.bidapplication.model.entity.Auction;
 import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.entity.ProxyBid;
 import com.aktiia.bidapplication.model.entity.User;
 import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.enums.BidField;
 import com.aktiia.bidapplication.model.enums.Role;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
 import com.aktiia.bidapplication.repository.AuctionRepository;
 import com.aktiia.bidapplication.repository.BidRepository;
+import com.aktiia.bidapplication.repository.ProxyBidRepository;
 import com.aktiia.bidapplication.repository.UserRepository;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,11 +31,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -46,6 +58,27 @@ class BidServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ProxyBidRepository proxyBidRepository;
+
+    @Mock
+    private ProxyBiddingEngine proxyBiddingEngine;
+
+    @Mock
+    private OrderBookService orderBookService;
+
+    @Mock
+    private AuctionSettlementService auctionSettlementService;
+
+    @Mock
+    private SoftClosePolicy softClosePolicy;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BidArchiveStore bidArchiveStore;
+
     @InjectMocks
     private BidService bidService;
 
@@ -122,6 +155,87 @@ class BidServiceTest {
             verify(auctionRepository).save(any(Auction.class));
         }
 
+        @Test
+        @DisplayName("Should write automatic bids and raise the current highest bid when a rival proxy responds")
+        void shouldResolveRivalProxyBid() {
+            final User rivalBidder = User.builder().id(UUID.randomUUID()).username("rival").build();
+            final ProxyBid rivalProxy = ProxyBid.builder()
+                    .maxAmount(new BigDecimal("300.00"))
+                    .bidder(rivalBidder)
+                    .auction(auction)
+                    .build();
+            final BidRequest request = new BidRequest(new BigDecimal("150.00"));
+
+            when(auctionRepository.findByIdWithPessimisticLock(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+            when(proxyBidRepository.findStrongestRival(auctionId, bidderId, new BigDecimal("150.00")))
+                    .thenReturn(Optional.of(rivalProxy));
+            when(proxyBiddingEngine.resolve(bidder, Money.ofCents(15000), Money.ofCents(15000), rivalProxy))
+                    .thenReturn(List.of(new ProxyBiddingEngine.AutoBid(rivalBidder, Money.ofCents(15100))));
+
+            final BidResponse response = bidService.placeBid(auctionId, request, "bidder1");
+
+            assertThat(response.amount()).isEqualByComparingTo("150.00");
+            assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("151.00");
+            assertThat(auction.getHighestBidder()).isEqualTo(rivalBidder);
+            verify(eventPublisher).publishEvent(argThat((BidPlacedEvent event) ->
+                    event.outbidUserIds().contains(bidderId)
+                            && event.currentPrice().compareTo(new BigDecimal("151.00")) == 0));
+            verify(bidRepository, times(2)).save(any(Bid.class));
+        }
+
+        @Test
+        @DisplayName("Should register the bidder's proxy maximum")
+        void shouldRegisterProxyMaximum() {
+            final BidRequest request = new BidRequest(new BigDecimal("150.00"), new BigDecimal("400.00"));
+
+            when(auctionRepository.findByIdWithPessimisticLock(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+
+            bidService.placeBid(auctionId, request, "bidder1");
+
+            verify(proxyBidRepository).save(argThat(proxy ->
+                    proxy.getMaxAmount().compareTo(new BigDecimal("400.00")) == 0 && proxy.getBidder() == bidder));
+            assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("150.00");
+        }
+
+        @Test
+        @DisplayName("Should extend the end time in the same write when the bid lands in the soft-close window")
+        void shouldExtendEndTimeInSoftCloseWindow() {
+            final BidRequest request = new BidRequest(new BigDecimal("150.00"));
+            final LocalDateTime extendedEndTime = auction.getEndTime().plusMinutes(2);
+
+            when(auctionRepository.findByIdWithPessimisticLock(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+            when(softClosePolicy.extendedEndTime(eq(auction.getEndTime()), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(extendedEndTime));
+
+            bidService.placeBid(auctionId, request, "bidder1");
+
+            verify(auctionRepository).save(argThat(saved -> saved.getEndTime().equals(extendedEndTime)));
+        }
+
+        @Test
+        @DisplayName("Should reject a maximum lower than the bid amount")
+        void shouldRejectMaximumBelowAmount() {
+            final BidRequest request = new BidRequest(new BigDecimal("150.00"), new BigDecimal("120.00"));
+
+            assertThatThrownBy(() -> bidService.placeBid(auctionId, request, "bidder1"))
+                    .isInstanceOf(BadRequestException.class);
+            verifyNoInteractions(auctionRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject fractions of a cent before touching the auction")
+        void shouldRejectFractionsOfCents() {
+            final BidRequest request = new BidRequest(new BigDecimal("150.005"));
+
+            assertThatThrownBy(() -> bidService.placeBid(auctionId, request, "bidder1"))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("2 decimal places");
+            verifyNoInteractions(auctionRepository);
+        }
+
         @Test
         @DisplayName("Should throw when auction is CLOSED")
         void shouldThrowWhenAuctionClosed() {
@@ -214,6 +328,190 @@ class BidServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("placeBid() on sealed-bid auctions")
+    class PlaceSealedBidTests {
+
+        @BeforeEach
+        void setUp() {
+            auction.setType(AuctionType.SEALED_SECOND_PRICE);
+            when(auctionRepository.findTypeById(auctionId)).thenReturn(Optional.of(AuctionType.SEALED_SECOND_PRICE));
+        }
+
+        @Test
+        @DisplayName("Should insert the bid under a shared lock without updating the auction")
+        void shouldPlaceSealedBidUnderSharedLock() {
+            final BidRequest request = new BidRequest(new BigDecimal("120.00"));
+
+            when(auctionRepository.findByIdWithSharedLock(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+            when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            final BidResponse response = bidService.placeBid(auctionId, request, "bidder1");
+
+            assertThat(response.amount()).isEqualByComparingTo("120.00");
+            assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("100.00");
+            verify(auctionRepository, never()).findByIdWithPessimisticLock(any());
+            verify(auctionRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should accept a bid below another sealed bid but not below the starting price")
+        void shouldRejectBidBelowStartingPrice() {
+            final BidRequest request = new BidRequest(new BigDecimal("99.99"));
+
+            when(auctionRepository.findByIdWithSharedLock(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+
+            assertThatThrownBy(() -> bidService.placeBid(auctionId, request, "bidder1"))
+                    .isInstanceOf(BidTooLowException.class)
+                    .hasMessageContaining("starting price");
+        }
+
+        @Test
+        @DisplayName("Should reject bids after the end time without closing the auction")
+        void shouldRejectExpiredSealedAuction() {
+            auction.setEndTime(LocalDateTime.now().minusMinutes(1));
+            final BidRequest request = new BidRequest(new BigDecimal("150.00"));
+
+            when(auctionRepository.findByIdWithSharedLock(auctionId)).thenReturn(Optional.of(auction));
+
+            assertThatThrownBy(() -> bidService.placeBid(auctionId, request, "bidder1"))
+                    .isInstanceOf(AuctionClosedException.class);
+            assertThat(auction.getStatus()).isEqualTo(AuctionStatus.OPEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("placeBid() on Dutch auctions")
+    class AcceptDutchPriceTests {
+
+        @BeforeEach
+        void setUp() {
+            // Started 25 minutes ago at 100.00, dropping 5.00 every 10 minutes: current price is 90.00
+            auction.setType(AuctionType.DUTCH);
+            auction.setCreatedAt(LocalDateTime.now().minusMinutes(25));
+            auction.setPriceDecrement(new BigDecimal("5.00"));
+            auction.setDecrementIntervalSeconds(600);
+            auction.setFloorPrice(new BigDecimal("50.00"));
+
+            when(auctionRepository.findTypeById(auctionId)).thenReturn(Optional.of(AuctionType.DUTCH));
+            when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+        }
+
+        @Test
+        @DisplayName("Should sell at the current computed price with a conditional update")
+        void shouldAcceptCurrentPrice() {
+            when(auctionRepository.closeAtPrice(eq(auctionId), eq(new BigDecimal("90.00")), eq(bidder), any())).thenReturn(1);
+            when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            final BidResponse response = bidService.placeBid(auctionId, new BidRequest(new BigDecimal("95.00")), "bidder1");
+
+            assertThat(response.amount()).isEqualByComparingTo("90.00");
+            verify(auctionRepository, never()).findByIdWithPessimisticLock(any());
+            verify(auctionSettlementService).recordSale(eq(auction), eq(bidder), eq(new BigDecimal("90.00")), any());
+        }
+
+        @Test
+        @DisplayName("Should reject when another buyer accepted first")
+        void shouldRejectWhenAlreadySold() {
+            when(auctionRepository.closeAtPrice(eq(auctionId), any(), any(), any())).thenReturn(0);
+
+            assertThatThrownBy(() -> bidService.placeBid(auctionId, new BidRequest(new BigDecimal("90.00")), "bidder1"))
+                    .isInstanceOf(AuctionClosedException.class)
+                    .hasMessageContaining("already been sold");
+            verify(bidRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject an amount below the current price")
+        void shouldRejectAmountBelowPrice() {
+            assertThatThrownBy(() -> bidService.placeBid(auctionId, new BidRequest(new BigDecimal("89.99")), "bidder1"))
+                    .isInstanceOf(BidTooLowException.class);
+            verify(auctionRepository, never()).closeAtPrice(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("placeBid() on multi-unit auctions")
+    class PlaceMultiUnitBidTests {
+
+        private OrderBook book;
+
+        @BeforeEach
+        void setUp() {
+            // Two units, both already taken at 120.00 and 130.00: the clearing price is 120.00
+            auction.setType(AuctionType.MULTI_UNIT);
+            auction.setQuantity(2);
+            book = new OrderBook(2);
+            book.place(UUID.randomUUID(), 12000);
+            book.place(UUID.randomUUID(), 13000);
+
+            when(auctionRepository.findTypeById(auctionId)).thenReturn(Optional.of(AuctionType.MULTI_UNIT));
+            when(auctionRepository.findByIdWithPessimisticLock(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+            when(orderBookService.lockedBook(auction)).thenReturn(book);
+        }
+
+        @Test
+        @DisplayName("Should take a unit and raise the clearing price")
+        void shouldRaiseClearingPrice() {
+            when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            bidService.placeBid(auctionId, new BidRequest(new BigDecimal("140.00")), "bidder1");
+
+            assertThat(auction.getCurrentHighestBid()).isEqualByComparingTo("130.00");
+            assertThat(auction.getHighestBidder()).isEqualTo(bidder);
+            assertThat(book.isWinning(bidderId)).isTrue();
+            verify(auctionRepository).save(auction);
+        }
+
+        @Test
+        @DisplayName("Should reject a bid that does not beat the clearing price")
+        void shouldRejectBidAtClearingPrice() {
+            assertThatThrownBy(() -> bidService.placeBid(auctionId, new BidRequest(new BigDecimal("120.00")), "bidder1"))
+                    .isInstanceOf(BidTooLowException.class)
+                    .hasMessageContaining("clearing price");
+            verify(bidRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getStanding()")
+    class GetStandingTests {
+
+        @Test
+        @DisplayName("Should report the user's standing bid and whether it is winning")
+        void shouldReportStanding() {
+            auction.setType(AuctionType.MULTI_UNIT);
+            auction.setQuantity(2);
+            final OrderBook book = new OrderBook(2);
+            book.place(UUID.randomUUID(), 12000);
+            book.place(bidderId, 15000);
+            book.place(UUID.randomUUID(), 13000);
+
+            when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+            when(userRepository.findByUsername("bidder1")).thenReturn(Optional.of(bidder));
+            when(orderBookService.book(auction)).thenReturn(book);
+
+            final BidStandingResponse response = bidService.getStanding(auctionId, "bidder1");
+
+            assertThat(response.winning()).isTrue();
+            assertThat(response.standingBid()).isEqualByComparingTo("150.00");
+            assertThat(response.clearingPrice()).isEqualByComparingTo("130.00");
+        }
+
+        @Test
+        @DisplayName("Should reject auctions that are not multi-unit")
+        void shouldRejectSingleUnitAuction() {
+            when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+
+            assertThatThrownBy(() -> bidService.getStanding(auctionId, "bidder1"))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getBidsForAuction()")
     class GetBidsTests {
@@ -234,6 +532,50 @@ class BidServiceTest {
             assertThat(result.get(1).amount()).isEqualByComparingTo(new BigDecimal("150.00"));
         }
 
+        @Test
+        @DisplayName("Should hide bids of an open sealed-bid auction")
+        void shouldHideSealedBids() {
+            when(auctionRepository.existsById(auctionId)).thenReturn(true);
+            when(auctionRepository.existsByIdAndStatusAndTypeIn(eq(auctionId), eq(AuctionStatus.OPEN), anyCollection()))
+                    .thenReturn(true);
+
+            assertThat(bidService.getBidsForAuction(auctionId)).isEmpty();
+            verify(bidRepository, never()).findByAuctionIdOrderByAmountDesc(any());
+        }
+
+        @Test
+        @DisplayName("Should read the bids of an archived auction from the archive")
+        void shouldReadArchivedBids() {
+            final BidResponse archived = BidResponse.builder()
+                    .id(UUID.randomUUID())
+                    .amount(new BigDecimal("200.00"))
+                    .bidderUsername("bidder1")
+                    .auctionId(auctionId)
+                    .placedAt(LocalDateTime.now().minusDays(40))
+                    .build();
+            when(auctionRepository.existsById(auctionId)).thenReturn(true);
+            when(auctionRepository.existsByIdAndArchivedBidCountIsNotNull(auctionId)).thenReturn(true);
+            when(bidArchiveStore.read(auctionId)).thenReturn(List.of(archived));
+
+            assertThat(bidService.getBidsForAuction(auctionId)).containsExactly(archived);
+            assertThat(bidService.getBidFieldsForAuction(auctionId, "amount,bidderUsername"))
+                    .containsExactly(Map.of("amount", new BigDecimal("200.00"), "bidderUsername", "bidder1"));
+            verifyNoInteractions(bidRepository);
+        }
+
+        @Test
+        @DisplayName("Should project only the requested bid fields")
+        void shouldProjectRequestedFields() {
+            final Tuple tuple = mock(Tuple.class);
+            when(tuple.get("amount")).thenReturn(new BigDecimal("200.00"));
+            when(auctionRepository.existsById(auctionId)).thenReturn(true);
+            when(bidRepository.findProjectedByAuctionId(auctionId, EnumSet.of(BidField.AMOUNT))).thenReturn(List.of(tuple));
+
+            final List<Map<String, Object>> result = bidService.getBidFieldsForAuction(auctionId, "amount");
+
+            assertThat(result).containsExactly(Map.of("amount", new BigDecimal("200.00")));
+        }
+
         @Test
         @DisplayName("Should throw when auction does not exist")
         void shouldThrowWhenAuctionNotFound() {
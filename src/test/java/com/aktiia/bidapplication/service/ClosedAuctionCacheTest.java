@@ -0,0 +1,137 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.dto.response.AuctionResponse;
+import com.aktiia.bidapplication.model.dto.response.AuctionStatusResponse;
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.service.ClosedAuctionCache.Entry;
+import com.aktiia.bidapplication.service.ClosedAuctionCache.View;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClosedAuctionCacheTest {
+
+    @Mock
+    private AuctionService auctionService;
+
+    @Mock
+    private BidService bidService;
+
+    private ClosedAuctionCache closedAuctionCache;
+
+    private final UUID auctionId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        if (closedAuctionCache != null) {
+            closedAuctionCache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the serialized JSON of a closed auction with an ETag")
+    void shouldKeepClosedAuction() {
+        closedAuctionCache = cache(1 << 20);
+
+        final Optional<Entry> put = closedAuctionCache.put(auctionId, View.AUCTION, auction(auctionId, AuctionStatus.CLOSED));
+
+        assertThat(put).isPresent();
+        assertThat(put.get().etag()).isNotBlank();
+        assertThat(new String(put.get().body())).contains("\"status\":\"CLOSED\"");
+        assertThat(closedAuctionCache.get(auctionId, View.AUCTION)).containsSame(put.get());
+        assertThat(closedAuctionCache.get(auctionId, View.STATUS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only treat views of closed auctions as closed")
+    void shouldRecognizeClosedViews() {
+        assertThat(View.AUCTION.isClosed(auction(auctionId, AuctionStatus.CLOSED))).isTrue();
+        assertThat(View.AUCTION.isClosed(auction(auctionId, AuctionStatus.OPEN))).isFalse();
+        assertThat(View.STATUS.isClosed(AuctionStatusResponse.builder().status(AuctionStatus.CLOSED).build())).isTrue();
+        assertThat(View.STATUS.isClosed(AuctionStatusResponse.builder().status(AuctionStatus.OPEN).build())).isFalse();
+        assertThat(View.BIDS.isClosed(List.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not keep a view larger than the whole cache")
+    void shouldSkipOversizedView() {
+        closedAuctionCache = cache(16);
+
+        assertThat(closedAuctionCache.put(auctionId, View.AUCTION, auction(auctionId, AuctionStatus.CLOSED))).isEmpty();
+        assertThat(closedAuctionCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entries beyond the byte limit")
+    void shouldEvictLeastRecentlyUsed() {
+        closedAuctionCache = cache(600);
+        final UUID second = UUID.randomUUID();
+        final UUID third = UUID.randomUUID();
+
+        closedAuctionCache.put(auctionId, View.AUCTION, auction(auctionId, AuctionStatus.CLOSED));
+        closedAuctionCache.put(second, View.AUCTION, auction(second, AuctionStatus.CLOSED));
+        closedAuctionCache.get(auctionId, View.AUCTION);
+        closedAuctionCache.put(third, View.AUCTION, auction(third, AuctionStatus.CLOSED));
+
+        assertThat(closedAuctionCache.size()).isEqualTo(2);
+        assertThat(closedAuctionCache.get(auctionId, View.AUCTION)).isPresent();
+        assertThat(closedAuctionCache.get(second, View.AUCTION)).isEmpty();
+        assertThat(closedAuctionCache.get(third, View.AUCTION)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should cache every view of an auction once it closes")
+    void shouldFillOnClose() throws InterruptedException {
+        closedAuctionCache = cache(1 << 20);
+        when(auctionService.getAuction(auctionId)).thenReturn(auction(auctionId, AuctionStatus.CLOSED));
+        when(auctionService.getAuctionStatus(auctionId)).thenReturn(AuctionStatusResponse.builder()
+                .auctionId(auctionId)
+                .status(AuctionStatus.CLOSED)
+                .build());
+        when(bidService.getBidsForAuction(auctionId)).thenReturn(List.of(BidResponse.builder()
+                .amount(new BigDecimal("120.00"))
+                .build()));
+
+        closedAuctionCache.onAuctionClosed(new AuctionClosedEvent(auctionId, AuctionType.ENGLISH, UUID.randomUUID(),
+                null, List.of(), null, LocalDateTime.now()));
+
+        final long deadline = System.currentTimeMillis() + 2000;
+        while (closedAuctionCache.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(closedAuctionCache.size()).isEqualTo(3);
+        assertThat(closedAuctionCache.get(auctionId, View.BIDS))
+                .hasValueSatisfying(bids -> assertThat(new String(bids.body())).contains("120.0"));
+    }
+
+    private ClosedAuctionCache cache(final long maxBytes) {
+        return new ClosedAuctionCache(auctionService, bidService, new ObjectMapper().findAndRegisterModules(), maxBytes);
+    }
+
+    private static AuctionResponse auction(final UUID id, final AuctionStatus status) {
+        return AuctionResponse.builder()
+                .id(id)
+                .title("Lamp")
+                .description("Brass table lamp")
+                .status(status)
+                .startingPrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
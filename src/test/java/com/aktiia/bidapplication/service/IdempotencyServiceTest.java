@@ -0,0 +1,211 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.exception.BidTooLowException;
+import com.aktiia.bidapplication.exception.IdempotencyKeyReusedException;
+import com.aktiia.bidapplication.model.dto.request.BidRequest;
+import com.aktiia.bidapplication.model.dto.response.BidResponse;
+import com.aktiia.bidapplication.model.entity.IdempotencyRecord;
+import com.aktiia.bidapplication.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID auctionId = UUID.randomUUID();
+    private final BidRequest request = new BidRequest(new BigDecimal("150.00"));
+
+    private BidResponse bidResponse(final String amount) {
+        return BidResponse.builder()
+                .id(UUID.randomUUID())
+                .amount(new BigDecimal(amount))
+                .bidderUsername("bidder1")
+                .auctionId(auctionId)
+                .placedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should replay the original response for a retried key without placing the bid again")
+    void shouldReplayOriginalResponse() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, false);
+        final AtomicInteger placements = new AtomicInteger();
+        final BidResponse original = bidResponse("150.00");
+
+        final BidResponse first = service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> {
+            placements.incrementAndGet();
+            return original;
+        });
+        final BidResponse retry = service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> {
+            placements.incrementAndGet();
+            return bidResponse("999.00");
+        });
+
+        assertThat(first).isSameAs(original);
+        assertThat(retry).isSameAs(original);
+        assertThat(placements.get()).isEqualTo(1);
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    @Test
+    @DisplayName("Should scope keys per user")
+    void shouldScopeKeysPerUser() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, false);
+
+        service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> bidResponse("150.00"));
+        final BidResponse other = service.placeBidOnce(auctionId, "bidder2", "key-1", request, () -> bidResponse("160.00"));
+
+        assertThat(other.amount()).isEqualByComparingTo("160.00");
+    }
+
+    @Test
+    @DisplayName("Should not remember failed placements")
+    void shouldNotRememberFailures() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, false);
+
+        assertThatThrownBy(() -> service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> {
+            throw new BidTooLowException("too low");
+        })).isInstanceOf(BidTooLowException.class);
+
+        final BidResponse retry = service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> bidResponse("150.00"));
+
+        assertThat(retry.amount()).isEqualByComparingTo("150.00");
+    }
+
+    @Test
+    @DisplayName("Should reject keys that are too long")
+    void shouldRejectLongKeys() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, false);
+
+        assertThatThrownBy(() -> service.placeBidOnce(auctionId, "bidder1", "x".repeat(101), request, () -> bidResponse("1.00")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve a persisted result when enabled")
+    void shouldServePersistedResult() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, true);
+        final UUID bidId = UUID.randomUUID();
+
+        when(idempotencyRecordRepository.findById("bidder1:" + auctionId + ":key-1"))
+                .thenReturn(Optional.of(IdempotencyRecord.builder()
+                        .bidId(bidId)
+                        .auctionId(auctionId)
+                        .amount(new BigDecimal("150.00"))
+                        .bidderUsername("bidder1")
+                        .placedAt(LocalDateTime.now())
+                        .build()));
+
+        final BidResponse response = service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> {
+            throw new AssertionError("Bid must not be placed again");
+        });
+
+        assertThat(response.id()).isEqualTo(bidId);
+        verify(idempotencyRecordRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request")
+    void shouldRejectKeyReusedWithDifferentRequest() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, false);
+
+        service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> bidResponse("150.00"));
+        final BidResponse sameAmount = service.placeBidOnce(auctionId, "bidder1", "key-1",
+                new BidRequest(new BigDecimal("150")), () -> bidResponse("150.00"));
+
+        assertThat(sameAmount.amount()).isEqualByComparingTo("150.00");
+        assertThatThrownBy(() -> service.placeBidOnce(auctionId, "bidder1", "key-1",
+                new BidRequest(new BigDecimal("175.00")), () -> bidResponse("175.00")))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("Should claim the key before placing the bid and record the result in the same transaction")
+    void shouldClaimKeyBeforePlacingBid() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, true);
+        final String storeKey = "bidder1:" + auctionId + ":key-1";
+        final BidResponse placed = bidResponse("150.00");
+
+        final BidResponse response = service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> {
+            verify(idempotencyRecordRepository).claim(eq(storeKey), anyString(), any());
+            return placed;
+        });
+
+        assertThat(response).isSameAs(placed);
+        final InOrder inOrder = inOrder(transactionManager, idempotencyRecordRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(idempotencyRecordRepository).claim(eq(storeKey), anyString(), any());
+        inOrder.verify(idempotencyRecordRepository).complete(storeKey, placed.id(), auctionId, placed.amount(),
+                "bidder1", placed.placedAt());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should replay the result of another node that claimed the key first")
+    void shouldReplayKeyClaimedByAnotherNode() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, true);
+        final String storeKey = "bidder1:" + auctionId + ":key-1";
+        final UUID bidId = UUID.randomUUID();
+
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(idempotencyRecordRepository).claim(eq(storeKey), anyString(), any());
+        when(idempotencyRecordRepository.findById(storeKey))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(IdempotencyRecord.builder()
+                        .bidId(bidId)
+                        .auctionId(auctionId)
+                        .amount(new BigDecimal("150.00"))
+                        .bidderUsername("bidder1")
+                        .placedAt(LocalDateTime.now())
+                        .build()));
+
+        final BidResponse response = service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> {
+            throw new AssertionError("Bid must not be placed on this node");
+        });
+
+        assertThat(response.id()).isEqualTo(bidId);
+        verify(transactionManager).rollback(any());
+        verify(idempotencyRecordRepository, never()).complete(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a persisted key reused with a different request")
+    void shouldRejectPersistedKeyReusedWithDifferentRequest() {
+        final IdempotencyService service = new IdempotencyService(idempotencyRecordRepository, transactionManager, 60_000, 100, true);
+
+        when(idempotencyRecordRepository.findById("bidder1:" + auctionId + ":key-1"))
+                .thenReturn(Optional.of(IdempotencyRecord.builder()
+                        .requestHash("0123456789abcdef0123456789abcdef")
+                        .bidId(UUID.randomUUID())
+                        .build()));
+
+        assertThatThrownBy(() -> service.placeBidOnce(auctionId, "bidder1", "key-1", request, () -> {
+            throw new AssertionError("Bid must not be placed again");
+        })).isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.OrderBook;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.Bid;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.repository.BidRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class OrderBookServiceTest {
+
+    private final BidRepository bidRepository = mock(BidRepository.class);
+    private final OrderBookService orderBookService = new OrderBookService(bidRepository);
+
+    // The bid table, as the repository would see it
+    private final List<Bid> bids = new ArrayList<>();
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        auction = Auction.builder().id(UUID.randomUUID()).type(AuctionType.MULTI_UNIT).quantity(2).build();
+        when(bidRepository.findByAuctionIdOrderByPlacedAtAsc(auction.getId())).thenAnswer(invocation -> List.copyOf(bids));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Inserts a bid and bumps the auction's version, as the locked write of a placement does.
+     */
+    private void insert(final UUID bidderId, final String amount) {
+        bids.add(Bid.builder()
+                .amount(new BigDecimal(amount))
+                .auction(auction)
+                .bidder(User.builder().id(bidderId).build())
+                .build());
+        auction.setOrderBookVersion((long) bids.size());
+    }
+
+    /**
+     * Runs a placement the way BidService does, then completes its transaction.
+     */
+    private void placeAndComplete(final UUID bidderId, final String amount, final int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        final OrderBook book = orderBookService.lockedBook(auction);
+        insert(bidderId, amount);
+        book.place(bidderId, new BigDecimal(amount).movePointRight(2).longValueExact());
+        if (status != TransactionSynchronization.STATUS_COMMITTED) {
+            bids.removeLast();
+            auction.setOrderBookVersion((long) bids.size());
+        }
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("Should keep an uncommitted bid from readers until its transaction commits")
+    void shouldHideUncommittedBid() {
+        placeAndComplete(alice, "120.00", TransactionSynchronization.STATUS_COMMITTED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        final OrderBook locked = orderBookService.lockedBook(auction);
+        locked.place(bob, 13000);
+
+        assertThat(orderBookService.book(auction).isWinning(bob)).isFalse();
+        assertThat(orderBookService.book(auction).isWinning(alice)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drop a book whose placement rolled back")
+    void shouldDropRolledBackBook() {
+        placeAndComplete(alice, "120.00", TransactionSynchronization.STATUS_COMMITTED);
+        placeAndComplete(bob, "130.00", TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        final OrderBook book = orderBookService.book(auction);
+
+        assertThat(book.isWinning(bob)).isFalse();
+        assertThat(book.bidCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a cached book that missed bids placed through another instance")
+    void shouldRebuildStaleBook() {
+        placeAndComplete(alice, "120.00", TransactionSynchronization.STATUS_COMMITTED);
+        verify(bidRepository, times(1)).findByAuctionIdOrderByPlacedAtAsc(auction.getId());
+
+        orderBookService.book(auction);
+        verify(bidRepository, times(1)).findByAuctionIdOrderByPlacedAtAsc(auction.getId());
+
+        insert(bob, "130.00");
+        final OrderBook book = orderBookService.lockedBook(auction);
+
+        assertThat(book.isWinning(bob)).isTrue();
+        assertThat(book.bidCount()).isEqualTo(2);
+        verify(bidRepository, times(2)).findByAuctionIdOrderByPlacedAtAsc(auction.getId());
+    }
+
+    @Test
+    @DisplayName("Should serve reads from the cached book without querying the bids")
+    void shouldServeReadsFromCachedBook() {
+        placeAndComplete(alice, "120.00", TransactionSynchronization.STATUS_COMMITTED);
+        placeAndComplete(bob, "130.00", TransactionSynchronization.STATUS_COMMITTED);
+        clearInvocations(bidRepository);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(orderBookService.book(auction).bidCount()).isEqualTo(2);
+        }
+
+        verifyNoInteractions(bidRepository);
+    }
+}
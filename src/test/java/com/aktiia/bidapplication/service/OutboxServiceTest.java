@@ -0,0 +1,71 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Test
+    @DisplayName("Should tell every winner of a multi-unit auction that they won, and the seller once")
+    @SuppressWarnings("unchecked")
+    void shouldNotifyEveryWinner() {
+        final UUID sellerId = UUID.randomUUID();
+        final List<UUID> winnerIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        outboxService.onAuctionClosed(new AuctionClosedEvent(UUID.randomUUID(), AuctionType.MULTI_UNIT, sellerId,
+                winnerIds.getFirst(), winnerIds, new BigDecimal("120.00"), LocalDateTime.now()));
+
+        final ArgumentCaptor<List<OutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(events.capture());
+        assertThat(events.getValue())
+                .extracting(OutboxEvent::getType, OutboxEvent::getRecipientId)
+                .containsExactly(
+                        tuple(NotificationType.AUCTION_WON, winnerIds.get(0)),
+                        tuple(NotificationType.AUCTION_WON, winnerIds.get(1)),
+                        tuple(NotificationType.AUCTION_WON, winnerIds.get(2)),
+                        tuple(NotificationType.AUCTION_ENDED, sellerId));
+        assertThat(events.getValue()).allSatisfy(event -> assertThat(event.getAmount()).isEqualByComparingTo("120.00"));
+    }
+
+    @Test
+    @DisplayName("Should only tell the seller when nothing was sold")
+    @SuppressWarnings("unchecked")
+    void shouldNotifySellerOfUnsoldAuction() {
+        final UUID sellerId = UUID.randomUUID();
+
+        outboxService.onAuctionClosed(new AuctionClosedEvent(UUID.randomUUID(), AuctionType.ENGLISH, sellerId,
+                null, List.of(), null, LocalDateTime.now()));
+
+        final ArgumentCaptor<List<OutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(events.capture());
+        assertThat(events.getValue()).singleElement()
+                .extracting(OutboxEvent::getType)
+                .isEqualTo(NotificationType.AUCTION_ENDED);
+    }
+}
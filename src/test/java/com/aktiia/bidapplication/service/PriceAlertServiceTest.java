@@ -0,0 +1,228 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.helper.InvertedIndex;
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.model.dto.request.PriceAlertRequest;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.entity.PriceAlert;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import com.aktiia.bidapplication.model.event.AuctionClosedEvent;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.model.event.BidPlacedEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import com.aktiia.bidapplication.repository.PriceAlertRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAlertServiceTest {
+
+    @Mock
+    private PriceAlertRepository priceAlertRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private PriceAlertService priceAlertService;
+
+    private final User user = User.builder().id(UUID.randomUUID()).username("watcher").build();
+    private final UUID auctionId = UUID.randomUUID();
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        auction = Auction.builder()
+                .id(auctionId)
+                .status(AuctionStatus.OPEN)
+                .currentHighestBid(new BigDecimal("100.00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should fire the auction alerts a bid crosses, wherever they were created")
+    void shouldFireWhenBidReachesThreshold() {
+        // Created on another instance: this one never indexed it
+        final PriceAlert alert = auctionAlert("150.00");
+        when(priceAlertRepository.findCrossed(auctionId, new BigDecimal("100.00"), new BigDecimal("140.00")))
+                .thenReturn(List.of());
+        when(priceAlertRepository.findCrossed(auctionId, new BigDecimal("140.00"), new BigDecimal("150.00")))
+                .thenReturn(List.of(alert));
+        when(priceAlertRepository.markTriggered(eq(List.of(alert.getId())), any(LocalDateTime.class))).thenReturn(1);
+
+        priceAlertService.onBidPlaced(bidPlaced("100.00", "140.00"));
+        verifyNoInteractions(outboxEventRepository);
+
+        priceAlertService.onBidPlaced(bidPlaced("140.00", "150.00"));
+        verify(outboxEventRepository).saveAll(argThat((List<OutboxEvent> events) -> events.size() == 1
+                && events.getFirst().getType() == NotificationType.PRICE_ALERT
+                && events.getFirst().getRecipientId().equals(user.getId())));
+    }
+
+    @Test
+    @DisplayName("Should not fire an auction alert that another instance fired first")
+    void shouldNotFireAlertFiredElsewhere() {
+        final PriceAlert alert = auctionAlert("150.00");
+        when(priceAlertRepository.findCrossed(auctionId, new BigDecimal("100.00"), new BigDecimal("200.00")))
+                .thenReturn(List.of(alert));
+
+        priceAlertService.onBidPlaced(bidPlaced("100.00", "200.00"));
+
+        verify(priceAlertRepository).markTriggered(eq(List.of(alert.getId())), any(LocalDateTime.class));
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should delete the alerts a closing auction never reached")
+    void shouldDeleteUnfiredAlertsOnClose() {
+        priceAlertService.onAuctionClosed(new AuctionClosedEvent(auctionId, AuctionType.ENGLISH, UUID.randomUUID(),
+                null, List.of(), null, LocalDateTime.now()));
+
+        verify(priceAlertRepository).deleteUntriggeredByAuctionId(auctionId);
+    }
+
+    @Test
+    @DisplayName("Should reject an auction alert the price has already reached")
+    void shouldRejectReachedThreshold() {
+        when(userRepository.findByUsername("watcher")).thenReturn(Optional.of(user));
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+
+        assertThatThrownBy(() -> priceAlertService.createAlert(
+                PriceAlertRequest.builder().auctionId(auctionId).threshold(new BigDecimal("100.00")).build(), "watcher"))
+                .isInstanceOf(BadRequestException.class);
+        verify(priceAlertRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should require exactly one of auctionId and query")
+    void shouldRequireOneTarget() {
+        assertThatThrownBy(() -> priceAlertService.createAlert(
+                PriceAlertRequest.builder().threshold(BigDecimal.TEN).build(), "watcher"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> priceAlertService.createAlert(
+                PriceAlertRequest.builder().auctionId(auctionId).query("watch").threshold(BigDecimal.TEN).build(), "watcher"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should fire a search alert for a matching auction listed under the threshold")
+    void shouldFireSearchAlertOnMatchingListing() {
+        when(userRepository.findByUsername("watcher")).thenReturn(Optional.of(user));
+        when(priceAlertRepository.save(any(PriceAlert.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        priceAlertService.createAlert(
+                PriceAlertRequest.builder().query("Rolex").threshold(new BigDecimal("500.00")).build(), "watcher");
+        when(priceAlertRepository.markTriggered(anyList(), any(LocalDateTime.class))).thenReturn(1);
+
+        list("Vintage Omega", "600.00");
+        list("Vintage Omega", "300.00");
+        verifyNoInteractions(outboxEventRepository);
+
+        assertThat(list("Vintage rolex submariner", "300.00")).containsExactly(user.getId());
+        verify(outboxEventRepository).saveAll(argThat((List<OutboxEvent> events) -> events.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should fire a search alert once, and only for listings strictly under the threshold")
+    void shouldFireSearchAlertOnceUnderThreshold() {
+        when(userRepository.findByUsername("watcher")).thenReturn(Optional.of(user));
+        when(priceAlertRepository.save(any(PriceAlert.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        priceAlertService.createAlert(
+                PriceAlertRequest.builder().query("sub rolex").threshold(new BigDecimal("500.00")).build(), "watcher");
+        when(priceAlertRepository.markTriggered(anyList(), any(LocalDateTime.class))).thenReturn(1);
+
+        list("Rolex Submariner", "500.00");
+        verifyNoInteractions(outboxEventRepository);
+
+        list("Rolex Submariner", "499.99");
+        list("Rolex Submariner Date", "450.00");
+        verify(outboxEventRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should pick up a search alert created on another instance on refresh")
+    void shouldIndexSearchAlertCreatedElsewhere() {
+        final PriceAlert alert = searchAlert("Rolex", "500.00");
+        when(priceAlertRepository.findActiveSearchAlertsCreatedAfter(any(LocalDateTime.class))).thenReturn(List.of(alert));
+
+        assertThat(list("Rolex Submariner", "300.00")).isEmpty();
+
+        priceAlertService.refreshSearchAlerts();
+        priceAlertService.refreshSearchAlerts();
+        when(priceAlertRepository.markTriggered(eq(List.of(alert.getId())), any(LocalDateTime.class))).thenReturn(1);
+
+        assertThat(list("Rolex Submariner", "300.00")).containsExactly(user.getId());
+        verify(outboxEventRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should drop a search alert that was fired or deleted on another instance")
+    void shouldDropSearchAlertGoneElsewhere() {
+        final PriceAlert alert = searchAlert("Rolex", "500.00");
+        when(priceAlertRepository.findActiveSearchAlerts()).thenReturn(List.of(alert));
+        priceAlertService.loadAlerts();
+
+        assertThat(list("Rolex Submariner", "300.00")).isEmpty();
+        assertThat(list("Rolex Daytona", "300.00")).isEmpty();
+
+        verify(priceAlertRepository, times(1)).markTriggered(anyList(), any(LocalDateTime.class));
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    private PriceAlert auctionAlert(final String threshold) {
+        return withId(PriceAlert.builder().user(user).auctionId(auctionId).threshold(new BigDecimal(threshold)).build());
+    }
+
+    private PriceAlert searchAlert(final String query, final String threshold) {
+        return withId(PriceAlert.builder().user(user).searchQuery(query).threshold(new BigDecimal(threshold)).build());
+    }
+
+    private static PriceAlert withId(final PriceAlert alert) {
+        alert.setId(UUID.randomUUID());
+        return alert;
+    }
+
+    private BidPlacedEvent bidPlaced(final String previous, final String current) {
+        return new BidPlacedEvent(auctionId, UUID.randomUUID(), new BigDecimal(previous), new BigDecimal(current),
+                List.of(), LocalDateTime.now(), LocalDateTime.now().plusHours(1));
+    }
+
+    private Set<UUID> list(final String title, final String startingPrice) {
+        final AuctionCreatedEvent event = new AuctionCreatedEvent(UUID.randomUUID(), title, null, AuctionType.ENGLISH,
+                new BigDecimal(startingPrice), LocalDateTime.now().plusDays(1));
+        return priceAlertService.fireSearchAlerts(event, InvertedIndex.tokenize(title),
+                Money.of(event.startingPrice()).cents());
+    }
+}
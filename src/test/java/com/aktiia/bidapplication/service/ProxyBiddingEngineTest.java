@@ -0,0 +1,84 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.helper.Money;
+import com.aktiia.bidapplication.model.entity.ProxyBid;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.service.ProxyBiddingEngine.AutoBid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProxyBiddingEngineTest {
+
+    private final ProxyBiddingEngine engine = new ProxyBiddingEngine(new BigDecimal("1.00"));
+
+    private final User bidder = User.builder().id(UUID.randomUUID()).username("bidder").build();
+    private final User rival = User.builder().id(UUID.randomUUID()).username("rival").build();
+
+    private ProxyBid rivalProxy(final String maxAmount) {
+        return ProxyBid.builder().bidder(rival).maxAmount(new BigDecimal(maxAmount)).build();
+    }
+
+    private static Money money(final String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+
+    @Test
+    @DisplayName("Rival with a higher maximum outbids the explicit bid by one increment")
+    void rivalOutbidsPlainBid() {
+        final List<AutoBid> result = engine.resolve(bidder, money("150.00"), money("150.00"),
+                rivalProxy("300.00"));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().bidder()).isSameAs(rival);
+        assertThat(result.getFirst().amount()).isEqualTo(money("151.00"));
+    }
+
+    @Test
+    @DisplayName("Bidder's stronger maximum exhausts the rival and leads one increment above it")
+    void strongerMaximumWins() {
+        final List<AutoBid> result = engine.resolve(bidder, money("150.00"), money("500.00"),
+                rivalProxy("300.00"));
+
+        assertThat(result).extracting(AutoBid::bidder).containsExactly(rival, bidder);
+        assertThat(result.get(0).amount()).isEqualTo(money("300.00"));
+        assertThat(result.get(1).amount()).isEqualTo(money("301.00"));
+    }
+
+    @Test
+    @DisplayName("Weaker maximum is pushed to its limit before the rival takes the lead")
+    void weakerMaximumIsExhausted() {
+        final List<AutoBid> result = engine.resolve(bidder, money("150.00"), money("200.00"),
+                rivalProxy("300.00"));
+
+        assertThat(result).extracting(AutoBid::bidder).containsExactly(bidder, rival);
+        assertThat(result.get(0).amount()).isEqualTo(money("200.00"));
+        assertThat(result.get(1).amount()).isEqualTo(money("201.00"));
+    }
+
+    @Test
+    @DisplayName("Equal maximums are won by the existing proxy")
+    void tieGoesToExistingProxy() {
+        final List<AutoBid> result = engine.resolve(bidder, money("150.00"), money("300.00"),
+                rivalProxy("300.00"));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().bidder()).isSameAs(rival);
+        assertThat(result.getFirst().amount()).isEqualTo(money("300.00"));
+    }
+
+    @Test
+    @DisplayName("Winning price never exceeds the winner's maximum")
+    void priceCappedAtMaximum() {
+        final List<AutoBid> result = engine.resolve(bidder, money("150.00"), money("300.50"),
+                rivalProxy("300.00"));
+
+        assertThat(result.getLast().bidder()).isSameAs(bidder);
+        assertThat(result.getLast().amount()).isEqualTo(money("300.50"));
+    }
+}
@@ -0,0 +1,175 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.BadRequestException;
+import com.aktiia.bidapplication.model.dto.request.SavedSearchRequest;
+import com.aktiia.bidapplication.model.entity.OutboxEvent;
+import com.aktiia.bidapplication.model.entity.SavedSearch;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.enums.AuctionType;
+import com.aktiia.bidapplication.model.enums.NotificationType;
+import com.aktiia.bidapplication.model.event.AuctionCreatedEvent;
+import com.aktiia.bidapplication.repository.OutboxEventRepository;
+import com.aktiia.bidapplication.repository.SavedSearchRepository;
+import com.aktiia.bidapplication.repository.SavedSearchRepository.SavedSearchEntry;
+import com.aktiia.bidapplication.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavedSearchServiceTest {
+
+    @Mock
+    private SavedSearchRepository savedSearchRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PriceAlertService priceAlertService;
+
+    private SavedSearchService savedSearchService;
+
+    private final User user = User.builder().id(UUID.randomUUID()).username("buyer").build();
+
+    @BeforeEach
+    void setUp() {
+        savedSearchService = new SavedSearchService(savedSearchRepository, userRepository, outboxEventRepository,
+                priceAlertService, 2);
+    }
+
+    @Test
+    @DisplayName("Should notify a user once for a new auction matching their saved searches")
+    void shouldNotifyMatchingUserOnce() {
+        save("vintage rolex", null);
+        save("rolex", new BigDecimal("500.00"));
+        stubExisting();
+
+        savedSearchService.onAuctionCreated(listed("Vintage Rolex Submariner", "300.00"));
+
+        verify(outboxEventRepository).saveAll(argThat((List<OutboxEvent> events) -> events.size() == 1
+                && events.getFirst().getType() == NotificationType.SAVED_SEARCH_MATCH
+                && events.getFirst().getRecipientId().equals(user.getId())));
+    }
+
+    @Test
+    @DisplayName("Should not send a saved-search match to a user whose search price alert fired for the listing")
+    void shouldSkipUserAlreadyAlerted() {
+        save("rolex", null);
+        when(priceAlertService.fireSearchAlerts(any(), anyList(), anyLong())).thenReturn(Set.of(user.getId()));
+
+        savedSearchService.onAuctionCreated(listed("Vintage Rolex Submariner", "300.00"));
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should not notify when the auction does not match or is over the price limit")
+    void shouldSkipNonMatchingAuction() {
+        save("rolex", new BigDecimal("500.00"));
+
+        savedSearchService.onAuctionCreated(listed("Omega Seamaster", "300.00"));
+        savedSearchService.onAuctionCreated(listed("Rolex Daytona", "900.00"));
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should stop matching a deleted saved search")
+    void shouldForgetDeletedSearch() {
+        final UUID savedSearchId = save("rolex", null);
+        when(savedSearchRepository.findByIdAndUserId(savedSearchId, user.getId()))
+                .thenReturn(Optional.of(SavedSearch.builder().id(savedSearchId).user(user).searchQuery("rolex").build()));
+
+        savedSearchService.deleteSavedSearch(savedSearchId, "buyer");
+        savedSearchService.onAuctionCreated(listed("Rolex Daytona", "300.00"));
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should match a saved search created on another instance once refreshed")
+    void shouldMatchSearchCreatedElsewhere() {
+        final SavedSearchEntry entry = mock(SavedSearchEntry.class);
+        when(entry.getId()).thenReturn(UUID.randomUUID());
+        when(entry.getUserId()).thenReturn(user.getId());
+        when(entry.getSearchQuery()).thenReturn("rolex");
+        when(savedSearchRepository.findEntriesCreatedAfter(any())).thenReturn(List.of(entry));
+        stubExisting();
+
+        savedSearchService.refreshSavedSearches();
+        savedSearchService.onAuctionCreated(listed("Rolex Daytona", "300.00"));
+
+        verify(outboxEventRepository).saveAll(argThat((List<OutboxEvent> events) -> events.size() == 1
+                && events.getFirst().getRecipientId().equals(user.getId())));
+    }
+
+    @Test
+    @DisplayName("Should not notify for a saved search deleted on another instance and should drop it")
+    void shouldDropSearchDeletedElsewhere() {
+        save("rolex", null);
+        when(savedSearchRepository.findExistingIds(any())).thenReturn(Set.of());
+
+        savedSearchService.onAuctionCreated(listed("Rolex Daytona", "300.00"));
+        savedSearchService.onAuctionCreated(listed("Rolex Submariner", "300.00"));
+
+        verify(savedSearchRepository, times(1)).findExistingIds(any());
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a saved search over the per-user limit")
+    void shouldEnforcePerUserLimit() {
+        when(userRepository.findByUsername("buyer")).thenReturn(Optional.of(user));
+        when(savedSearchRepository.countByUserId(user.getId())).thenReturn(2L);
+
+        assertThatThrownBy(() -> savedSearchService.createSavedSearch(
+                SavedSearchRequest.builder().query("rolex").build(), "buyer"))
+                .isInstanceOf(BadRequestException.class);
+        verify(savedSearchRepository, never()).save(any());
+    }
+
+    private UUID save(final String query, final BigDecimal maxPrice) {
+        final UUID id = UUID.randomUUID();
+        when(userRepository.findByUsername("buyer")).thenReturn(Optional.of(user));
+        when(savedSearchRepository.save(any(SavedSearch.class))).thenAnswer(invocation -> {
+            final SavedSearch savedSearch = invocation.getArgument(0);
+            savedSearch.setId(id);
+            return savedSearch;
+        });
+        savedSearchService.createSavedSearch(SavedSearchRequest.builder().query(query).maxPrice(maxPrice).build(), "buyer");
+        return id;
+    }
+
+    private void stubExisting() {
+        when(savedSearchRepository.findExistingIds(any()))
+                .thenAnswer(invocation -> new HashSet<>(invocation.<Collection<UUID>>getArgument(0)));
+    }
+
+    private static AuctionCreatedEvent listed(final String title, final String startingPrice) {
+        return new AuctionCreatedEvent(UUID.randomUUID(), title, null, AuctionType.ENGLISH,
+                new BigDecimal(startingPrice), LocalDateTime.now().plusDays(1));
+    }
+}
@@ -0,0 +1,43 @@
+package com.aktiia.bidapplication.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SoftClosePolicyTest {
+
+    private final SoftClosePolicy policy = new SoftClosePolicy(60, 120);
+    private final LocalDateTime endTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("Should not extend when the bid arrives before the window")
+    void shouldNotExtendBeforeWindow() {
+        assertThat(policy.extendedEndTime(endTime, endTime.minusSeconds(61))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should extend to the bid time plus the extension inside the window")
+    void shouldExtendInsideWindow() {
+        assertThat(policy.extendedEndTime(endTime, endTime.minusSeconds(30)))
+                .contains(endTime.plusSeconds(90));
+    }
+
+    @Test
+    @DisplayName("Should never shorten the auction")
+    void shouldNeverShorten() {
+        final SoftClosePolicy shortExtension = new SoftClosePolicy(60, 10);
+
+        assertThat(shortExtension.extendedEndTime(endTime, endTime.minusSeconds(30))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should be disabled with a zero window")
+    void shouldBeDisabledWithZeroWindow() {
+        final SoftClosePolicy disabled = new SoftClosePolicy(0, 120);
+
+        assertThat(disabled.extendedEndTime(endTime, endTime.minusSeconds(1))).isEmpty();
+    }
+}
@@ -0,0 +1,122 @@
+package com.aktiia.bidapplication.service;
+
+import com.aktiia.bidapplication.exception.AuctionClosedException;
+import com.aktiia.bidapplication.model.dto.response.AuctionChangeResponse;
+import com.aktiia.bidapplication.model.entity.Auction;
+import com.aktiia.bidapplication.model.entity.AuctionChange;
+import com.aktiia.bidapplication.model.entity.User;
+import com.aktiia.bidapplication.model.entity.WatchlistEntry;
+import com.aktiia.bidapplication.model.enums.AuctionChangeType;
+import com.aktiia.bidapplication.model.enums.AuctionStatus;
+import com.aktiia.bidapplication.model.event.AuctionChangesEvent;
+import com.aktiia.bidapplication.repository.AuctionRepository;
+import com.aktiia.bidapplication.repository.UserRepository;
+import com.aktiia.bidapplication.repository.WatchlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WatchlistServiceTest {
+
+    @Mock
+    private WatchlistRepository watchlistRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WatchlistStreamService watchlistStreamService;
+
+    private final WatchlistIndex watchlistIndex = new WatchlistIndex();
+    private WatchlistService watchlistService;
+
+    private final User user = User.builder().id(UUID.randomUUID()).username("watcher").build();
+    private final UUID auctionId = UUID.randomUUID();
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        watchlistService = new WatchlistService(watchlistRepository, auctionRepository, userRepository,
+                watchlistIndex, watchlistStreamService);
+        auction = Auction.builder()
+                .id(auctionId)
+                .status(AuctionStatus.OPEN)
+                .endTime(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should store the watch and add the user to the auction's watcher set")
+    void shouldWatchAuction() {
+        when(userRepository.findByUsername("watcher")).thenReturn(Optional.of(user));
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+
+        watchlistService.watch(auctionId, "watcher");
+
+        verify(watchlistRepository).save(any(WatchlistEntry.class));
+        assertThat(watchlistIndex.isWatching(auctionId, watchlistIndex.userIndex(user.getId()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject watching a closed auction")
+    void shouldRejectClosedAuction() {
+        auction.setStatus(AuctionStatus.CLOSED);
+        when(userRepository.findByUsername("watcher")).thenReturn(Optional.of(user));
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+
+        assertThatThrownBy(() -> watchlistService.watch(auctionId, "watcher"))
+                .isInstanceOf(AuctionClosedException.class);
+        verify(watchlistRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should push the new price of a bid from the change feed to the stream layer")
+    void shouldPublishPriceChange() {
+        watchlistService.onFeedChanges(new AuctionChangesEvent(List.of(
+                AuctionChange.builder().sequence(1L).change(AuctionChangeType.BID_PLACED).auctionId(auctionId)
+                        .currentPrice(new BigDecimal("120.00")).changedAt(LocalDateTime.now()).build(),
+                AuctionChange.builder().sequence(2L).change(AuctionChangeType.UPDATED).auctionId(auctionId)
+                        .title("Renamed").build()), false));
+
+        verify(watchlistStreamService).publish(argThat((AuctionChangeResponse change) ->
+                change.auctionId().equals(auctionId) && change.currentPrice().compareTo(new BigDecimal("120.00")) == 0
+                        && change.status() == AuctionStatus.OPEN));
+        verifyNoMoreInteractions(watchlistStreamService);
+    }
+
+    @Test
+    @DisplayName("Should follow watches made through another instance once the user subscribes")
+    void shouldLoadWatchesOnSubscribe() {
+        final Auction closed = Auction.builder().id(UUID.randomUUID()).status(AuctionStatus.CLOSED).build();
+        when(userRepository.findByUsername("watcher")).thenReturn(Optional.of(user));
+        when(watchlistRepository.findByUserIdWithAuction(user.getId())).thenReturn(List.of(
+                WatchlistEntry.builder().user(user).auction(auction).build(),
+                WatchlistEntry.builder().user(user).auction(closed).build()));
+
+        watchlistService.subscribe("watcher");
+
+        final int userIndex = watchlistIndex.userIndex(user.getId());
+        assertThat(watchlistIndex.isWatching(auctionId, userIndex)).isTrue();
+        assertThat(watchlistIndex.isWatching(closed.getId(), userIndex)).isFalse();
+        verify(watchlistStreamService).subscribe(userIndex);
+    }
+}